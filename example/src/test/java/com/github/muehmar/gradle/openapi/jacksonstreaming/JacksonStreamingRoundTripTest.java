@@ -0,0 +1,165 @@
+package com.github.muehmar.gradle.openapi.jacksonstreaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.muehmar.gradle.openapi.util.MapperFactory;
+import com.github.muehmar.openapi.util.Tristate;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Compares the DTO's generated with {@code jackson-streaming} against the DTO's generated from the
+ * same specification with {@code jackson}, i.e. the streaming serializers and deserializers must
+ * produce the same JSON and the same DTO state as the reflective path.
+ */
+class JacksonStreamingRoundTripTest {
+  private static final ObjectMapper MAPPER = MapperFactory.mapper();
+
+  private static final Class<
+          com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.PersonDto>
+      REFLECTIVE_PERSON =
+          com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.PersonDto.class;
+  private static final Class<
+          com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.SettingsDto>
+      REFLECTIVE_SETTINGS =
+          com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.SettingsDto.class;
+
+  @Test
+  void annotations_when_streamingDtos_then_streamingSerializerAndDeserializerUsed() {
+    assertEquals(
+        PersonDto.JacksonSerializer.class,
+        PersonDto.class.getAnnotation(JsonSerialize.class).using());
+    assertEquals(
+        PersonDto.JacksonDeserializer.class,
+        PersonDto.class.getAnnotation(JsonDeserialize.class).using());
+    assertEquals(
+        AddressDto.JacksonSerializer.class,
+        AddressDto.class.getAnnotation(JsonSerialize.class).using());
+  }
+
+  @Test
+  void annotations_when_reflectiveDtos_then_builderUsedForDeserialization() {
+    assertEquals(
+        com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.PersonDto.Builder.class,
+        REFLECTIVE_PERSON.getAnnotation(JsonDeserialize.class).builder());
+    assertFalse(
+        Arrays.stream(REFLECTIVE_PERSON.getDeclaredClasses())
+            .anyMatch(c -> c.getSimpleName().equals("JacksonSerializer")));
+  }
+
+  public static Stream<String> personJsons() {
+    return Stream.of(
+        "{\"id\":\"id-1\",\"nickname\":null}",
+        "{\"id\":\"id-1\",\"nickname\":\"Dexter\"}",
+        "{\"id\":\"id-1\",\"nickname\":\"Dexter\",\"email\":\"dexter@mail.ch\",\"phone\":null}",
+        "{\"id\":\"id-1\",\"nickname\":\"Dexter\",\"phone\":\"0041791234567\",\"age\":42}",
+        "{\"id\":\"id-1\",\"nickname\":null,\"tags\":[\"a\",\"b\"],"
+            + "\"address\":{\"street\":\"Main\",\"zip\":8000}}",
+        "{\"id\":\"id-1\",\"nickname\":\"Dexter\",\"count\":5,\"level\":null}",
+        "{\"id\":\"id-1\",\"nickname\":\"Dexter\","
+            + "\"address\":{\"street\":\"Main\",\"floor\":3,\"remark\":{\"door\":\"left\"}}}",
+        "{\"id\":\"id-1\"}",
+        "{\"nickname\":\"Dexter\"}");
+  }
+
+  @ParameterizedTest
+  @MethodSource("personJsons")
+  void readValue_when_person_then_sameJsonAndValidityAsReflectiveDto(String json)
+      throws JsonProcessingException {
+    final PersonDto streamingDto = MAPPER.readValue(json, PersonDto.class);
+    final com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.PersonDto reflectiveDto =
+        MAPPER.readValue(json, REFLECTIVE_PERSON);
+
+    assertEquals(toTree(reflectiveDto), toTree(streamingDto));
+    assertEquals(reflectiveDto.isValid(), streamingDto.isValid());
+  }
+
+  @ParameterizedTest
+  @MethodSource("personJsons")
+  void writeValueAsString_when_streamingOutputReadByReflectiveDto_then_sameJson(String json)
+      throws JsonProcessingException {
+    final PersonDto streamingDto = MAPPER.readValue(json, PersonDto.class);
+    final String streamingJson = MAPPER.writeValueAsString(streamingDto);
+
+    final com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.PersonDto reflectiveDto =
+        MAPPER.readValue(streamingJson, REFLECTIVE_PERSON);
+
+    assertEquals(MAPPER.readTree(streamingJson), toTree(reflectiveDto));
+    assertEquals(streamingDto.getPhoneTristate(), reflectiveDto.getPhoneTristate());
+  }
+
+  @Test
+  void readValue_when_nullableMembers_then_tristateAndPresenceFlagsRestored()
+      throws JsonProcessingException {
+    final PersonDto absentPhone =
+        MAPPER.readValue("{\"id\":\"id-1\",\"nickname\":null}", PersonDto.class);
+    final PersonDto nullPhone =
+        MAPPER.readValue("{\"id\":\"id-1\",\"nickname\":null,\"phone\":null}", PersonDto.class);
+    final PersonDto missingNickname = MAPPER.readValue("{\"id\":\"id-1\"}", PersonDto.class);
+
+    assertEquals(Tristate.ofAbsent(), absentPhone.getPhoneTristate());
+    assertEquals(Tristate.ofNull(), nullPhone.getPhoneTristate());
+    assertEquals(Optional.empty(), absentPhone.getNicknameOpt());
+    assertTrue(absentPhone.isValid());
+    assertFalse(missingNickname.isValid());
+  }
+
+  @Test
+  void writeValueAsString_when_builtPerson_then_sameJsonAsReflectiveDto()
+      throws JsonProcessingException {
+    final PersonDto dto =
+        PersonDto.builder()
+            .setId("id-1")
+            .setNickname(Optional.empty())
+            .andOptionals()
+            .setPhone(Tristate.ofNull())
+            .setTags(Arrays.asList("a", "b"))
+            .setAddress(
+                AddressDto.builder()
+                    .setStreet("Main")
+                    .andOptionals()
+                    .addAdditionalProperty("floor", 3)
+                    .build())
+            .addAdditionalProperty("count", 5)
+            .build();
+
+    final String json = MAPPER.writeValueAsString(dto);
+
+    assertEquals(
+        MAPPER.readTree(
+            "{\"id\":\"id-1\",\"nickname\":null,\"phone\":null,\"tags\":[\"a\",\"b\"],"
+                + "\"address\":{\"street\":\"Main\",\"floor\":3},\"count\":5}"),
+        MAPPER.readTree(json));
+    assertEquals(toTree(MAPPER.readValue(json, REFLECTIVE_PERSON)), MAPPER.readTree(json));
+    assertEquals(dto, MAPPER.readValue(json, PersonDto.class));
+  }
+
+  @Test
+  void readValue_when_unknownFieldAndNoAdditionalPropertiesAllowed_then_invalidLikeReflectiveDto()
+      throws JsonProcessingException {
+    final String json = "{\"theme\":\"dark\",\"language\":\"de\"}";
+
+    final SettingsDto streamingDto = MAPPER.readValue(json, SettingsDto.class);
+    final com.github.muehmar.gradle.openapi.jacksonstreaming.reflective.SettingsDto reflectiveDto =
+        MAPPER.readValue(json, REFLECTIVE_SETTINGS);
+
+    assertFalse(streamingDto.isValid());
+    assertFalse(reflectiveDto.isValid());
+    assertEquals(toTree(reflectiveDto), toTree(streamingDto));
+  }
+
+  private static JsonNode toTree(Object dto) throws JsonProcessingException {
+    return MAPPER.readTree(MAPPER.writeValueAsString(dto));
+  }
+}
@@ -0,0 +1,122 @@
+package com.github.muehmar.gradle.openapi.nullableitemslist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.muehmar.openapi.util.NullableItemsList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import org.junit.jupiter.api.Test;
+
+class NullableItemsListViewTest {
+
+  @Test
+  void getIds_when_passedBackToBuilder_then_equalDto() {
+    final UserDto userDto =
+        UserDto.fullUserDtoBuilder()
+            .setIds_(Arrays.asList(Optional.of("id-1234"), Optional.empty()))
+            .setUsernames(Arrays.asList("user-1234", null))
+            .build();
+
+    final UserDto copiedDto =
+        UserDto.fullUserDtoBuilder()
+            .setIds_(userDto.getIds())
+            .setUsernames_(userDto.getUsernamesOpt())
+            .build();
+
+    assertEquals(userDto, copiedDto);
+    assertEquals(userDto.hashCode(), copiedDto.hashCode());
+    assertEquals(Arrays.asList(Optional.of("id-1234"), Optional.empty()), copiedDto.getIds());
+  }
+
+  @Test
+  void setIds_when_passedListModifiedAfterwards_then_dtoUnchanged() {
+    final List<Optional<String>> ids = new ArrayList<>();
+    ids.add(Optional.of("id-1234"));
+
+    final UserDto userDto =
+        UserDto.fullUserDtoBuilder().setIds_(ids).setUsernames(Optional.empty()).build();
+    final int hashCode = userDto.hashCode();
+
+    ids.add(Optional.of("id-5678"));
+    ids.set(0, Optional.empty());
+
+    assertEquals(Arrays.asList(Optional.of("id-1234")), userDto.getIds());
+    assertEquals(hashCode, userDto.hashCode());
+  }
+
+  @Test
+  void withIds_when_passedListModifiedAfterwards_then_dtoUnchanged() {
+    final List<Optional<String>> ids = new ArrayList<>();
+    ids.add(Optional.of("id-1234"));
+
+    final UserDto userDto =
+        UserDto.fullUserDtoBuilder()
+            .setIds(Arrays.asList("id-0000"))
+            .setUsernames(Optional.empty())
+            .build()
+            .withIds_(ids);
+
+    ids.set(0, Optional.empty());
+
+    assertEquals(Arrays.asList(Optional.of("id-1234")), userDto.getIds());
+  }
+
+  @Test
+  void setIds_when_optionalItemIsNull_then_nullPointerException() {
+    final List<Optional<String>> ids = Arrays.asList(Optional.of("id-1234"), null);
+
+    assertThrows(NullPointerException.class, () -> UserDto.fullUserDtoBuilder().setIds_(ids));
+  }
+
+  @Test
+  void getIds_when_modified_then_unsupportedOperationException() {
+    final UserDto userDto =
+        UserDto.fullUserDtoBuilder()
+            .setIds(Arrays.asList("id-1234"))
+            .setUsernames(Optional.empty())
+            .build();
+
+    final List<Optional<String>> ids = userDto.getIds();
+
+    assertThrows(UnsupportedOperationException.class, () -> ids.add(Optional.empty()));
+    assertThrows(UnsupportedOperationException.class, () -> ids.set(0, Optional.empty()));
+    assertThrows(UnsupportedOperationException.class, () -> ids.remove(0));
+    assertEquals(Arrays.asList(Optional.of("id-1234")), userDto.getIds());
+  }
+
+  @Test
+  void wrap_when_randomAccessList_then_randomAccessView() {
+    final List<Optional<String>> wrapped =
+        NullableItemsList.wrap(new ArrayList<>(Arrays.asList("id-1234", null)));
+
+    assertTrue(wrapped instanceof RandomAccess);
+    assertEquals(Arrays.asList(Optional.of("id-1234"), Optional.empty()), wrapped);
+  }
+
+  @Test
+  void wrap_when_sequentialAccessList_then_noRandomAccessView() {
+    final List<Optional<String>> wrapped =
+        NullableItemsList.wrap(new LinkedList<>(Arrays.asList("id-1234", null)));
+
+    assertFalse(wrapped instanceof RandomAccess);
+    assertEquals(Arrays.asList(Optional.of("id-1234"), Optional.empty()), wrapped);
+  }
+
+  @Test
+  void unwrap_when_wrappedList_then_modifiableCopy() {
+    final List<String> list = new ArrayList<>(Arrays.asList("id-1234", null));
+
+    final List<String> unwrapped = NullableItemsList.unwrap(NullableItemsList.wrap(list));
+    unwrapped.add("id-5678");
+
+    assertEquals(Arrays.asList("id-1234", null), list);
+    assertEquals(Arrays.asList("id-1234", null, "id-5678"), unwrapped);
+  }
+}
@@ -0,0 +1,160 @@
+package com.github.muehmar.gradle.openapi.validatemethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.muehmar.gradle.openapi.util.MapperFactory;
+import com.github.muehmar.openapi.util.ValidationResult;
+import com.github.muehmar.openapi.util.ValidationResult.Violation;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class ValidateMethodTest {
+  private static final ObjectMapper MAPPER = MapperFactory.mapper();
+
+  @Test
+  void validate_when_validOrder_then_noViolations() throws JsonProcessingException {
+    final OrderDto dto =
+        MAPPER.readValue(
+            "{\"id\":\"order-1\",\"items\":[{\"name\":\"apple\",\"amount\":2}],"
+                + "\"customer\":{\"name\":\"Dexter\",\"address\":{\"street\":\"Main\"}},"
+                + "\"notes\":{\"door\":\"left\"},\"extra\":{\"name\":\"pear\"}}",
+            OrderDto.class);
+
+    final ValidationResult result = dto.validate();
+
+    assertTrue(result.isValid());
+    assertEquals(Collections.emptyList(), result.getViolations());
+    assertTrue(dto.isValid());
+  }
+
+  @Test
+  void validate_when_invalidItemInList_then_pathWithIndex() throws JsonProcessingException {
+    final OrderDto dto =
+        MAPPER.readValue(
+            "{\"id\":\"order-1\",\"items\":[{\"name\":\"apple\"},{\"name\":\"pear\"},"
+                + "{\"name\":\"x\",\"amount\":0}]}",
+            OrderDto.class);
+
+    final ValidationResult result = dto.validate();
+
+    assertEquals(
+        Arrays.asList(
+            new Violation("items[2].name", "size", "size must be greater than or equal to 2"),
+            new Violation("items[2].amount", "min", "must be greater than or equal to 1")),
+        result.getViolations());
+    assertFalse(dto.isValid());
+  }
+
+  @Test
+  void validate_when_invalidMapValuesAndAdditionalProperty_then_pathWithMapKeys()
+      throws JsonProcessingException {
+    final OrderDto dto =
+        MAPPER.readValue(
+            "{\"id\":\"order-1\",\"items\":[],\"notes\":{\"door\":\"left side\"},"
+                + "\"extra\":{\"name\":\"x\"}}",
+            OrderDto.class);
+
+    final ValidationResult result = dto.validate();
+
+    assertEquals(
+        Arrays.asList(
+            new Violation("notes.door", "size", "size must be less than or equal to 5"),
+            new Violation("extra.name", "size", "size must be greater than or equal to 2")),
+        result.getViolations());
+  }
+
+  @Test
+  void validate_when_invalidNestedDto_then_pathOfNestedProperty() throws JsonProcessingException {
+    final OrderDto dto =
+        MAPPER.readValue(
+            "{\"id\":\"order-1\",\"items\":[],"
+                + "\"customer\":{\"name\":\"Dexter\",\"address\":{\"street\":\"M\"}}}",
+            OrderDto.class);
+
+    final ValidationResult result = dto.validate();
+
+    assertEquals(
+        Collections.singletonList(
+            new Violation(
+                "customer.address.street", "size", "size must be greater than or equal to 2")),
+        result.getViolations());
+  }
+
+  @Test
+  void validate_when_collectAll_then_allViolationsReported() throws JsonProcessingException {
+    final OrderDto dto =
+        MAPPER.readValue("{\"id\":\"o\",\"items\":[{\"name\":\"x\"}]}", OrderDto.class);
+
+    final ValidationResult result = dto.validate(ValidationResult.collectAll());
+
+    assertEquals(
+        Arrays.asList(
+            new Violation("id", "size", "size must be greater than or equal to 3"),
+            new Violation("items[0].name", "size", "size must be greater than or equal to 2")),
+        result.getViolations());
+  }
+
+  @Test
+  void validate_when_failFast_then_onlyFirstViolationReported() throws JsonProcessingException {
+    final OrderDto dto =
+        MAPPER.readValue("{\"id\":\"o\",\"items\":[{\"name\":\"x\"}]}", OrderDto.class);
+
+    final ValidationResult result = dto.validate(ValidationResult.failFast());
+
+    assertEquals(
+        Collections.singletonList(
+            new Violation("id", "size", "size must be greater than or equal to 3")),
+        result.getViolations());
+    assertFalse(result.isValid());
+  }
+
+  @Test
+  void validate_when_missingRequiredProperty_then_notNullViolation()
+      throws JsonProcessingException {
+    final OrderDto dto = MAPPER.readValue("{\"id\":\"order-1\"}", OrderDto.class);
+
+    final ValidationResult result = dto.validate();
+
+    assertEquals(
+        Collections.singletonList(new Violation("items", "notNull", "must not be null")),
+        result.getViolations());
+  }
+
+  @Test
+  void validate_when_allOfDtoInvalid_then_violationsOfAllOfMembersDelegated()
+      throws JsonProcessingException {
+    final VipCustomerDto dto =
+        MAPPER.readValue(
+            "{\"name\":\"Dexter Morgan\",\"level\":5,\"address\":{\"street\":\"M\"}}",
+            VipCustomerDto.class);
+
+    final ValidationResult result = dto.validate();
+
+    assertEquals(
+        Arrays.asList(
+            new Violation("name", "size", "size must be less than or equal to 10"),
+            new Violation("address.street", "size", "size must be greater than or equal to 2"),
+            new Violation("level", "max", "must be less than or equal to 3")),
+        result.getViolations());
+    assertFalse(dto.isValid());
+  }
+
+  @Test
+  void validate_when_allOfDtoInvalidAndFailFast_then_onlyFirstViolationOfAllOfMember()
+      throws JsonProcessingException {
+    final VipCustomerDto dto =
+        MAPPER.readValue("{\"name\":\"Dexter Morgan\",\"level\":5}", VipCustomerDto.class);
+
+    final ValidationResult result = dto.validate(ValidationResult.failFast());
+
+    assertEquals(
+        Collections.singletonList(
+            new Violation("name", "size", "size must be less than or equal to 10")),
+        result.getViolations());
+  }
+}
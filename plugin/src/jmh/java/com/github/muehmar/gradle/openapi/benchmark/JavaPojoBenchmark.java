@@ -0,0 +1,73 @@
+package com.github.muehmar.gradle.openapi.benchmark;
+
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.MAIN_DIRECTORY;
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.SPECIFICATION;
+
+import ch.bluecare.commons.data.NonEmptyList;
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.JavaPojoGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojoWrapResult;
+import com.github.muehmar.gradle.openapi.generator.mapper.SpecificationMapperImpl;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SwaggerSpecificationParser;
+import com.github.muehmar.gradle.openapi.generator.mapper.resolver.MapResultResolverImpl;
+import com.github.muehmar.gradle.openapi.generator.model.Pojo;
+import com.github.muehmar.gradle.openapi.generator.model.pojo.ObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.generator.settings.TestPojoSettings;
+import com.github.muehmar.gradle.openapi.generator.settings.TypeMappings;
+import com.github.muehmar.gradle.openapi.writer.GeneratedFile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the wrapping of the resolved pojos and the generation of the java classes. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JavaPojoBenchmark {
+  @Param({"100", "1000", "10000"})
+  private int schemaCount;
+
+  @Param({"FLAT", "ALL_OF_CHAIN", "WIDE_ONE_OF"})
+  private SyntheticSpecification shape;
+
+  private final JavaPojoGenerator generator = new JavaPojoGenerator();
+  private final PojoSettings settings = TestPojoSettings.defaultTestSettings();
+  private PList<Pojo> pojos;
+  private PList<ObjectPojo> objectPojos;
+
+  @Setup
+  public void setup() {
+    final SyntheticSpecificationReader reader =
+        new SyntheticSpecificationReader(shape.create(schemaCount));
+    pojos =
+        SpecificationMapperImpl.create(
+                new MapResultResolverImpl(), new SwaggerSpecificationParser(reader, "Dto"))
+            .map(MAIN_DIRECTORY, SPECIFICATION)
+            .getPojos();
+    objectPojos = pojos.flatMapOptional(Pojo::asObjectPojo);
+  }
+
+  @Benchmark
+  public PList<JavaPojoWrapResult> wrap() {
+    return objectPojos.map(pojo -> JavaObjectPojo.wrap(pojo, TypeMappings.empty()));
+  }
+
+  @Benchmark
+  public PList<NonEmptyList<GeneratedFile>> generatePojo() {
+    return pojos.map(pojo -> generator.generatePojo(pojo, settings));
+  }
+}
@@ -0,0 +1,65 @@
+package com.github.muehmar.gradle.openapi.benchmark;
+
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.MAIN_DIRECTORY;
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.SPECIFICATION;
+
+import com.github.muehmar.gradle.openapi.generator.mapper.MapResult;
+import com.github.muehmar.gradle.openapi.generator.mapper.SpecificationMapperImpl;
+import com.github.muehmar.gradle.openapi.generator.mapper.UnresolvedMapResult;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SwaggerSpecificationParser;
+import com.github.muehmar.gradle.openapi.generator.mapper.resolver.MapResultResolver;
+import com.github.muehmar.gradle.openapi.generator.mapper.resolver.MapResultResolverImpl;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the resolving of the mapped schemas only. The unresolved result is captured once during
+ * the setup by mapping the synthetic specification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MapResultResolverBenchmark {
+  @Param({"100", "1000", "5000", "10000"})
+  private int schemaCount;
+
+  @Param({"FLAT", "ALL_OF_CHAIN", "WIDE_ONE_OF"})
+  private SyntheticSpecification shape;
+
+  private final MapResultResolver resolver = MapResultResolverImpl.create();
+  private UnresolvedMapResult unresolvedMapResult;
+
+  @Setup
+  public void setup() {
+    final SyntheticSpecificationReader reader =
+        new SyntheticSpecificationReader(shape.create(schemaCount));
+    final AtomicReference<UnresolvedMapResult> capturedResult = new AtomicReference<>();
+    final MapResultResolver capturingResolver =
+        result -> {
+          capturedResult.set(result);
+          return resolver.resolve(result);
+        };
+    SpecificationMapperImpl.create(capturingResolver, new SwaggerSpecificationParser(reader, "Dto"))
+        .map(MAIN_DIRECTORY, SPECIFICATION);
+    unresolvedMapResult = capturedResult.get();
+  }
+
+  @Benchmark
+  public MapResult resolve() {
+    return resolver.resolve(unresolvedMapResult);
+  }
+}
@@ -0,0 +1,53 @@
+package com.github.muehmar.gradle.openapi.benchmark;
+
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.MAIN_DIRECTORY;
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.SPECIFICATION;
+
+import com.github.muehmar.gradle.openapi.generator.mapper.MapResult;
+import com.github.muehmar.gradle.openapi.generator.mapper.SpecificationMapper;
+import com.github.muehmar.gradle.openapi.generator.mapper.SpecificationMapperImpl;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SwaggerSpecificationParser;
+import com.github.muehmar.gradle.openapi.generator.mapper.resolver.MapResultResolverImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the complete mapping, i.e. parsing, mapping and resolving of the specification. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SpecificationMapperBenchmark {
+  @Param({"100", "1000", "10000"})
+  private int schemaCount;
+
+  @Param({"FLAT", "ALL_OF_CHAIN", "WIDE_ONE_OF"})
+  private SyntheticSpecification shape;
+
+  private SpecificationMapper mapper;
+
+  @Setup
+  public void setup() {
+    final SyntheticSpecificationReader reader =
+        new SyntheticSpecificationReader(shape.create(schemaCount));
+    mapper =
+        SpecificationMapperImpl.create(
+            new MapResultResolverImpl(), new SwaggerSpecificationParser(reader, "Dto"));
+  }
+
+  @Benchmark
+  public MapResult map() {
+    return mapper.map(MAIN_DIRECTORY, SPECIFICATION);
+  }
+}
@@ -0,0 +1,58 @@
+package com.github.muehmar.gradle.openapi.benchmark;
+
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.MAIN_DIRECTORY;
+import static com.github.muehmar.gradle.openapi.benchmark.SyntheticSpecificationReader.SPECIFICATION;
+
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.ComponentsOnlySpecificationParser;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.ParsedSpecificationCache;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SpecificationParser;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SwaggerSpecificationParser;
+import com.github.muehmar.gradle.openapi.generator.model.ParsedSpecification;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SpecificationParserBenchmark {
+  @Param({"100", "1000", "10000"})
+  private int schemaCount;
+
+  @Param({"FLAT", "ALL_OF_CHAIN", "WIDE_ONE_OF"})
+  private SyntheticSpecification shape;
+
+  private SpecificationParser swaggerParser;
+  private SpecificationParser componentsOnlyParser;
+
+  @Setup
+  public void setup() {
+    final SyntheticSpecificationReader reader =
+        new SyntheticSpecificationReader(shape.create(schemaCount));
+    swaggerParser = new SwaggerSpecificationParser(reader, "Dto");
+    componentsOnlyParser =
+        new ComponentsOnlySpecificationParser(reader, "Dto", ParsedSpecificationCache.noCache());
+  }
+
+  @Benchmark
+  public ParsedSpecification swaggerParser() {
+    return swaggerParser.parse(MAIN_DIRECTORY, SPECIFICATION);
+  }
+
+  @Benchmark
+  public ParsedSpecification componentsOnlyParser() {
+    return componentsOnlyParser.parse(MAIN_DIRECTORY, SPECIFICATION);
+  }
+}
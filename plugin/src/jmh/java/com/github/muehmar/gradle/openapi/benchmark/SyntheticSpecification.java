@@ -0,0 +1,116 @@
+package com.github.muehmar.gradle.openapi.benchmark;
+
+/**
+ * Generates synthetic specifications with a configurable number of schemas. The shape defines how
+ * the schemas reference each other, which allows to measure the scaling of the different stages of
+ * the generation for typical structures of real specifications.
+ */
+public enum SyntheticSpecification {
+  /** Object schemas with a few properties, each referencing the previous schema. */
+  FLAT {
+    @Override
+    void appendSchema(StringBuilder sb, int index) {
+      appendObjectSchema(sb, index, index > 0);
+    }
+  },
+
+  /** Object schemas composed with allOf, forming chains of {@link #CHAIN_DEPTH} schemas. */
+  ALL_OF_CHAIN {
+    @Override
+    void appendSchema(StringBuilder sb, int index) {
+      if (index % CHAIN_DEPTH == 0) {
+        appendObjectSchema(sb, index, false);
+        return;
+      }
+      sb.append("    Schema").append(index).append(":\n");
+      sb.append("      allOf:\n");
+      sb.append("        - $ref: '#/components/schemas/Schema").append(index - 1).append("'\n");
+      sb.append("        - type: object\n");
+      sb.append("          required:\n");
+      sb.append("            - field").append(index).append("\n");
+      sb.append("          properties:\n");
+      sb.append("            field").append(index).append(":\n");
+      sb.append("              type: string\n");
+    }
+  },
+
+  /** Object schemas where every {@link #ONE_OF_WIDTH}th schema is a oneOf of the previous ones. */
+  WIDE_ONE_OF {
+    @Override
+    void appendSchema(StringBuilder sb, int index) {
+      if (index % ONE_OF_WIDTH != ONE_OF_WIDTH - 1) {
+        appendObjectSchema(sb, index, false);
+        return;
+      }
+      sb.append("    Schema").append(index).append(":\n");
+      sb.append("      oneOf:\n");
+      for (int i = index - ONE_OF_WIDTH + 1; i < index; i++) {
+        sb.append("        - $ref: '#/components/schemas/Schema").append(i).append("'\n");
+      }
+    }
+  };
+
+  private static final int CHAIN_DEPTH = 20;
+  private static final int ONE_OF_WIDTH = 50;
+  private static final int SCHEMAS_PER_PATH = 10;
+
+  abstract void appendSchema(StringBuilder sb, int index);
+
+  /** Creates the specification in YAML format with the given number of schemas. */
+  public String create(int schemaCount) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("openapi: \"3.0.1\"\n");
+    sb.append("info:\n");
+    sb.append("  title: Synthetic ").append(name()).append("\n");
+    sb.append("  version: 1.0.0\n");
+    sb.append("paths:\n");
+    for (int i = 0; i < schemaCount; i += SCHEMAS_PER_PATH) {
+      appendPath(sb, i);
+    }
+    sb.append("components:\n");
+    sb.append("  schemas:\n");
+    for (int i = 0; i < schemaCount; i++) {
+      appendSchema(sb, i);
+    }
+    return sb.toString();
+  }
+
+  private static void appendPath(StringBuilder sb, int index) {
+    sb.append("  /schemas/").append(index).append(":\n");
+    sb.append("    get:\n");
+    sb.append("      responses:\n");
+    sb.append("        '200':\n");
+    sb.append("          description: OK\n");
+    sb.append("          content:\n");
+    sb.append("            application/json:\n");
+    sb.append("              schema:\n");
+    sb.append("                $ref: '#/components/schemas/Schema").append(index).append("'\n");
+  }
+
+  private static void appendObjectSchema(StringBuilder sb, int index, boolean withReference) {
+    sb.append("    Schema").append(index).append(":\n");
+    sb.append("      type: object\n");
+    sb.append("      required:\n");
+    sb.append("        - id\n");
+    sb.append("      properties:\n");
+    sb.append("        id:\n");
+    sb.append("          type: string\n");
+    sb.append("          pattern: '[A-Z]{3}[0-9]+'\n");
+    sb.append("        count:\n");
+    sb.append("          type: integer\n");
+    sb.append("          minimum: 0\n");
+    sb.append("          maximum: 1000\n");
+    sb.append("        status:\n");
+    sb.append("          type: string\n");
+    sb.append("          enum: [ ACTIVE, INACTIVE ]\n");
+    sb.append("        tags:\n");
+    sb.append("          type: array\n");
+    sb.append("          uniqueItems: true\n");
+    sb.append("          items:\n");
+    sb.append("            type: string\n");
+    if (withReference) {
+      sb.append("        previous:\n");
+      sb.append("          $ref: '#/components/schemas/Schema").append(index - 1).append("'\n");
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.github.muehmar.gradle.openapi.benchmark;
+
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SpecificationReader;
+import com.github.muehmar.gradle.openapi.generator.model.specification.MainDirectory;
+import com.github.muehmar.gradle.openapi.generator.model.specification.OpenApiSpec;
+
+/** Returns the same in-memory specification for every read, i.e. no file system access. */
+public class SyntheticSpecificationReader implements SpecificationReader {
+  public static final MainDirectory MAIN_DIRECTORY = MainDirectory.fromString("");
+  public static final OpenApiSpec SPECIFICATION = OpenApiSpec.fromString("openapi.yml");
+
+  private final String specification;
+
+  public SyntheticSpecificationReader(String specification) {
+    this.specification = specification;
+  }
+
+  @Override
+  public String read(MainDirectory mainDirectory, OpenApiSpec specification) {
+    return this.specification;
+  }
+}
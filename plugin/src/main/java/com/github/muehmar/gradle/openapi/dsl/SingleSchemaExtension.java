@@ -3,6 +3,8 @@ package com.github.muehmar.gradle.openapi.dsl;
 import static com.github.muehmar.gradle.openapi.generator.settings.PojoSettingsBuilder.fullPojoSettingsBuilder;
 
 import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SpecificationParserType;
+import com.github.muehmar.gradle.openapi.generator.settings.CompositionConversion;
 import com.github.muehmar.gradle.openapi.generator.settings.EnumDescriptionSettings;
 import com.github.muehmar.gradle.openapi.generator.settings.GetterSuffixesBuilder;
 import com.github.muehmar.gradle.openapi.generator.settings.JsonSupport;
@@ -32,6 +34,7 @@ import org.gradle.api.provider.Provider;
 public class SingleSchemaExtension implements Serializable {
   private static final String DEFAULT_SOURCE_SET = "main";
   private static final boolean DEFAULT_RESOLVE_INPUT_SPECS = true;
+  private static final int DEFAULT_GENERATION_PARALLELISM = 1;
 
   private final String name;
 
@@ -54,6 +57,13 @@ public class SingleSchemaExtension implements Serializable {
   private final List<ConstantSchemaNameMapping> constantSchemaNameMappings;
   private List<String> excludeSchemas;
   private WarningsConfig warnings;
+  private Integer generationParallelism;
+  private String specificationParser;
+  private String compositionConversion;
+  private Boolean cacheHashCode;
+  private Boolean generateValidateMethod;
+  private Boolean cacheAdditionalProperties;
+  private Boolean compactAdditionalProperties;
 
   @Inject
   public SingleSchemaExtension(String name) {
@@ -231,6 +241,103 @@ public class SingleSchemaExtension implements Serializable {
     return excludeSchemas;
   }
 
+  public int getGenerationParallelism() {
+    final int parallelism =
+        Optional.ofNullable(generationParallelism).orElse(DEFAULT_GENERATION_PARALLELISM);
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(
+          "Unsupported value for generationParallelism: '"
+              + parallelism
+              + "'. The value must be greater than zero.");
+    }
+    return parallelism;
+  }
+
+  // DSL API
+  public void setGenerationParallelism(Integer generationParallelism) {
+    this.generationParallelism = generationParallelism;
+  }
+
+  public SpecificationParserType getSpecificationParser() {
+    final Supplier<IllegalArgumentException> unsupportedValueException =
+        () ->
+            new IllegalArgumentException(
+                "Unsupported value for specificationParser: '"
+                    + specificationParser
+                    + "'. Supported values are ["
+                    + PList.of(SpecificationParserType.values())
+                        .map(SpecificationParserType::getValue)
+                        .mkString(", "));
+    return Optional.ofNullable(specificationParser)
+        .map(
+            parser ->
+                SpecificationParserType.fromString(parser).orElseThrow(unsupportedValueException))
+        .orElse(SpecificationParserType.SWAGGER);
+  }
+
+  // DSL API
+  public void setSpecificationParser(String specificationParser) {
+    this.specificationParser = specificationParser;
+  }
+
+  public CompositionConversion getCompositionConversion() {
+    final Supplier<IllegalArgumentException> unsupportedValueException =
+        () ->
+            new IllegalArgumentException(
+                "Unsupported value for compositionConversion: '"
+                    + compositionConversion
+                    + "'. Supported values are ["
+                    + PList.of(CompositionConversion.values())
+                        .map(CompositionConversion::getValue)
+                        .mkString(", "));
+    return Optional.ofNullable(compositionConversion)
+        .map(
+            conversion ->
+                CompositionConversion.fromString(conversion).orElseThrow(unsupportedValueException))
+        .orElse(CompositionConversion.COPY);
+  }
+
+  // DSL API
+  public void setCompositionConversion(String compositionConversion) {
+    this.compositionConversion = compositionConversion;
+  }
+
+  public boolean getCacheHashCode() {
+    return Optional.ofNullable(cacheHashCode).orElse(false);
+  }
+
+  // DSL API
+  public void setCacheHashCode(Boolean cacheHashCode) {
+    this.cacheHashCode = cacheHashCode;
+  }
+
+  public boolean getGenerateValidateMethod() {
+    return Optional.ofNullable(generateValidateMethod).orElse(false);
+  }
+
+  // DSL API
+  public void setGenerateValidateMethod(Boolean generateValidateMethod) {
+    this.generateValidateMethod = generateValidateMethod;
+  }
+
+  public boolean getCacheAdditionalProperties() {
+    return Optional.ofNullable(cacheAdditionalProperties).orElse(false);
+  }
+
+  // DSL API
+  public void setCacheAdditionalProperties(Boolean cacheAdditionalProperties) {
+    this.cacheAdditionalProperties = cacheAdditionalProperties;
+  }
+
+  public boolean getCompactAdditionalProperties() {
+    return Optional.ofNullable(compactAdditionalProperties).orElse(false);
+  }
+
+  // DSL API
+  public void setCompactAdditionalProperties(Boolean compactAdditionalProperties) {
+    this.compactAdditionalProperties = compactAdditionalProperties;
+  }
+
   // DSL API
   public void warnings(Action<WarningsConfig> action) {
     action.execute(warnings);
@@ -347,6 +454,7 @@ public class SingleSchemaExtension implements Serializable {
     final StagedBuilderSettings stagedBuilderSettings =
         StagedBuilderSettingsBuilder.fullStagedBuilderSettingsBuilder()
             .enabled(stagedBuilder.getEnabledOrDefault())
+            .singleInstance(stagedBuilder.getSingleInstanceOrDefault())
             .build();
 
     return fullPojoSettingsBuilder()
@@ -368,6 +476,11 @@ public class SingleSchemaExtension implements Serializable {
         .validationMethods(settingsValidationMethods)
         .excludeSchemas(getExcludeSchemas())
         .pojoNameMappings(getPojoNameMappings())
+        .compositionConversion(getCompositionConversion())
+        .cacheHashCode(getCacheHashCode())
+        .generateValidateMethod(getGenerateValidateMethod())
+        .cacheAdditionalProperties(getCacheAdditionalProperties())
+        .compactAdditionalProperties(getCompactAdditionalProperties())
         .taskIdentifier(
             TaskIdentifier.fromString(String.format("%s-%s", project.getName(), taskName)))
         .build();
@@ -405,6 +518,9 @@ public class SingleSchemaExtension implements Serializable {
     stagedBuilder =
         StagedBuilderBuilder.fullStagedBuilderBuilder()
             .enabled(Optionals.or(stagedBuilder.getEnabled(), commonStagedBuilder.getEnabled()))
+            .singleInstance(
+                Optionals.or(
+                    stagedBuilder.getSingleInstance(), commonStagedBuilder.getSingleInstance()))
             .build();
     return this;
   }
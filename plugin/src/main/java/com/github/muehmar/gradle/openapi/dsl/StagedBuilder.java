@@ -12,17 +12,22 @@ import lombok.Data;
 @PojoBuilder
 public class StagedBuilder implements Serializable {
   @Nullable private Boolean enabled;
+  @Nullable private Boolean singleInstance;
 
-  public StagedBuilder(Boolean enabled) {
+  public StagedBuilder(Boolean enabled, Boolean singleInstance) {
     this.enabled = enabled;
+    this.singleInstance = singleInstance;
   }
 
   public static StagedBuilder allUndefined() {
-    return fullStagedBuilderBuilder().enabled(Optional.empty()).build();
+    return fullStagedBuilderBuilder()
+        .enabled(Optional.empty())
+        .singleInstance(Optional.empty())
+        .build();
   }
 
   public static StagedBuilder defaultStagedBuilder() {
-    return fullStagedBuilderBuilder().enabled(true).build();
+    return fullStagedBuilderBuilder().enabled(true).singleInstance(false).build();
   }
 
   public Optional<Boolean> getEnabled() {
@@ -32,4 +37,12 @@ public class StagedBuilder implements Serializable {
   public boolean getEnabledOrDefault() {
     return getEnabled().orElseGet(() -> defaultStagedBuilder().getEnabledOrDefault());
   }
+
+  public Optional<Boolean> getSingleInstance() {
+    return Optional.ofNullable(singleInstance);
+  }
+
+  public boolean getSingleInstanceOrDefault() {
+    return getSingleInstance().orElseGet(() -> defaultStagedBuilder().getSingleInstanceOrDefault());
+  }
 }
@@ -1,7 +1,13 @@
 package com.github.muehmar.gradle.openapi.generator.java;
 
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.nullableitemslist.NullableItemsListClassGenerator.nullableItemsListClassGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.AdditionalPropertyClassGenerator.additionalPropertyClassGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.CompactPropertiesClassGenerator.compactPropertiesClassGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.NullableAdditionalPropertyClassGenerator.nullableAdditionalPropertyClassGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.PropertiesViewClassGenerator.propertiesViewClassGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.jackson.JacksonStreamingClassGenerator.jacksonStreamingClassGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.UniqueItemsValidatorClassGenerator.uniqueItemsValidatorClassGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.ValidationResultClassGenerator.validationResultClassGenerator;
 import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
 
 import ch.bluecare.commons.data.PList;
@@ -23,9 +29,15 @@ public class JavaUtilsGenerator implements UtilsGenerator {
     return PList.of(
             tristateClass(),
             emailValidator(),
+            uniqueItemsValidator(),
             additionalPropertyClass(),
-            nullableAdditionalPropertyClass())
-        .concat(PList.fromOptional(jacksonContainerClass(settings)));
+            nullableAdditionalPropertyClass(),
+            nullableItemsListClass())
+        .concat(PList.fromOptional(jacksonContainerClass(settings)))
+        .concat(PList.fromOptional(jacksonStreamingClass(settings)))
+        .concat(PList.fromOptional(propertiesViewClass(settings)))
+        .concat(PList.fromOptional(compactPropertiesClass(settings)))
+        .concat(PList.fromOptional(validationResultClass(settings)));
   }
 
   private static GeneratedFile tristateClass() {
@@ -48,6 +60,50 @@ public class JavaUtilsGenerator implements UtilsGenerator {
     }
   }
 
+  private static Optional<GeneratedFile> jacksonStreamingClass(PojoSettings settings) {
+    if (settings.isJacksonStreamingJson()) {
+      final Writer writer =
+          jacksonStreamingClassGenerator().generate(noData(), noSettings(), javaWriter());
+      final JavaFileName javaFileName = JavaFileName.fromRef(OpenApiUtilRefs.JACKSON_STREAMING);
+      return Optional.of(new GeneratedFile(javaFileName.asPath(), writer.asString()));
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<GeneratedFile> propertiesViewClass(PojoSettings settings) {
+    if (settings.isCompositionConversionView()) {
+      final Writer writer =
+          propertiesViewClassGenerator().generate(noData(), noSettings(), javaWriter());
+      final JavaFileName javaFileName = JavaFileName.fromRef(OpenApiUtilRefs.PROPERTIES_VIEW);
+      return Optional.of(new GeneratedFile(javaFileName.asPath(), writer.asString()));
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<GeneratedFile> compactPropertiesClass(PojoSettings settings) {
+    if (settings.isCompactAdditionalProperties()) {
+      final Writer writer =
+          compactPropertiesClassGenerator().generate(noData(), noSettings(), javaWriter());
+      final JavaFileName javaFileName = JavaFileName.fromRef(OpenApiUtilRefs.COMPACT_PROPERTIES);
+      return Optional.of(new GeneratedFile(javaFileName.asPath(), writer.asString()));
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<GeneratedFile> validationResultClass(PojoSettings settings) {
+    if (settings.isGenerateValidateMethod()) {
+      final Writer writer =
+          validationResultClassGenerator().generate(noData(), noSettings(), javaWriter());
+      final JavaFileName javaFileName = JavaFileName.fromRef(OpenApiUtilRefs.VALIDATION_RESULT);
+      return Optional.of(new GeneratedFile(javaFileName.asPath(), writer.asString()));
+    } else {
+      return Optional.empty();
+    }
+  }
+
   private static GeneratedFile emailValidator() {
     final Generator<Void, Void> emailedValidatorGenerator =
         EmailValidatorGenerator.emailValidatorGenerator();
@@ -56,6 +112,13 @@ public class JavaUtilsGenerator implements UtilsGenerator {
     return new GeneratedFile(javaFileName.asPath(), writer.asString());
   }
 
+  private static GeneratedFile uniqueItemsValidator() {
+    final Writer writer =
+        uniqueItemsValidatorClassGenerator().generate(noData(), noSettings(), javaWriter());
+    final JavaFileName javaFileName = JavaFileName.fromRef(OpenApiUtilRefs.UNIQUE_ITEMS_VALIDATOR);
+    return new GeneratedFile(javaFileName.asPath(), writer.asString());
+  }
+
   private static GeneratedFile additionalPropertyClass() {
     final Generator<Void, Void> additionalPropertyClassGenerator =
         additionalPropertyClassGenerator();
@@ -75,6 +138,13 @@ public class JavaUtilsGenerator implements UtilsGenerator {
     return new GeneratedFile(javaFileName.asPath(), writer.asString());
   }
 
+  private static GeneratedFile nullableItemsListClass() {
+    final Writer writer =
+        nullableItemsListClassGenerator().generate(noData(), noSettings(), javaWriter());
+    final JavaFileName javaFileName = JavaFileName.fromRef(OpenApiUtilRefs.NULLABLE_ITEMS_LIST);
+    return new GeneratedFile(javaFileName.asPath(), writer.asString());
+  }
+
   private static Void noData() {
     return null;
   }
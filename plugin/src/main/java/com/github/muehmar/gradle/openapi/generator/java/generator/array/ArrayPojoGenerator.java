@@ -11,6 +11,8 @@ import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.misc.ToStringGenerator.toStringMethod;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.IsValidMethodGenerator.isValidMethodGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.UniqueItemsValidationMethodGenerator.uniqueItemsValidationMethodGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.ValidateMethodGenerator.validateMethodGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ValidationConstantsGenerator.arrayPojoValidationConstantsGenerator;
 import static io.github.muehmar.codegenerator.java.ClassGen.Declaration.TOP_LEVEL;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
 
@@ -73,6 +75,10 @@ public class ArrayPojoGenerator implements Generator<JavaArrayPojo, PojoSettings
         .appendSingleBlankLine()
         .append(isValidMethodGenerator())
         .appendSingleBlankLine()
+        .append(validateMethodGenerator())
+        .appendSingleBlankLine()
+        .append(arrayPojoValidationConstantsGenerator())
+        .appendSingleBlankLine()
         .append(validationClassGenerator());
   }
 
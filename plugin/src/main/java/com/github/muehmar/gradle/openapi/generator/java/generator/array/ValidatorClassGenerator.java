@@ -1,15 +1,20 @@
 package com.github.muehmar.gradle.openapi.generator.java.generator.array;
 
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyValidationGenerator.memberValidationGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.RESULT_ARGUMENT_NAME;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.unnamedPropertyValueViolationsGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.validateMethodName;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PRIVATE;
 import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
 
 import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConditionsWriter;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyValue;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaArrayPojo;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.JavaGenerators;
+import io.github.muehmar.codegenerator.java.MethodGen.Argument;
 import io.github.muehmar.codegenerator.writer.Writer;
 import java.util.function.Predicate;
 
@@ -35,7 +40,35 @@ public class ValidatorClassGenerator {
     return Generator.<JavaArrayPojo, PojoSettings>emptyGen()
         .append(memberValidationGenerator(), JavaArrayPojo::getArrayPojoMember)
         .appendSingleBlankLine()
-        .append(isValidMethod());
+        .append(isValidMethod())
+        .append(violationsMethods());
+  }
+
+  private static Generator<JavaArrayPojo, PojoSettings> violationsMethods() {
+    return Generator.<JavaArrayPojo, PojoSettings>emptyGen()
+        .appendSingleBlankLine()
+        .append(
+            unnamedPropertyValueViolationsGenerator(),
+            pojo -> PropertyValue.fromJavaMember(pojo.getArrayPojoMember()))
+        .appendSingleBlankLine()
+        .append(validateMethod())
+        .filter((pojo, settings) -> settings.isGenerateValidateMethod());
+  }
+
+  private static Generator<JavaArrayPojo, PojoSettings> validateMethod() {
+    return JavaGenerators.<JavaArrayPojo, PojoSettings>methodGen()
+        .modifiers(PRIVATE)
+        .noGenericTypes()
+        .returnType("boolean")
+        .methodName("validate")
+        .singleArgument(pojo -> new Argument("ValidationResult", RESULT_ARGUMENT_NAME))
+        .doesNotThrow()
+        .content(
+            (pojo, settings, writer) ->
+                writer.println(
+                    "return %s(%s);",
+                    validateMethodName(pojo.getArrayPojoMember().getName()), RESULT_ARGUMENT_NAME))
+        .build();
   }
 
   private static Generator<JavaArrayPojo, PojoSettings> isValidMethod() {
@@ -183,14 +183,23 @@ public class EnumGenerator implements Generator<EnumGenerator.EnumContent, PojoS
         .build();
   }
 
+  /**
+   * Looks up the constant with a switch on the value instead of iterating over {@link
+   * Enum#values()}, which would copy the constants on each call.
+   */
   private Writer fromValueContent(EnumContent content, PojoSettings settings, Writer writer) {
     final JavaName enumName = content.getClassName();
-    return writer
-        .println("for (%s e: %s.values()) {", enumName, enumName)
-        .tab(1)
-        .println("if (e.value.equals(value)) {")
-        .tab(2)
-        .println("return e;")
+    final Writer writerAfterSwitchStart =
+        writer.println("if (value != null) {").tab(1).println("switch (value) {");
+    return content
+        .getMembers()
+        .foldLeft(
+            writerAfterSwitchStart,
+            (w, member) ->
+                w.tab(2)
+                    .println(
+                        "case \"%s\": return %s;",
+                        member.getOriginalConstant(), member.asJavaConstant()))
         .tab(1)
         .println("}")
         .println("}")
@@ -16,6 +16,8 @@ import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.ge
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.GetterGenerator.getterGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.RequiredAdditionalPropertiesGetter.requiredAdditionalPropertiesGetter;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties.AdditionalPropertiesGetter.additionalPropertiesGetterGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.jackson.JacksonStreamingGenerator.jacksonClassAnnotations;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.jackson.JacksonStreamingGenerator.jacksonStreamingClasses;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.map.MapFactoryMethodeGenerator.mapFactoryMethodeGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.nullableitemslist.NullableItemsListWrappers.nullableItemsListWrappers;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.validation.AdditionalPropertiesTypeValidationGenerator.additionalPropertiesTypeValidationGenerator;
@@ -29,6 +31,8 @@ import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.misc.ToStringGenerator.toStringMethod;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.IsValidMethodGenerator.isValidMethodGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.UniqueItemsValidationMethodGenerator.uniqueItemsValidationMethodGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.ValidateMethodGenerator.validateMethodGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ValidationConstantsGenerator.objectPojoValidationConstantsGenerator;
 import static io.github.muehmar.codegenerator.Generator.newLine;
 import static io.github.muehmar.codegenerator.java.ClassGen.Declaration.TOP_LEVEL;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
@@ -36,7 +40,6 @@ import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
 import com.github.muehmar.gradle.openapi.generator.java.generator.enumpojo.EnumGenerator;
 import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StagedBuilderGenerator;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.PackageGenerator;
-import com.github.muehmar.gradle.openapi.generator.java.generator.shared.jackson.JacksonAnnotationGenerator;
 import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMember;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
@@ -55,7 +58,7 @@ public class ObjectPojoGenerator implements Generator<JavaObjectPojo, PojoSettin
             .declaration(TOP_LEVEL)
             .packageGen(new PackageGenerator<>())
             .javaDoc(JavaDocGenerator.javaDoc((pojo, settings) -> pojo.getDescription()))
-            .singleAnnotation(JacksonAnnotationGenerator.jsonDeserialize())
+            .singleAnnotation(jacksonClassAnnotations())
             .modifiers(PUBLIC)
             .className(pojo -> pojo.getClassName().asString())
             .noSuperClass()
@@ -93,7 +96,9 @@ public class ObjectPojoGenerator implements Generator<JavaObjectPojo, PojoSettin
         .appendSingleBlankLine()
         .append(equalsHashCodeToString())
         .appendSingleBlankLine()
-        .append(builders());
+        .append(builders())
+        .appendSingleBlankLine()
+        .append(jacksonStreamingClasses());
   }
 
   private static Generator<JavaObjectPojo, PojoSettings> getters() {
@@ -138,6 +143,10 @@ public class ObjectPojoGenerator implements Generator<JavaObjectPojo, PojoSettin
         .appendSingleBlankLine()
         .append(isValidMethodGenerator())
         .appendSingleBlankLine()
+        .append(validateMethodGenerator())
+        .appendSingleBlankLine()
+        .append(objectPojoValidationConstantsGenerator())
+        .appendSingleBlankLine()
         .append(validationClassGenerator())
         .appendSingleBlankLine()
         .append(multipleOfValidationMethodGenerator())
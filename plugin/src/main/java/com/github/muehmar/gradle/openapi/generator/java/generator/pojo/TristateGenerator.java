@@ -79,24 +79,29 @@ public class TristateGenerator {
         .append(onAbsentInterface());
   }
 
+  /**
+   * The value is stored directly, i.e. it is null in case the property was null or absent. The
+   * instances for null and absent properties are shared, they don't hold any value.
+   */
   private static <B, A> Generator<A, B> fields() {
     return (a, b, writer) ->
         writer
-            .println("private final Optional<T> value;")
-            .println("private final boolean isNull;")
-            .ref(JavaRefs.JAVA_UTIL_OPTIONAL);
+            .println("private static final Tristate<?> NULL = new Tristate<>(null, true);")
+            .println("private static final Tristate<?> ABSENT = new Tristate<>(null, false);")
+            .println()
+            .println("private final T value;")
+            .println("private final boolean isNull;");
   }
 
   private static <B, A> Generator<A, B> constructor() {
     return (a, b, writer) ->
         writer
-            .println("private Tristate(Optional<T> value, boolean isNull) {")
+            .println("private Tristate(T value, boolean isNull) {")
             .tab(1)
             .println("this.value = value;")
             .tab(1)
             .println("this.isNull = isNull;")
-            .println("}")
-            .ref(JavaRefs.JAVA_UTIL_OPTIONAL);
+            .println("}");
   }
 
   private static <B, A> Generator<A, B> ofNullableAndNullFlagFactoryMethod() {
@@ -105,7 +110,13 @@ public class TristateGenerator {
             .println(
                 "public static <T> Tristate<T> ofNullableAndNullFlag(T nullableValue, boolean isNull) {")
             .tab(1)
-            .println("return new Tristate<>(Optional.ofNullable(nullableValue), isNull);")
+            .println("if (nullableValue == null) {")
+            .tab(2)
+            .println("return isNull ? ofNull() : ofAbsent();")
+            .tab(1)
+            .println("}")
+            .tab(1)
+            .println("return new Tristate<>(nullableValue, isNull);")
             .println("}");
   }
 
@@ -114,25 +125,28 @@ public class TristateGenerator {
         writer
             .println("public static <T> Tristate<T> ofValue(T value) {")
             .tab(1)
-            .println("return new Tristate<>(Optional.of(value), false);")
-            .println("}");
+            .println("return new Tristate<>(Objects.requireNonNull(value), false);")
+            .println("}")
+            .ref(JavaRefs.JAVA_UTIL_OBJECTS);
   }
 
   private static <B, A> Generator<A, B> ofNullFactoryMethod() {
     return (a, b, writer) ->
         writer
+            .println("@SuppressWarnings(\"unchecked\")")
             .println("public static <T> Tristate<T> ofNull() {")
             .tab(1)
-            .println("return new Tristate<>(Optional.empty(), true);")
+            .println("return (Tristate<T>) NULL;")
             .println("}");
   }
 
   private static <B, A> Generator<A, B> ofAbsentFactoryMethod() {
     return (a, b, writer) ->
         writer
+            .println("@SuppressWarnings(\"unchecked\")")
             .println("public static <T> Tristate<T> ofAbsent() {")
             .tab(1)
-            .println("return new Tristate<>(Optional.empty(), false);")
+            .println("return (Tristate<T>) ABSENT;")
             .println("}");
   }
 
@@ -141,7 +155,7 @@ public class TristateGenerator {
         writer
             .println("public <R> Tristate<R> map(Function<T, R> f) {")
             .tab(1)
-            .println("return new Tristate<>(value.map(f), isNull);")
+            .println("return ofNullableAndNullFlag(value == null ? null : f.apply(value), isNull);")
             .println("}");
   }
 
@@ -150,8 +164,7 @@ public class TristateGenerator {
         writer
             .println("public Optional<T> toOptional() {")
             .tab(1)
-            .println(
-                "return onValue(Optional::of).onNull(Optional::empty).onAbsent(Optional::empty);")
+            .println("return Optional.ofNullable(value);")
             .println("}")
             .ref(JavaRefs.JAVA_UTIL_OPTIONAL);
   }
@@ -164,7 +177,7 @@ public class TristateGenerator {
             .println("return onNull ->")
             .tab(2)
             .println(
-                "onAbsent -> value.map(onValue).orElseGet(() -> isNull ? onNull.get() : onAbsent.get());")
+                "onAbsent -> value != null ? onValue.apply(value) : isNull ? onNull.get() : onAbsent.get();")
             .println("}")
             .ref(JavaRefs.JAVA_UTIL_FUNCTION);
   }
@@ -190,7 +203,7 @@ public class TristateGenerator {
         writer
             .println("public int hashCode() {")
             .tab(1)
-            .println("return Objects.hash(value, isNull);")
+            .println("return 31 * (31 + Objects.hashCode(value)) + Boolean.hashCode(isNull);")
             .println("}")
             .ref(JavaRefs.JAVA_UTIL_OBJECTS);
   }
@@ -21,13 +21,17 @@ import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.JavaModifiers;
 import io.github.muehmar.codegenerator.java.MethodGen.Argument;
 import io.github.muehmar.codegenerator.java.MethodGenBuilder;
+import java.util.function.Function;
 
 class AdditionalPropertiesSetterGenerator {
+  private static final String PUT_METHOD_NAME = "putAdditionalProperty";
+
   private AdditionalPropertiesSetterGenerator() {}
 
   public static Generator<JavaObjectPojo, PojoSettings> additionalPropertiesSetterGenerator() {
     return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
-        .append(additionalPropertiesSetters(), JavaObjectPojo::getAdditionalProperties);
+        .append(additionalPropertiesSetters(), JavaObjectPojo::getAdditionalProperties)
+        .append(putAdditionalPropertyMethod());
   }
 
   private static Generator<JavaAdditionalProperties, PojoSettings> additionalPropertiesSetters() {
@@ -62,10 +66,7 @@ class AdditionalPropertiesSetterGenerator {
                                 : props.getType().getParameterizedClassName().asString(),
                             "value")))
             .doesNotThrow()
-            .content(
-                (props, s, w) ->
-                    w.println("this.%s.put(key, value);", additionalPropertiesName())
-                        .println("return this;"))
+            .content((props, s, w) -> w.println("%s;", put(s, "value")).println("return this;"))
             .build()
             .append(RefsGenerator.javaTypeRefs(), JavaAdditionalProperties::getType);
     return JacksonAnnotationGenerator.<JavaAdditionalProperties>jsonAnySetter()
@@ -104,8 +105,7 @@ class AdditionalPropertiesSetterGenerator {
   private static Generator<JavaAdditionalProperties, PojoSettings>
       singleOptionalAdditionalPropertiesSetterContent() {
     return Generator.<JavaAdditionalProperties, PojoSettings>emptyGen()
-        .append(
-            constant("value.ifPresent(val -> this.%s.put(key, val));", additionalPropertiesName()))
+        .append((props, s, w) -> w.println("value.ifPresent(val -> %s);", put(s, "val")))
         .append(constant("return this;"));
   }
 
@@ -135,9 +135,9 @@ class AdditionalPropertiesSetterGenerator {
       singleTristateAdditionalPropertiesSetterContent() {
     return Generator.<JavaAdditionalProperties, PojoSettings>emptyGen()
         .append(constant("value"))
-        .append(constant(".onValue(val -> this.%s.put(key, val))", additionalPropertiesName()), 2)
-        .append(constant(".onNull(() -> this.%s.put(key, null))", additionalPropertiesName()), 2)
-        .append(constant(".onAbsent(() -> null);", additionalPropertiesName()), 2)
+        .append((props, s, w) -> w.println(".onValue(val -> %s)", put(s, "val")), 2)
+        .append((props, s, w) -> w.println(".onNull(() -> %s)", put(s, "null")), 2)
+        .append(constant(".onAbsent(() -> null);"), 2)
         .append(constant("return this;"));
   }
 
@@ -153,16 +153,76 @@ class AdditionalPropertiesSetterGenerator {
                     props.getMapContainerType().getParameterizedClassName(),
                     additionalPropertiesName()))
         .doesNotThrow()
-        .content(
-            (props, s, w) ->
-                w.println(
-                        "this.%s = new HashMap<>(%s);",
-                        additionalPropertiesName(), additionalPropertiesName())
-                    .println("return this;"))
+        .content(allAdditionalPropertiesSetterContent())
         .build()
         .append(RefsGenerator.javaTypeRefs(), JavaAdditionalProperties::getType)
         .append(ref(JavaRefs.JAVA_UTIL_MAP))
         .append(ref(JavaRefs.JAVA_UTIL_HASH_MAP))
         .filter(JavaAdditionalProperties::isAllowed);
   }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings>
+      allAdditionalPropertiesSetterContent() {
+    final Generator<JavaAdditionalProperties, PojoSettings> copyMap =
+        Generator.<JavaAdditionalProperties, PojoSettings>constant(
+                "this.%s = new HashMap<>(%s);",
+                additionalPropertiesName(), additionalPropertiesName())
+            .filter((props, settings) -> not(settings.isCompactAdditionalProperties()));
+    final Generator<JavaAdditionalProperties, PojoSettings> putEntries =
+        Generator.<JavaAdditionalProperties, PojoSettings>constant(
+                "this.%s = new HashMap<>();", additionalPropertiesName())
+            .append(constant("%s.forEach(this::%s);", additionalPropertiesName(), PUT_METHOD_NAME))
+            .filter((props, settings) -> settings.isCompactAdditionalProperties());
+    return copyMap.append(putEntries).append(constant("return this;"));
+  }
+
+  private static String put(PojoSettings settings, String value) {
+    return settings.isCompactAdditionalProperties()
+        ? String.format("%s(key, %s)", PUT_METHOD_NAME, value)
+        : String.format("this.%s.put(key, %s)", additionalPropertiesName(), value);
+  }
+
+  /**
+   * Adds an additional property unless the key is the name of a member. Filtering at insert time
+   * removes the need to remove these properties from the map when building the DTO. A null key is
+   * added like any other key, as it is done without compact additional properties.
+   */
+  private static Generator<JavaObjectPojo, PojoSettings> putAdditionalPropertyMethod() {
+    final Generator<JavaObjectPojo, PojoSettings> method =
+        MethodGenBuilder.<JavaObjectPojo, PojoSettings>create()
+            .modifiers(PRIVATE)
+            .noGenericTypes()
+            .returnType("Builder")
+            .methodName(PUT_METHOD_NAME)
+            .arguments(pojo -> PList.of(argument("String", "key"), argument("Object", "value")))
+            .doesNotThrow()
+            .content(putAdditionalPropertyMethodContent())
+            .build();
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .appendSingleBlankLine()
+        .append(method)
+        .filter((pojo, settings) -> settings.isCompactAdditionalProperties());
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> putAdditionalPropertyMethodContent() {
+    final Generator<String, PojoSettings> caseLabel =
+        (name, s, w) -> w.println("case \"%s\":", name);
+    final Generator<JavaObjectPojo, PojoSettings> skipMemberNames =
+        Generator.<JavaObjectPojo, PojoSettings>constant("if (key != null) {")
+            .append(constant("switch (key) {"), 1)
+            .appendList(caseLabel.indent(2), AdditionalPropertiesSetterGenerator::memberNames)
+            .append(constant("return this;"), 3)
+            .append(constant("}"), 1)
+            .append(constant("}"))
+            .filter(pojo -> memberNames(pojo).nonEmpty());
+    return skipMemberNames
+        .append(constant("%s.put(key, value);", additionalPropertiesName()))
+        .append(constant("return this;"));
+  }
+
+  private static PList<String> memberNames(JavaObjectPojo pojo) {
+    return pojo.getAllMembers()
+        .map(member -> member.getName().getOriginalName().asString())
+        .distinct(Function.identity());
+  }
 }
@@ -1,6 +1,7 @@
 package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.builder;
 
 import static com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties.additionalPropertiesName;
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
 
 import com.github.muehmar.gradle.openapi.generator.java.model.member.TechnicalPojoMember;
@@ -25,6 +26,14 @@ public class BuildMethodGenerator {
   }
 
   private static Generator<JavaObjectPojo, PojoSettings> buildMethodContent() {
+    return removeMemberPropertiesContent().append(buildMethodCall());
+  }
+
+  /**
+   * Removes the additional properties with the name of a member. Not needed for compact additional
+   * properties, where these properties are already ignored when added to the builder.
+   */
+  private static Generator<JavaObjectPojo, PojoSettings> removeMemberPropertiesContent() {
     return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
         .appendList(
             (m, s, w) ->
@@ -35,7 +44,7 @@ public class BuildMethodGenerator {
         .append(
             Generator.<JavaObjectPojo, PojoSettings>newLine()
                 .filter(p -> p.getAllMembers().nonEmpty()))
-        .append(buildMethodCall());
+        .filter((pojo, settings) -> not(settings.isCompactAdditionalProperties()));
   }
 
   private static Generator<JavaObjectPojo, PojoSettings> buildMethodCall() {
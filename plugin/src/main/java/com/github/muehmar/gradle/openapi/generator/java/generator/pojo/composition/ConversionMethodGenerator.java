@@ -18,6 +18,8 @@ import com.github.muehmar.gradle.openapi.generator.java.model.name.JavaName;
 import com.github.muehmar.gradle.openapi.generator.java.model.name.MethodNames;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
 import com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs;
+import com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs;
+import com.github.muehmar.gradle.openapi.generator.model.name.Name;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.MethodGenBuilder;
@@ -42,6 +44,17 @@ public class ConversionMethodGenerator {
   }
 
   private static Generator<ParentAndComposedPojo, PojoSettings> asSingleDtoMethod() {
+    return Generator.<ParentAndComposedPojo, PojoSettings>emptyGen()
+        .append(
+            (pc, s, w) ->
+                w.println(
+                    "private transient %s %s;",
+                    pc.getComposedPojo().getClassName(), pc.getCacheFieldName()))
+        .appendSingleBlankLine()
+        .append(asSingleDtoMethodWithoutCache());
+  }
+
+  private static Generator<ParentAndComposedPojo, PojoSettings> asSingleDtoMethodWithoutCache() {
     return MethodGenBuilder.<ParentAndComposedPojo, PojoSettings>create()
         .modifiers(PRIVATE)
         .noGenericTypes()
@@ -54,25 +67,94 @@ public class ConversionMethodGenerator {
         .build();
   }
 
+  /**
+   * The converted DTO is created lazily and cached in a transient field. The DTOs are immutable, so
+   * the racy single-check is safe: concurrent callers may create the DTO more than once but always
+   * observe an equal and fully constructed instance.
+   */
   private static Generator<ParentAndComposedPojo, PojoSettings> asDtoMethodContent() {
-    final Generator<JavaName, PojoSettings> memberGen = (name, s, w) -> w.println("%s,", name);
     return Generator.<ParentAndComposedPojo, PojoSettings>emptyGen()
         .append(
-            constant("Map<String, Object> props = new HashMap<>(%s);", additionalPropertiesName()))
-        .appendList(addPropertyToMap(), ParentAndComposedPojo::getAdditionalPropertiesMembers)
-        .append((pc, s, w) -> w.println("return new %s(", pc.getComposedPojo().getClassName()))
+            (pc, s, w) ->
+                w.println(
+                    "%s result = %s;", pc.getComposedPojo().getClassName(), pc.getCacheFieldName()))
+        .append(constant("if (result == null) {"))
+        .append(createDtoContent(), 1)
+        .append((pc, s, w) -> w.println("%s = result;", pc.getCacheFieldName()), 1)
+        .append(constant("}"))
+        .append(constant("return result;"));
+  }
+
+  private static Generator<ParentAndComposedPojo, PojoSettings> createDtoContent() {
+    final Generator<JavaName, PojoSettings> memberGen = (name, s, w) -> w.println("%s,", name);
+    return Generator.<ParentAndComposedPojo, PojoSettings>emptyGen()
+        .append(copyPropertiesToMap().filter((pc, s) -> not(s.isCompositionConversionView())))
+        .append((pc, s, w) -> w.println("result = new %s(", pc.getComposedPojo().getClassName()))
         .appendList(
             memberGen.indent(1),
             pojo -> pojo.getComposedPojoAndMembers().flatMap(PojoAndMember::getFieldNames))
-        .append(constant("props"), 1)
-        .append(w -> w.println(");"))
+        .append(
+            Generator.<ParentAndComposedPojo, PojoSettings>constant("props")
+                .filter((pc, s) -> not(s.isCompositionConversionView())),
+            1)
+        .append(propertiesViewArgument().filter((pc, s) -> s.isCompositionConversionView()), 1)
+        .append(w -> w.println(");"));
+  }
+
+  private static Generator<ParentAndComposedPojo, PojoSettings> copyPropertiesToMap() {
+    return Generator.<ParentAndComposedPojo, PojoSettings>emptyGen()
+        .append(
+            constant("Map<String, Object> props = new HashMap<>(%s);", additionalPropertiesName()))
+        .appendList(addPropertyToMap(), ParentAndComposedPojo::getAdditionalPropertiesMembers)
         .append(ref(JavaRefs.JAVA_UTIL_MAP))
         .append(ref(JavaRefs.JAVA_UTIL_HASH_MAP));
   }
 
+  /**
+   * Creates a read-only view over the additional properties and the members of the composed DTO
+   * which are not members of the converted DTO, i.e. no map is copied. In case there are no such
+   * members, the unmodifiable additional properties are used as is.
+   */
+  private static Generator<ParentAndComposedPojo, PojoSettings> propertiesViewArgument() {
+    final Generator<ParentAndComposedPojo, PojoSettings> additionalPropertiesOnly =
+        constant(additionalPropertiesName().asString());
+    final Generator<ParentAndComposedPojo, PojoSettings> propertiesView =
+        Generator.<ParentAndComposedPojo, PojoSettings>constant("new PropertiesView(")
+            .append(constant("%s,", additionalPropertiesName()), 1)
+            .append(
+                (pc, s, w) ->
+                    w.println(
+                        "new String[] {%s},",
+                        pc.getAdditionalPropertiesMembers()
+                            .map(m -> String.format("\"%s\"", m.getName().getOriginalName()))
+                            .mkString(", ")),
+                1)
+            .append(
+                (pc, s, w) ->
+                    w.println(
+                        "new Object[] {%s},",
+                        pc.getAdditionalPropertiesMembers()
+                            .map(JavaPojoMember::getName)
+                            .mkString(", ")),
+                1)
+            .append(
+                (pc, s, w) ->
+                    w.println(
+                        "new boolean[] {%s}",
+                        pc.getAdditionalPropertiesMembers()
+                            .map(ConversionMethodGenerator::presentCondition)
+                            .mkString(", ")),
+                1)
+            .append(constant(")"))
+            .append(ref(OpenApiUtilRefs.PROPERTIES_VIEW));
+    return additionalPropertiesOnly
+        .filter(pc -> pc.getAdditionalPropertiesMembers().isEmpty())
+        .append(propertiesView.filter(pc -> pc.getAdditionalPropertiesMembers().nonEmpty()));
+  }
+
   private static Generator<JavaPojoMember, PojoSettings> addPropertyToMap() {
     return Generator.<JavaPojoMember, PojoSettings>emptyGen()
-        .append(addPropertyToMapCondition())
+        .append((m, s, w) -> w.println("if (%s) {", presentCondition(m)))
         .append(
             (m, s, w) ->
                 w.println("props.put(\"%s\", %s);", m.getName().getOriginalName(), m.getName()),
@@ -80,31 +162,14 @@ public class ConversionMethodGenerator {
         .append(constant("}"));
   }
 
-  private static Generator<JavaPojoMember, PojoSettings> addPropertyToMapCondition() {
-    return addPropertyToMapNotNullableCondition()
-        .append(addPropertyToMapRequiredNullableCondition())
-        .append(addPropertyToMapOptionalNullableCondition());
-  }
-
-  private static Generator<JavaPojoMember, PojoSettings> addPropertyToMapNotNullableCondition() {
-    return Generator.<JavaPojoMember, PojoSettings>emptyGen()
-        .append((m, s, w) -> w.println("if (%s != null) {", m.getName()))
-        .filter(JavaPojoMember::isNotNullable);
-  }
-
-  private static Generator<JavaPojoMember, PojoSettings>
-      addPropertyToMapRequiredNullableCondition() {
-    return Generator.<JavaPojoMember, PojoSettings>emptyGen()
-        .append((m, s, w) -> w.println("if (%s) {", m.getIsPresentFlagName()))
-        .filter(JavaPojoMember::isRequiredAndNullable);
-  }
-
-  private static Generator<JavaPojoMember, PojoSettings>
-      addPropertyToMapOptionalNullableCondition() {
-    return Generator.<JavaPojoMember, PojoSettings>emptyGen()
-        .append(
-            (m, s, w) -> w.println("if (%s != null || %s) {", m.getName(), m.getIsNullFlagName()))
-        .filter(JavaPojoMember::isOptionalAndNullable);
+  private static String presentCondition(JavaPojoMember member) {
+    if (member.isRequiredAndNullable()) {
+      return member.getIsPresentFlagName().asString();
+    } else if (member.isOptionalAndNullable()) {
+      return String.format("%s != null || %s", member.getName(), member.getIsNullFlagName());
+    } else {
+      return String.format("%s != null", member.getName());
+    }
   }
 
   @Value
@@ -123,6 +188,10 @@ public class ConversionMethodGenerator {
                           .exists(m2 -> m1.getName().equals(m2.getName()))));
     }
 
+    Name getCacheFieldName() {
+      return MethodNames.Composition.asConversionMethodName(composedPojo).append("Cache_");
+    }
+
     PList<PojoAndMember> getComposedPojoAndMembers() {
       return composedPojo.getAllMembers().map(m -> new PojoAndMember(composedPojo, m));
     }
@@ -12,6 +12,7 @@ import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
 import ch.bluecare.commons.data.NonEmptyList;
 import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.generator.java.model.composition.DiscriminatableJavaComposition;
+import com.github.muehmar.gradle.openapi.generator.java.model.composition.JavaDiscriminator;
 import com.github.muehmar.gradle.openapi.generator.java.model.name.MethodNames;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojo;
@@ -96,11 +97,54 @@ public class FoldMethodGenerator {
 
   private static Generator<SingleResultFoldContainer, PojoSettings>
       fullSingleResultFoldMethodContent() {
+    return Generator.<SingleResultFoldContainer, PojoSettings>emptyGen()
+        .append(fullSingleResultFoldMethodSequentialContent())
+        .append(fullSingleResultFoldMethodDiscriminatorContent());
+  }
+
+  private static Generator<SingleResultFoldContainer, PojoSettings>
+      fullSingleResultFoldMethodSequentialContent() {
     return Generator.<SingleResultFoldContainer, PojoSettings>emptyGen()
         .appendList(singleResultFoldConditionAndContent(), SingleResultFoldContainer::getMembers)
         .append(constant("else {"))
         .append(constant("return onInvalid.get();"), 1)
-        .append(constant("}"));
+        .append(constant("}"))
+        .filter(container -> not(container.getComposition().hasDiscriminator()));
+  }
+
+  /**
+   * Dispatches with a switch on the discriminator value, i.e. only the schema described by the
+   * discriminator is validated instead of trying the schemas one after the other.
+   */
+  private static Generator<SingleResultFoldContainer, PojoSettings>
+      fullSingleResultFoldMethodDiscriminatorContent() {
+    return Generator.<SingleResultFoldContainer, PojoSettings>emptyGen()
+        .append((c, s, w) -> w.println("if (%s == null) {", c.discriminatorPropertyName()))
+        .append(constant("return onInvalid.get();"), 1)
+        .append(constant("}"))
+        .append((c, s, w) -> w.println("switch(%s) {", c.discriminatorPropertyToStringValue()))
+        .appendList(
+            singleResultFoldSwitchCase().indent(1),
+            container ->
+                container
+                    .getMembers()
+                    .toPList()
+                    .distinct(SingleResultFoldMemberPojo::discriminatorValue))
+        .append(constant("}"))
+        .append(constant("return onInvalid.get();"))
+        .filter(container -> container.getComposition().hasDiscriminator());
+  }
+
+  private static Generator<SingleResultFoldMemberPojo, PojoSettings> singleResultFoldSwitchCase() {
+    return Generator.<SingleResultFoldMemberPojo, PojoSettings>emptyGen()
+        .append(
+            (p, s, w) ->
+                w.println(
+                    "case \"%s\": return %s() ? %s.apply(%s()) : onInvalid.get();",
+                    p.discriminatorValue(),
+                    p.isValidAgainstMethodName(),
+                    p.dtoMappingArgument(),
+                    p.asConversionMethodName()));
   }
 
   private static Generator<SingleResultFoldContainer, PojoSettings>
@@ -159,11 +203,7 @@ public class FoldMethodGenerator {
     return Generator.<SingleResultFoldMemberPojo, PojoSettings>emptyGen()
         .append(
             (pojo, s, w) ->
-                w.println(
-                    "%s (%s%s()) {",
-                    pojo.ifOrElseIf(),
-                    pojo.discriminatorCondition(),
-                    pojo.isValidAgainstMethodName()))
+                w.println("%s (%s()) {", pojo.ifOrElseIf(), pojo.isValidAgainstMethodName()))
         .append(
             (p, s, w) ->
                 w.tab(1)
@@ -215,6 +255,20 @@ public class FoldMethodGenerator {
     public DiscriminatableJavaComposition.Type getType() {
       return composition.getType();
     }
+
+    private String discriminatorPropertyName() {
+      return composition
+          .getDiscriminator()
+          .map(discriminator -> discriminator.getPropertyName().asString())
+          .orElse("");
+    }
+
+    private String discriminatorPropertyToStringValue() {
+      return composition
+          .getDiscriminator()
+          .map(JavaDiscriminator::discriminatorPropertyToStringValue)
+          .orElse("");
+    }
   }
 
   @Value
@@ -222,17 +276,14 @@ public class FoldMethodGenerator {
     SingleResultFoldContainer singleResultFoldContainer;
     JavaObjectPojo memberPojo;
 
-    private String discriminatorCondition() {
+    private String discriminatorValue() {
       return singleResultFoldContainer
           .getComposition()
           .getDiscriminator()
           .map(
               discriminator ->
-                  String.format(
-                      "\"%s\".equals(%s) && ",
-                      discriminator.getStringValueForSchemaName(
-                          memberPojo.getSchemaName().getOriginalName()),
-                      discriminator.discriminatorPropertyToStringValue()))
+                  discriminator.getStringValueForSchemaName(
+                      memberPojo.getSchemaName().getOriginalName()))
           .orElse("");
     }
 
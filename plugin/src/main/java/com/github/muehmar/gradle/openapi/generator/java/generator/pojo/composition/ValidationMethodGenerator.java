@@ -1,12 +1,14 @@
 package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.composition;
 
 import static com.github.muehmar.gradle.openapi.generator.java.model.name.MethodNames.Composition.isValidAgainstMethodName;
+import static io.github.muehmar.codegenerator.Generator.constant;
 import static io.github.muehmar.codegenerator.Generator.newLine;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PRIVATE;
 
 import com.github.muehmar.gradle.openapi.generator.java.model.composition.DiscriminatableJavaComposition;
 import com.github.muehmar.gradle.openapi.generator.java.model.name.MethodNames;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.model.name.Name;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.MethodGenBuilder;
@@ -25,6 +27,13 @@ public class ValidationMethodGenerator {
   }
 
   private static Generator<JavaObjectPojo, PojoSettings> isValidAgainstMethodForPojo() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append((p, s, w) -> w.println("private transient Boolean %s;", cacheFieldName(p)))
+        .appendSingleBlankLine()
+        .append(isValidAgainstMethodWithoutCache());
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> isValidAgainstMethodWithoutCache() {
     return MethodGenBuilder.<JavaObjectPojo, PojoSettings>create()
         .modifiers(PRIVATE)
         .noGenericTypes()
@@ -36,11 +45,27 @@ public class ValidationMethodGenerator {
         .build();
   }
 
+  /**
+   * The validity is evaluated lazily and cached in a transient field, i.e. the fold and valid-count
+   * methods evaluate the validation of each schema only once per instance. The racy single-check is
+   * safe as the DTOs are immutable and {@link Boolean#valueOf(boolean)} returns canonical
+   * instances.
+   */
   private static Generator<JavaObjectPojo, PojoSettings> isValidAgainstMethodContent() {
     return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append((p, s, w) -> w.println("Boolean result = %s;", cacheFieldName(p)))
+        .append(constant("if (result == null) {"))
         .append(
             (p, s, w) ->
                 w.println(
-                    "return %s().isValid();", MethodNames.Composition.asConversionMethodName(p)));
+                    "result = %s().isValid();", MethodNames.Composition.asConversionMethodName(p)),
+            1)
+        .append((p, s, w) -> w.println("%s = result;", cacheFieldName(p)), 1)
+        .append(constant("}"))
+        .append(constant("return result;"));
+  }
+
+  private static Name cacheFieldName(JavaObjectPojo pojo) {
+    return isValidAgainstMethodName(pojo).append("Cache_");
   }
 }
@@ -15,6 +15,7 @@ import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.Ge
 import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMember;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.java.JavaGenerators;
 
 class OptionalNullableGetter {
   private OptionalNullableGetter() {}
@@ -26,6 +27,12 @@ class OptionalNullableGetter {
         .append(jsonIgnore())
         .append(tristateGetterMethod(PUBLIC))
         .appendSingleBlankLine()
+        .append(jsonIgnore())
+        .append(isNullMethod())
+        .appendSingleBlankLine()
+        .append(jsonIgnore())
+        .append(isAbsentMethod())
+        .appendSingleBlankLine()
         .append(jacksonSerialisationMethod())
         .appendSingleBlankLine()
         .append(validationMethod(option))
@@ -33,6 +40,38 @@ class OptionalNullableGetter {
         .filter(JavaPojoMember::isOptionalAndNullable);
   }
 
+  /**
+   * Returns the null flag of the property. Together with {@link #isAbsentMethod()}, this allows to
+   * check the state of the property without creating a {@code Tristate} instance.
+   */
+  private static Generator<JavaPojoMember, PojoSettings> isNullMethod() {
+    return JavaGenerators.<JavaPojoMember, PojoSettings>methodGen()
+        .modifiers(PUBLIC)
+        .noGenericTypes()
+        .returnType("boolean")
+        .methodName(member -> member.getIsNullFlagName().asString())
+        .noArguments()
+        .doesNotThrow()
+        .content(member -> String.format("return %s;", member.getIsNullFlagName()))
+        .build();
+  }
+
+  private static Generator<JavaPojoMember, PojoSettings> isAbsentMethod() {
+    return JavaGenerators.<JavaPojoMember, PojoSettings>methodGen()
+        .modifiers(PUBLIC)
+        .noGenericTypes()
+        .returnType("boolean")
+        .methodName(
+            member -> member.getName().startUpperCase().prefix("is").append("Absent").asString())
+        .noArguments()
+        .doesNotThrow()
+        .content(
+            member ->
+                String.format(
+                    "return %s == null && !%s;", member.getName(), member.getIsNullFlagName()))
+        .build();
+  }
+
   private static Generator<JavaPojoMember, PojoSettings> validationMethod(GeneratorOption option) {
     return Generator.<JavaPojoMember, PojoSettings>emptyGen()
         .append(deprecatedJavaDocAndAnnotationForValidationMethod())
@@ -1,6 +1,7 @@
 package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties;
 
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties.AdditionalPropertiesCastMethod.additionalPropertiesCastMethodGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties.ForEachAdditionalProperty.forEachAdditionalPropertyGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties.FrameworkAdditionalPropertiesGetter.frameworkAdditionalPropertiesGetterGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties.GetAdditionalPropertiesList.getAdditionalPropertiesListGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties.SingleAdditionalPropertyGetter.singleAdditionalPropertyGetterGenerator;
@@ -17,6 +18,8 @@ public class AdditionalPropertiesGetter {
         .appendSingleBlankLine()
         .append(getAdditionalPropertiesListGenerator())
         .appendSingleBlankLine()
+        .append(forEachAdditionalPropertyGenerator())
+        .appendSingleBlankLine()
         .append(singleAdditionalPropertyGetterGenerator())
         .appendSingleBlankLine()
         .append(additionalPropertiesCastMethodGenerator())
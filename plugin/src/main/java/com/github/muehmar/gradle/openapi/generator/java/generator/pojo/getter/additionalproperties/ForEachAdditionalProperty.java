@@ -0,0 +1,89 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.ref;
+import static com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties.additionalPropertiesName;
+import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_BICONSUMER;
+import static io.github.muehmar.codegenerator.Generator.constant;
+import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
+
+import com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.java.JavaGenerators;
+import io.github.muehmar.codegenerator.java.MethodGen;
+
+/**
+ * Generates a visitor for the additional properties which passes each property with the correct
+ * type to the action without creating a wrapper for each property.
+ */
+class ForEachAdditionalProperty {
+  static final String METHOD_NAME = "forEachAdditionalProperty";
+
+  private ForEachAdditionalProperty() {}
+
+  public static Generator<JavaObjectPojo, PojoSettings> forEachAdditionalPropertyGenerator() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(method(), JavaObjectPojo::getAdditionalProperties)
+        .filter(pojo -> pojo.getAdditionalProperties().isAllowed());
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> method() {
+    return JavaGenerators.<JavaAdditionalProperties, PojoSettings>methodGen()
+        .modifiers(PUBLIC)
+        .noGenericTypes()
+        .returnType("void")
+        .methodName(METHOD_NAME)
+        .singleArgument(
+            props ->
+                new MethodGen.Argument(
+                    String.format(
+                        "BiConsumer<String, ? super %s>",
+                        props.getType().getParameterizedClassName()),
+                    "action"))
+        .doesNotThrow()
+        .content(methodContent())
+        .build()
+        .append(ref(JAVA_UTIL_BICONSUMER));
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> methodContent() {
+    return anyTypeContent().append(specificTypeContent());
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> anyTypeContent() {
+    return Generator.<JavaAdditionalProperties, PojoSettings>constant(
+            "%s.forEach(action);", additionalPropertiesName())
+        .filter(JavaAdditionalProperties::isValueAnyType);
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> specificTypeContent() {
+    return Generator.<JavaAdditionalProperties, PojoSettings>constant(
+            "%s.forEach(", additionalPropertiesName())
+        .append(specificNullableTypeLambda())
+        .append(specificNotNullableTypeLambda())
+        .filter(JavaAdditionalProperties::isNotValueAnyType);
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> specificNullableTypeLambda() {
+    return Generator.<JavaAdditionalProperties, PojoSettings>emptyGen()
+        .append(constant("(key, value) -> {"), 2)
+        .append(constant("if (value == null) {"), 3)
+        .append(constant("action.accept(key, null);"), 4)
+        .append(constant("} else {"), 3)
+        .append(constant("%s(value)", AdditionalPropertiesCastMethod.METHOD_NAME), 4)
+        .append(constant(".toOptional()"), 6)
+        .append(constant(".ifPresent(val -> action.accept(key, val));"), 6)
+        .append(constant("}"), 3)
+        .append(constant("});"), 2)
+        .filter(props -> props.getType().getNullability().isNullable());
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> specificNotNullableTypeLambda() {
+    return Generator.<JavaAdditionalProperties, PojoSettings>emptyGen()
+        .append(constant("(key, value) ->"), 2)
+        .append(constant("%s(value)", AdditionalPropertiesCastMethod.METHOD_NAME), 4)
+        .append(constant(".ifPresent(val -> action.accept(key, val)));"), 6)
+        .filter(props -> props.getType().getNullability().isNotNullable());
+  }
+}
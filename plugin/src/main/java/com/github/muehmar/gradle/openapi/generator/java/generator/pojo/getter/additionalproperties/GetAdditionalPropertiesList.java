@@ -2,12 +2,16 @@ package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.a
 
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.ref;
 import static com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties.additionalPropertiesName;
+import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_ARRAY_LIST;
+import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_COLLECTIONS;
 import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_LIST;
 import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_STREAM_COLLECTORS;
 import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_STREAM_STREAM;
 import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.ADDITIONAL_PROPERTY;
 import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.NULLABLE_ADDITIONAL_PROPERTY;
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
 import static io.github.muehmar.codegenerator.Generator.constant;
+import static io.github.muehmar.codegenerator.java.JavaModifier.PRIVATE;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
 
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.AdditionalPropertyClassGenerator;
@@ -18,36 +22,126 @@ import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPoj
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.JavaGenerators;
+import io.github.muehmar.codegenerator.java.JavaModifier;
 
 class GetAdditionalPropertiesList {
+  private static final String CACHE_FIELD_NAME = "additionalPropertiesListCache_";
+  private static final String CREATE_METHOD_NAME = "createAdditionalPropertiesList";
+
   private GetAdditionalPropertiesList() {}
 
   public static Generator<JavaObjectPojo, PojoSettings> getAdditionalPropertiesListGenerator() {
-    return JacksonAnnotationGenerator.<JavaObjectPojo>jsonIgnore()
-        .append(method(), JavaObjectPojo::getAdditionalProperties)
+    final Generator<JavaObjectPojo, PojoSettings> uncachedGetter =
+        JacksonAnnotationGenerator.<JavaObjectPojo>jsonIgnore()
+            .append(method(), JavaObjectPojo::getAdditionalProperties)
+            .filter((pojo, settings) -> not(settings.isCacheAdditionalProperties()));
+    final Generator<JavaObjectPojo, PojoSettings> cachedGetter =
+        Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+            .append(cacheField(), JavaObjectPojo::getAdditionalProperties)
+            .appendSingleBlankLine()
+            .append(JacksonAnnotationGenerator.jsonIgnore())
+            .append(cachedMethod(), JavaObjectPojo::getAdditionalProperties)
+            .appendSingleBlankLine()
+            .append(createListMethod(), JavaObjectPojo::getAdditionalProperties)
+            .filter((pojo, settings) -> settings.isCacheAdditionalProperties());
+    return uncachedGetter
+        .append(cachedGetter)
         .filter(pojo -> pojo.getAdditionalProperties().isAllowed());
   }
 
   public static Generator<JavaAdditionalProperties, PojoSettings> method() {
+    return listMethod(PUBLIC, "getAdditionalProperties", methodContent());
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> listMethod(
+      JavaModifier modifier,
+      String methodName,
+      Generator<JavaAdditionalProperties, PojoSettings> content) {
     return JavaGenerators.<JavaAdditionalProperties, PojoSettings>methodGen()
-        .modifiers(PUBLIC)
+        .modifiers(modifier)
         .noGenericTypes()
         .returnType(GetAdditionalPropertiesList::className)
-        .methodName("getAdditionalProperties")
+        .methodName(methodName)
         .noArguments()
         .doesNotThrow()
-        .content(methodContent())
+        .content(content)
         .build()
         .append(ref(JAVA_UTIL_LIST));
   }
 
+  private static Generator<JavaAdditionalProperties, PojoSettings> cacheField() {
+    return Generator.<JavaAdditionalProperties, PojoSettings>emptyGen()
+        .append((p, s, w) -> w.println("private transient %s %s;", className(p), CACHE_FIELD_NAME))
+        .append(ref(JAVA_UTIL_LIST));
+  }
+
+  /**
+   * The list is created lazily and cached in a transient field. The DTOs are immutable and the list
+   * is unmodifiable, so the racy single-check is safe: concurrent callers may create the list more
+   * than once but always observe an equal and fully constructed list.
+   */
+  private static Generator<JavaAdditionalProperties, PojoSettings> cachedMethod() {
+    return listMethod(PUBLIC, "getAdditionalProperties", cachedMethodContent());
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> cachedMethodContent() {
+    return Generator.<JavaAdditionalProperties, PojoSettings>emptyGen()
+        .append((p, s, w) -> w.println("%s result = %s;", className(p), CACHE_FIELD_NAME))
+        .append(constant("if (result == null) {"))
+        .append(constant("result = %s();", CREATE_METHOD_NAME), 1)
+        .append(constant("%s = result;", CACHE_FIELD_NAME), 1)
+        .append(constant("}"))
+        .append(constant("return result;"));
+  }
+
+  /**
+   * Creates an unmodifiable list of the additional properties. The values are cast and wrapped once
+   * while visiting the properties, so accessing an element of the cached list does not allocate.
+   */
+  private static Generator<JavaAdditionalProperties, PojoSettings> createListMethod() {
+    return listMethod(PRIVATE, CREATE_METHOD_NAME, createListMethodContent());
+  }
+
+  private static Generator<JavaAdditionalProperties, PojoSettings> createListMethodContent() {
+    return Generator.<JavaAdditionalProperties, PojoSettings>emptyGen()
+        .append(
+            (p, s, w) ->
+                w.println(
+                    "final %s list = new ArrayList<>(%s.size());",
+                    className(p), additionalPropertiesName()))
+        .append(
+            (p, s, w) ->
+                w.println(
+                    "forEachAdditionalProperty((key, value) -> list.add(%s));", listElement(p)))
+        .append(constant("return Collections.unmodifiableList(list);"))
+        .append(ref(JAVA_UTIL_ARRAY_LIST))
+        .append(ref(JAVA_UTIL_COLLECTIONS))
+        .append(
+            (p, s, w) ->
+                w.ref(
+                    p.getType().getNullability().isNullable()
+                        ? NULLABLE_ADDITIONAL_PROPERTY
+                        : ADDITIONAL_PROPERTY));
+  }
+
+  private static String listElement(JavaAdditionalProperties props) {
+    return props.getType().getNullability().isNullable()
+        ? String.format(
+            "%s.ofNullable(key, value)", NullableAdditionalPropertyClassGenerator.CLASSNAME)
+        : String.format("new %s<>(key, value)", AdditionalPropertyClassGenerator.CLASSNAME);
+  }
+
   private static String className(JavaAdditionalProperties props) {
+    return String.format("List<%s>", additionalPropertyClassName(props));
+  }
+
+  private static String additionalPropertyClassName(JavaAdditionalProperties props) {
     final String additionalPropertyClassName =
         props.getType().getNullability().isNullable()
             ? NullableAdditionalPropertyClassGenerator.CLASSNAME
             : AdditionalPropertyClassGenerator.CLASSNAME;
     return String.format(
-        "List<%s<%s>>", additionalPropertyClassName, props.getType().getParameterizedClassName());
+        "%s<%s>", additionalPropertyClassName, props.getType().getParameterizedClassName());
   }
 
   private static Generator<JavaAdditionalProperties, PojoSettings> methodContent() {
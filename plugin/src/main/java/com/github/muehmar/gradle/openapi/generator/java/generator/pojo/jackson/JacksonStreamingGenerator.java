@@ -0,0 +1,351 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.jackson;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.ref;
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
+import static io.github.muehmar.codegenerator.Generator.constant;
+
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.jackson.JacksonAnnotationGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.jackson.JacksonStreamingClassGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMember;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.QualifiedClassName;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.QualifiedClassNames;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaType;
+import com.github.muehmar.gradle.openapi.generator.java.ref.JacksonRefs;
+import com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs;
+import com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import io.github.muehmar.codegenerator.Generator;
+
+/**
+ * Generates a serializer and a deserializer for object DTOs which operate directly on the {@code
+ * JsonGenerator} and {@code JsonParser} of Jackson. The classes are bound to the DTO with the
+ * {@code using} attribute of {@code JsonSerialize} and {@code JsonDeserialize}, i.e. Jackson does
+ * not need to introspect the DTO and the builder.
+ *
+ * <p>DTOs with compositions are still serialized and deserialized via the annotated getters and the
+ * builder.
+ */
+public class JacksonStreamingGenerator {
+  private static final String SERIALIZER_CLASS_NAME = "JacksonSerializer";
+  private static final String DESERIALIZER_CLASS_NAME = "JacksonDeserializer";
+  private static final String JACKSON_STREAMING = JacksonStreamingClassGenerator.CLASSNAME;
+
+  private JacksonStreamingGenerator() {}
+
+  /**
+   * Annotations of the DTO class, which are either the streaming annotations or the default
+   * annotation for the deserialization via the builder.
+   */
+  public static Generator<JavaObjectPojo, PojoSettings> jacksonClassAnnotations() {
+    return streamingAnnotations()
+        .append(
+            JacksonAnnotationGenerator.<JavaObjectPojo>jsonDeserialize()
+                .filter((pojo, settings) -> not(isStreaming(pojo, settings))));
+  }
+
+  public static Generator<JavaObjectPojo, PojoSettings> jacksonStreamingClasses() {
+    return serializerClass()
+        .appendSingleBlankLine()
+        .append(deserializerClass())
+        .filter(JacksonStreamingGenerator::isStreaming);
+  }
+
+  private static boolean isStreaming(JavaObjectPojo pojo, PojoSettings settings) {
+    return settings.isJacksonStreamingJson() && not(pojo.hasCompositions());
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> streamingAnnotations() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "@JsonSerialize(using = %s.%s.class)",
+                    pojo.getClassName(), SERIALIZER_CLASS_NAME))
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "@JsonDeserialize(using = %s.%s.class)",
+                    pojo.getClassName(), DESERIALIZER_CLASS_NAME))
+        .append(ref(JacksonRefs.JSON_SERIALIZE))
+        .append(ref(JacksonRefs.JSON_DESERIALIZE))
+        .filter(JacksonStreamingGenerator::isStreaming);
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> serializerClass() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "public static final class %s extends StdSerializer<%s> {",
+                    SERIALIZER_CLASS_NAME, pojo.getClassName()))
+        .appendList(fieldNameConstant().indent(1), JavaObjectPojo::getAllMembers)
+        .appendSingleBlankLine()
+        .append(constant("public %s() {", SERIALIZER_CLASS_NAME), 1)
+        .append((pojo, s, w) -> w.println("super(%s.class);", pojo.getClassName()), 2)
+        .append(constant("}"), 1)
+        .appendNewLine()
+        .append(constant("@Override"), 1)
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "public void serialize(%s dto, JsonGenerator generator, SerializerProvider provider)",
+                    pojo.getClassName()),
+            1)
+        .append(constant("throws IOException {"), 3)
+        .append(constant("generator.writeStartObject(dto);"), 2)
+        .appendList(memberSerialization().indent(2), JavaObjectPojo::getAllMembers)
+        .append(additionalPropertiesSerialization(), 2)
+        .append(constant("generator.writeEndObject();"), 2)
+        .append(constant("}"), 1)
+        .append(constant("}"))
+        .append(ref(JacksonRefs.STD_SERIALIZER))
+        .append(ref(JacksonRefs.JSON_GENERATOR))
+        .append(ref(JacksonRefs.SERIALIZER_PROVIDER))
+        .append(ref(JavaRefs.JAVA_IO_IO_EXCEPTION));
+  }
+
+  private static Generator<JavaPojoMember, PojoSettings> fieldNameConstant() {
+    return Generator.<JavaPojoMember, PojoSettings>emptyGen()
+        .append(
+            (member, s, w) ->
+                w.println(
+                    "private static final SerializedString %s = new SerializedString(\"%s\");",
+                    nameConstantName(member), member.getName().getOriginalName()))
+        .append(ref(JacksonRefs.SERIALIZED_STRING));
+  }
+
+  private static Generator<JavaPojoMember, PojoSettings> memberSerialization() {
+    final Generator<JavaPojoMember, PojoSettings> writeMember =
+        Generator.<JavaPojoMember, PojoSettings>emptyGen()
+            .append(
+                (member, s, w) ->
+                    w.println("generator.writeFieldName(%s);", nameConstantName(member)))
+            .append(
+                (member, s, w) ->
+                    writeValue(String.format("dto.%s", member.getName()), member.getJavaType())
+                        .generate(member, s, w));
+    return Generator.<JavaPojoMember, PojoSettings>emptyGen()
+        .append(writeMember.filter(JavaPojoMember::isRequired))
+        .append(
+            Generator.<JavaPojoMember, PojoSettings>emptyGen()
+                .append((member, s, w) -> w.println("if (dto.%s != null) {", member.getName()))
+                .append(writeMember, 1)
+                .append(constant("}"))
+                .filter(JavaPojoMember::isOptionalAndNotNullable))
+        .append(
+            Generator.<JavaPojoMember, PojoSettings>emptyGen()
+                .append(
+                    (member, s, w) ->
+                        w.println(
+                            "if (dto.%s != null || dto.%s) {",
+                            member.getName(), member.getIsNullFlagName()))
+                .append(writeMember, 1)
+                .append(constant("}"))
+                .filter(JavaPojoMember::isOptionalAndNullable));
+  }
+
+  private static Generator<JavaPojoMember, PojoSettings> writeValue(
+      String value, JavaType javaType) {
+    final QualifiedClassName className = javaType.getQualifiedClassName();
+    if (className.equals(QualifiedClassNames.STRING)) {
+      return constant("generator.writeString(%s);", value);
+    } else if (isStreamingNumberOrBoolean(className)) {
+      return Generator.<JavaPojoMember, PojoSettings>constant(
+              "%s.write%s(generator, %s);", JACKSON_STREAMING, className.getClassName(), value)
+          .append(ref(OpenApiUtilRefs.JACKSON_STREAMING));
+    } else {
+      return constant("provider.defaultSerializeValue(%s, generator);", value);
+    }
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> additionalPropertiesSerialization() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            constant(
+                "for (Map.Entry<String, ?> entry : dto.getAdditionalProperties_().entrySet()) {"))
+        .append(constant("generator.writeFieldName(entry.getKey());"), 1)
+        .append(constant("provider.defaultSerializeValue(entry.getValue(), generator);"), 1)
+        .append(constant("}"))
+        .append(ref(JavaRefs.JAVA_UTIL_MAP))
+        .filter(pojo -> pojo.getAdditionalProperties().isAllowed());
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> deserializerClass() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "public static final class %s extends StdDeserializer<%s> {",
+                    DESERIALIZER_CLASS_NAME, pojo.getClassName()))
+        .appendList(
+            typeConstant().indent(1),
+            pojo -> pojo.getAllMembers().filter(member -> isGenericType(member.getJavaType())))
+        .append(additionalPropertiesTypeConstant(), 1)
+        .appendSingleBlankLine()
+        .append(constant("public %s() {", DESERIALIZER_CLASS_NAME), 1)
+        .append((pojo, s, w) -> w.println("super(%s.class);", pojo.getClassName()), 2)
+        .append(constant("}"), 1)
+        .appendNewLine()
+        .append(constant("@Override"), 1)
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "public %s deserialize(JsonParser parser, DeserializationContext context)",
+                    pojo.getClassName()),
+            1)
+        .append(constant("throws IOException {"), 3)
+        .append(deserializeMethodContent(), 2)
+        .append(constant("}"), 1)
+        .append(constant("}"))
+        .append(ref(JacksonRefs.STD_DESERIALIZER))
+        .append(ref(JacksonRefs.JSON_PARSER))
+        .append(ref(JacksonRefs.JSON_TOKEN))
+        .append(ref(JacksonRefs.DESERIALIZATION_CONTEXT))
+        .append(ref(JavaRefs.JAVA_IO_IO_EXCEPTION));
+  }
+
+  private static Generator<JavaPojoMember, PojoSettings> typeConstant() {
+    return Generator.<JavaPojoMember, PojoSettings>emptyGen()
+        .append(
+            (member, s, w) ->
+                typeConstantDeclaration(typeConstantName(member), member.getJavaType())
+                    .generate(member, s, w));
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> additionalPropertiesTypeConstant() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            (pojo, s, w) ->
+                typeConstantDeclaration(
+                        additionalPropertiesTypeConstantName(),
+                        pojo.getAdditionalProperties().getType())
+                    .generate(pojo, s, w))
+        .filter(pojo -> isGenericType(pojo.getAdditionalProperties().getType()));
+  }
+
+  private static <A> Generator<A, PojoSettings> typeConstantDeclaration(
+      String constantName, JavaType javaType) {
+    return Generator.<A, PojoSettings>constant("private static final JavaType %s =", constantName)
+        .append(
+            constant(
+                "TypeFactory.defaultInstance().constructType(new TypeReference<%s>() {});",
+                javaType.getParameterizedClassName()),
+            2)
+        .append(ref(JacksonRefs.JAVA_TYPE))
+        .append(ref(JacksonRefs.TYPE_FACTORY))
+        .append(ref(JacksonRefs.TYPE_REFERENCE));
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> deserializeMethodContent() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(constant("final Builder builder = new Builder();"))
+        .append(constant("JsonToken token = parser.currentToken();"))
+        .append(constant("if (token == JsonToken.START_OBJECT) {"))
+        .append(constant("token = parser.nextToken();"), 1)
+        .append(
+            constant(
+                "} else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {"))
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "return (%s) context.handleUnexpectedToken(%s.class, parser);",
+                    pojo.getClassName(), pojo.getClassName()),
+            1)
+        .append(constant("}"))
+        .append(constant("for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {"))
+        .append(constant("final String fieldName = parser.currentName();"), 1)
+        .append(constant("parser.nextToken();"), 1)
+        .append(constant("switch (fieldName) {"), 1)
+        .appendList(memberDeserialization().indent(2), JavaObjectPojo::getAllMembers)
+        .append(additionalPropertyDeserialization(), 2)
+        .append(constant("}"), 1)
+        .append(constant("}"))
+        .append(constant("return builder.build();"));
+  }
+
+  private static Generator<JavaPojoMember, PojoSettings> memberDeserialization() {
+    return Generator.<JavaPojoMember, PojoSettings>emptyGen()
+        .append((member, s, w) -> w.println("case \"%s\":", member.getName().getOriginalName()))
+        .append(
+            (member, s, w) ->
+                w.println(
+                    "builder.%s(%s);",
+                    member.prefixedMethodName(s.getBuilderMethodPrefix()),
+                    readValue(member.getJavaType(), typeConstantName(member))),
+            1)
+        .append(constant("break;"), 1)
+        .append(readValueRefs(), JavaPojoMember::getJavaType);
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> additionalPropertyDeserialization() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(constant("default:"))
+        .append(
+            (pojo, s, w) ->
+                w.println(
+                    "final %s value = %s;",
+                    pojo.getAdditionalProperties().getType().getParameterizedClassName(),
+                    readValue(
+                        pojo.getAdditionalProperties().getType(),
+                        additionalPropertiesTypeConstantName())),
+            1)
+        .append(constant("builder.addAdditionalProperty(fieldName, value);"), 1)
+        .append(readValueRefs(), (JavaObjectPojo pojo) -> pojo.getAdditionalProperties().getType());
+  }
+
+  /**
+   * Creates the expression to read the value of the given type from the current token. The type
+   * witness for generic types is necessary to select the correct overloaded setter of the builder.
+   */
+  private static String readValue(JavaType javaType, String typeConstantName) {
+    final QualifiedClassName className = javaType.getQualifiedClassName();
+    if (className.equals(QualifiedClassNames.STRING)) {
+      return String.format("%s.readString(parser, context)", JACKSON_STREAMING);
+    } else if (isStreamingNumberOrBoolean(className)) {
+      return String.format(
+          "%s.read%s(parser, context)", JACKSON_STREAMING, className.getClassName());
+    } else if (isGenericType(javaType)) {
+      return String.format(
+          "%s.<%s>readValue(parser, context, %s)",
+          JACKSON_STREAMING, javaType.getParameterizedClassName(), typeConstantName);
+    } else {
+      return String.format(
+          "%s.readValue(parser, context, %s.class)",
+          JACKSON_STREAMING, javaType.getParameterizedClassName());
+    }
+  }
+
+  private static Generator<JavaType, PojoSettings> readValueRefs() {
+    return ref(OpenApiUtilRefs.JACKSON_STREAMING);
+  }
+
+  private static boolean isStreamingNumberOrBoolean(QualifiedClassName className) {
+    return className.equals(QualifiedClassNames.INTEGER)
+        || className.equals(QualifiedClassNames.LONG)
+        || className.equals(QualifiedClassNames.FLOAT)
+        || className.equals(QualifiedClassNames.DOUBLE)
+        || className.equals(QualifiedClassNames.BOOLEAN);
+  }
+
+  private static boolean isGenericType(JavaType javaType) {
+    return javaType.isArrayType() || javaType.isMapType();
+  }
+
+  private static String additionalPropertiesTypeConstantName() {
+    return "ADDITIONAL_PROPERTIES_VALUE_TYPE";
+  }
+
+  /**
+   * The constants of the members are named after the name of the member itself instead of an
+   * upper-case variant of it, as the latter is not unique, e.g. for {@code fooBar} and {@code
+   * foo_bar}. The prefix avoids a clash with the constant of the additional properties.
+   */
+  private static String nameConstantName(JavaPojoMember member) {
+    return String.format("NAME_%s", member.getName());
+  }
+
+  private static String typeConstantName(JavaPojoMember member) {
+    return String.format("TYPE_%s", member.getName());
+  }
+}
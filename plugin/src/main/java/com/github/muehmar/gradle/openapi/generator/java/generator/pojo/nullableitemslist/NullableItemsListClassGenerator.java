@@ -0,0 +1,81 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.nullableitemslist;
+
+import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.OPENAPI_UTIL_PACKAGE;
+
+import io.github.muehmar.codegenerator.Generator;
+
+/**
+ * Generates the util class used by the DTO's to convert lists with nullable items from and to lists
+ * of optionals. Wrapping returns a read-only view which converts the items when accessed,
+ * unwrapping copies the list once.
+ */
+public class NullableItemsListClassGenerator {
+  public static final String CLASSNAME = "NullableItemsList";
+
+  private NullableItemsListClassGenerator() {}
+
+  public static Generator<Void, Void> nullableItemsListClassGenerator() {
+    return Generator.constant(
+        "package %s;\n"
+            + "\n"
+            + "import java.util.AbstractList;\n"
+            + "import java.util.ArrayList;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Optional;\n"
+            + "import java.util.RandomAccess;\n"
+            + "\n"
+            + "/**\n"
+            + " * Converts lists with nullable items from and to lists of {@link Optional}'s. Wrapping returns a\n"
+            + " * read-only view which converts each item when accessed, unwrapping copies the list.\n"
+            + " */\n"
+            + "public final class %s {\n"
+            + "  private %s() {}\n"
+            + "\n"
+            + "  public static <T> List<Optional<T>> wrap(List<T> list) {\n"
+            + "    if (list == null) {\n"
+            + "      return null;\n"
+            + "    } else if (list instanceof RandomAccess) {\n"
+            + "      return new RandomAccessWrappedList<>(list);\n"
+            + "    }\n"
+            + "    return new WrappedList<>(list);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static <T> List<T> unwrap(List<Optional<T>> list) {\n"
+            + "    if (list == null) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    final List<T> unwrapped = new ArrayList<>(list.size());\n"
+            + "    for (Optional<T> value : list) {\n"
+            + "      unwrapped.add(value.orElse(null));\n"
+            + "    }\n"
+            + "    return unwrapped;\n"
+            + "  }\n"
+            + "\n"
+            + "  private static class WrappedList<T> extends AbstractList<Optional<T>> {\n"
+            + "    private final List<T> list;\n"
+            + "\n"
+            + "    private WrappedList(List<T> list) {\n"
+            + "      this.list = list;\n"
+            + "    }\n"
+            + "\n"
+            + "    @Override\n"
+            + "    public Optional<T> get(int index) {\n"
+            + "      return Optional.ofNullable(list.get(index));\n"
+            + "    }\n"
+            + "\n"
+            + "    @Override\n"
+            + "    public int size() {\n"
+            + "      return list.size();\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  private static final class RandomAccessWrappedList<T> extends WrappedList<T>\n"
+            + "      implements RandomAccess {\n"
+            + "    private RandomAccessWrappedList(List<T> list) {\n"
+            + "      super(list);\n"
+            + "    }\n"
+            + "  }\n"
+            + "}",
+        OPENAPI_UTIL_PACKAGE, CLASSNAME, CLASSNAME);
+  }
+}
@@ -3,11 +3,11 @@ package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.nullable
 import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.ref;
 import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_LIST;
 import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_OPTIONAL;
-import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_STREAM_COLLECTORS;
 import static io.github.muehmar.codegenerator.Generator.constant;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PRIVATE;
 import static io.github.muehmar.codegenerator.java.JavaModifier.STATIC;
 
+import com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.MethodGen;
@@ -30,16 +30,10 @@ public class UnwrapNullableItemsListMethod {
         .build()
         .append(ref(JAVA_UTIL_OPTIONAL))
         .append(ref(JAVA_UTIL_LIST))
-        .append(ref(JAVA_UTIL_STREAM_COLLECTORS));
+        .append(ref(OpenApiUtilRefs.NULLABLE_ITEMS_LIST));
   }
 
   private static <A> Generator<A, PojoSettings> content() {
-    return Generator.<A, PojoSettings>emptyGen()
-        .append(constant("if (list == null) {"))
-        .append(constant("return null;"), 1)
-        .append(constant("}"))
-        .append(
-            constant(
-                "return list.stream().map(value -> value.orElse(null)).collect(Collectors.toList());"));
+    return constant("return %s.unwrap(list);", NullableItemsListClassGenerator.CLASSNAME);
   }
 }
@@ -0,0 +1,78 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder;
+
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import lombok.Value;
+
+/**
+ * The stages of a staged builder as interfaces which are all implemented by a single class. Every
+ * setter of this class returns the instance itself instead of wrapping the builder in a new
+ * instance of the next stage, i.e. the whole chain of stages allocates only one instance. The
+ * compile-time enforcement of the stages is kept, as the factory methods and setters are still
+ * declared with the stage interfaces as return types.
+ *
+ * <p>Methods with the same signature in different stages are implemented only once, they return the
+ * implementing class which is a subtype of all stage interfaces.
+ */
+@Value
+class SingleInstanceStages {
+  String className;
+  PList<Stage> stages;
+
+  public static SingleInstanceStages fromPojo(
+      StagedBuilderVariant builderVariant, JavaObjectPojo pojo, PojoSettings settings) {
+    final PList<Stage> stages =
+        BuilderStage.createStages(builderVariant, pojo)
+            .toPList()
+            .map(stage -> new Stage(stage.getName(), StageMethods.forStage(stage, settings)));
+    return new SingleInstanceStages(className(builderVariant), stages);
+  }
+
+  public static String className(StagedBuilderVariant builderVariant) {
+    return String.format("%sStagedBuilder", builderVariant.getBuilderNamePrefix());
+  }
+
+  public PList<String> getStageNames() {
+    return stages.map(Stage::getName);
+  }
+
+  /**
+   * Returns the methods of the implementing class, each signature only once.
+   *
+   * @throws IllegalStateException if methods with the same signature but a different implementation
+   *     exist in different stages
+   */
+  public PList<StageMethod> implementationMethods() {
+    final PList<StageMethod> methods = stages.flatMap(Stage::getMethods);
+    return methods
+        .distinct(StageMethod::signature)
+        .map(method -> assertSameImplementations(method, methods))
+        .map(method -> method.forImplementingClass(className));
+  }
+
+  private static StageMethod assertSameImplementations(
+      StageMethod method, PList<StageMethod> methods) {
+    final boolean hasConflictingMethod =
+        methods.exists(
+            other ->
+                other.signature().equals(method.signature())
+                    && not(other.hasSameImplementation(method)));
+    if (hasConflictingMethod) {
+      throw new IllegalStateException(
+          String.format(
+              "The method %s is created with different implementations in the stages of the"
+                  + " staged builder",
+              method.signature()));
+    }
+    return method;
+  }
+
+  @Value
+  public static class Stage {
+    String name;
+    PList<StageMethod> methods;
+  }
+}
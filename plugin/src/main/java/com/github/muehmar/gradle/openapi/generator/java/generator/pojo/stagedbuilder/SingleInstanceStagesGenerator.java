@@ -0,0 +1,115 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder;
+
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
+import static io.github.muehmar.codegenerator.Generator.constant;
+import static io.github.muehmar.codegenerator.Generator.newLine;
+import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
+import static io.github.muehmar.codegenerator.java.MethodGen.Argument.argument;
+
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.SingleInstanceStages.Stage;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StageMethod.BuilderCall;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.java.JavaDocGenerator;
+import io.github.muehmar.codegenerator.java.MethodGenBuilder;
+
+/**
+ * Generates the stage interfaces and the single class implementing all stages, see {@link
+ * SingleInstanceStages}.
+ */
+class SingleInstanceStagesGenerator {
+  private SingleInstanceStagesGenerator() {}
+
+  public static Generator<SingleInstanceStages, PojoSettings> singleInstanceStagesGenerator() {
+    return Generator.<SingleInstanceStages, PojoSettings>emptyGen()
+        .appendList(stageInterface(), SingleInstanceStages::getStages, newLine())
+        .appendSingleBlankLine()
+        .append(implementationClass());
+  }
+
+  private static Generator<Stage, PojoSettings> stageInterface() {
+    return Generator.<Stage, PojoSettings>emptyGen()
+        .append((stage, s, w) -> w.println("public interface %s {", stage.getName()))
+        .appendList(interfaceMethod().indent(1), Stage::getMethods, newLine())
+        .append(constant("}"));
+  }
+
+  private static Generator<StageMethod, PojoSettings> interfaceMethod() {
+    return JavaDocGenerator.<PojoSettings>javaDoc()
+        .<StageMethod>contraMap(StageMethod::getJavaDoc)
+        .append(
+            (method, s, w) ->
+                w.println(
+                    "%s %s(%s);",
+                    method.getReturnType(),
+                    method.getName(),
+                    method
+                        .getArguments()
+                        .map(arg -> String.format("%s %s", arg.getType(), arg.getName()))
+                        .mkString(", ")))
+        .append((method, s, w) -> method.getRefs().apply(w));
+  }
+
+  private static Generator<SingleInstanceStages, PojoSettings> implementationClass() {
+    return Generator.<SingleInstanceStages, PojoSettings>emptyGen()
+        .append(
+            (stages, s, w) ->
+                w.println(
+                    "private static final class %s implements %s {",
+                    stages.getClassName(), stages.getStageNames().mkString(", ")))
+        .append(constant("private final Builder builder;"), 1)
+        .appendNewLine()
+        .append(
+            (stages, s, w) -> w.println("private %s(Builder builder) {", stages.getClassName()), 1)
+        .append(constant("this.builder = builder;"), 2)
+        .append(constant("}"), 1)
+        .appendNewLine()
+        .appendList(
+            implementationMethod().indent(1),
+            SingleInstanceStages::implementationMethods,
+            newLine())
+        .append(constant("}"));
+  }
+
+  private static Generator<StageMethod, PojoSettings> implementationMethod() {
+    return Generator.<StageMethod, PojoSettings>constant("@Override")
+        .append(
+            MethodGenBuilder.<StageMethod, PojoSettings>create()
+                .modifiers(PUBLIC)
+                .noGenericTypes()
+                .returnType(StageMethod::getReturnType)
+                .methodName((method, settings) -> method.getName())
+                .arguments(
+                    method ->
+                        method.getArguments().map(arg -> argument(arg.getType(), arg.getName())))
+                .doesNotThrow()
+                .content(implementationMethodContent())
+                .build());
+  }
+
+  private static Generator<StageMethod, PojoSettings> implementationMethodContent() {
+    return Generator.<StageMethod, PojoSettings>emptyGen()
+        .appendList(builderCall(), StageMethod::getBuilderCalls, newLine())
+        .append(
+            (method, s, w) -> w.println("return %s;", method.getReturnExpression().orElse("this")));
+  }
+
+  private static Generator<BuilderCall, PojoSettings> builderCall() {
+    final Generator<BuilderCall, PojoSettings> call =
+        (builderCall, s, w) ->
+            w.println("builder.%s(%s);", builderCall.getMethodName(), builderCall.getArguments());
+    final Generator<BuilderCall, PojoSettings> conditionalCall =
+        Generator.<BuilderCall, PojoSettings>emptyGen()
+            .append(
+                (builderCall, s, w) ->
+                    builderCall
+                        .getCondition()
+                        .map(condition -> w.println("if (%s) {", condition))
+                        .orElse(w))
+            .append(call, 1)
+            .append(constant("}"));
+    return Generator.<BuilderCall, PojoSettings>emptyGen()
+        .append(call.filter(builderCall -> not(builderCall.getCondition().isPresent())))
+        .append(conditionalCall.filter(builderCall -> builderCall.getCondition().isPresent()));
+  }
+}
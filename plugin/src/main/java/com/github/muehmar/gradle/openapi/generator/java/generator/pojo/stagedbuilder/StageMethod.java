@@ -0,0 +1,102 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder;
+
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
+
+import ch.bluecare.commons.data.PList;
+import io.github.muehmar.codegenerator.writer.Writer;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import lombok.Value;
+
+/**
+ * A single method of a stage of the staged builder. The method delegates to the builder via the
+ * {@link BuilderCall}'s and returns either the next stage or the result of the {@code
+ * returnExpression}.
+ */
+@Value
+class StageMethod {
+  String javaDoc;
+  String returnType;
+  String name;
+  PList<Argument> arguments;
+  PList<BuilderCall> builderCalls;
+  Optional<String> returnExpression;
+  UnaryOperator<Writer> refs;
+
+  /** Creates a method which returns the next stage with the given name. */
+  public static StageMethod nextStageMethod(
+      String javaDoc,
+      String nextStageName,
+      String name,
+      PList<Argument> arguments,
+      PList<BuilderCall> builderCalls,
+      UnaryOperator<Writer> refs) {
+    return new StageMethod(
+        javaDoc, nextStageName, name, arguments, builderCalls, Optional.empty(), refs);
+  }
+
+  /** Creates a method which returns the given expression instead of a next stage. */
+  public static StageMethod returningMethod(
+      String returnType, String name, String returnExpression) {
+    return new StageMethod(
+        "",
+        returnType,
+        name,
+        PList.empty(),
+        PList.empty(),
+        Optional.of(returnExpression),
+        writer -> writer);
+  }
+
+  public boolean returnsNextStage() {
+    return not(returnExpression.isPresent());
+  }
+
+  /** Name and argument types of this method, the argument names are not part of the signature. */
+  public String signature() {
+    return String.format("%s(%s)", name, arguments.map(Argument::getType).mkString(", "));
+  }
+
+  public boolean hasSameImplementation(StageMethod other) {
+    return builderCalls.equals(other.builderCalls)
+        && returnExpression.equals(other.returnExpression);
+  }
+
+  /**
+   * Returns this method as implemented by the class with the given name which implements all
+   * stages, i.e. returning the next stage returns the implementing class itself.
+   */
+  public StageMethod forImplementingClass(String className) {
+    return new StageMethod(
+        javaDoc,
+        returnsNextStage() ? className : returnType,
+        name,
+        arguments,
+        builderCalls,
+        returnExpression,
+        refs);
+  }
+
+  @Value
+  public static class Argument {
+    String type;
+    String name;
+  }
+
+  /** Call of a builder method which is executed only if the optional condition is true. */
+  @Value
+  public static class BuilderCall {
+    Optional<String> condition;
+    String methodName;
+    String arguments;
+
+    public static BuilderCall builderCall(String methodName, String arguments) {
+      return new BuilderCall(Optional.empty(), methodName, arguments);
+    }
+
+    public static BuilderCall conditionalBuilderCall(
+        String condition, String methodName, String arguments) {
+      return new BuilderCall(Optional.of(condition), methodName, arguments);
+    }
+  }
+}
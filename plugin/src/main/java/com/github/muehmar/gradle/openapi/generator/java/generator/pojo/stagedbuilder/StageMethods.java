@@ -0,0 +1,276 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.fieldRefs;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.javaTypeRefs;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StageMethod.BuilderCall.builderCall;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StageMethod.BuilderCall.conditionalBuilderCall;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StageMethod.nextStageMethod;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StageMethod.returningMethod;
+import static com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties.additionalPropertiesName;
+import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_MAP;
+import static com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs.JAVA_UTIL_OPTIONAL;
+import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.TRISTATE;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StageMethod.Argument;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.StageMethod.BuilderCall;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.allof.AllOfBuilderGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.allof.AllOfBuilderStage;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.anyof.AnyOfBuilderGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.anyof.AnyOfBuilderStage;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.oneof.OneOfBuilderGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.oneof.OneOfBuilderStage;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.property.LastOptionalPropertyBuilderStage;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.property.LastRequiredPropertyBuilderStage;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.property.OptionalMemberBuilderGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.property.RequiredMemberBuilderGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.setter.model.Setter;
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder.setter.model.SetterMember;
+import com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties;
+import com.github.muehmar.gradle.openapi.generator.java.model.composition.JavaAnyOfComposition;
+import com.github.muehmar.gradle.openapi.generator.java.model.composition.JavaOneOfComposition;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.auxiliary.MultiPojoContainer;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.auxiliary.SinglePojoContainer;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+
+/**
+ * Creates the methods of a single stage of the staged builder. The methods are the same as the ones
+ * created by the generators of the stage classes, see for example {@link AllOfBuilderGenerator}.
+ */
+class StageMethods {
+  private StageMethods() {}
+
+  public static PList<StageMethod> forStage(BuilderStage stage, PojoSettings settings) {
+    return stage.fold(
+        allOfStage -> allOfStageMethods(allOfStage, settings),
+        oneOfStage -> oneOfStageMethods(oneOfStage, settings),
+        anyOfStage -> anyOfStageMethods(anyOfStage, settings),
+        requiredStage ->
+            setterMethods(
+                RequiredMemberBuilderGenerator.memberSetters(),
+                new SetterMember(requiredStage.getNextStage(), requiredStage.getMember()),
+                settings),
+        StageMethods::lastRequiredStageMethods,
+        optionalStage ->
+            setterMethods(
+                OptionalMemberBuilderGenerator.memberSetters(),
+                new SetterMember(optionalStage.getNextStage(), optionalStage.getMember()),
+                settings),
+        lastOptionalStage -> lastOptionalStageMethods(lastOptionalStage, settings));
+  }
+
+  private static PList<StageMethod> allOfStageMethods(
+      AllOfBuilderStage stage, PojoSettings settings) {
+    final PList<StageMethod> memberSetters =
+        PList.fromOptional(stage.getMemberStageObjects())
+            .flatMap(
+                objects ->
+                    setterMethods(
+                        AllOfBuilderGenerator.memberSetters(),
+                        new SetterMember(objects.getNextStage(), objects.getMember()),
+                        settings));
+    final PList<StageMethod> dtoSetter =
+        PList.fromOptional(stage.getSubPojoStageObjects())
+            .map(
+                objects ->
+                    dtoSetter(stage.getAllOfSubPojo(), objects.getNextStage().getName(), settings));
+    return memberSetters.concat(dtoSetter);
+  }
+
+  private static PList<StageMethod> oneOfStageMethods(
+      OneOfBuilderStage stage, PojoSettings settings) {
+    final JavaOneOfComposition composition = stage.getOneOfComposition();
+    final String nextStageName = stage.getNextStage().getName();
+    final String containerName =
+        new SinglePojoContainer(stage.getParentPojo().getJavaPojoName(), composition)
+            .getContainerName()
+            .asString();
+    return composition
+        .getPojos()
+        .toPList()
+        .map(pojo -> dtoSetter(pojo, nextStageName, settings))
+        .add(
+            containerSetter(
+                OneOfBuilderGenerator.CONTAINER_NAME
+                    .prefixedMethodName(settings.getBuilderMethodPrefix())
+                    .asString(),
+                containerName,
+                composition.getPojos().toPList(),
+                nextStageName,
+                settings));
+  }
+
+  private static PList<StageMethod> anyOfStageMethods(
+      AnyOfBuilderStage stage, PojoSettings settings) {
+    final JavaAnyOfComposition composition = stage.getAnyOfComposition();
+    final String dtoSetterNextStageName =
+        composition.hasDiscriminator()
+            ? stage.getNextStage().getName()
+            : stage.getRemainingAnyOfBuilderStage().getName();
+    final PList<StageMethod> dtoSetters =
+        composition
+            .getPojos()
+            .toPList()
+            .map(pojo -> dtoSetter(pojo, dtoSetterNextStageName, settings));
+    if (stage.getStageType().equals(AnyOfBuilderStage.StageType.FIRST_STAGE)) {
+      final String containerName =
+          new MultiPojoContainer(stage.getParentPojo().getJavaPojoName(), composition)
+              .getContainerName()
+              .asString();
+      return dtoSetters.add(
+          containerSetter(
+              AnyOfBuilderGenerator.CONTAINER_NAME
+                  .prefixedMethodName(settings.getBuilderMethodPrefix())
+                  .asString(),
+              containerName,
+              composition.getPojos().toPList(),
+              stage.getNextStage().getName(),
+              settings));
+    } else {
+      return dtoSetters.concat(propertyStageMethods(stage.getNextStage(), settings));
+    }
+  }
+
+  /**
+   * Methods of the stage following the anyOf stages, which can be called after at least one anyOf
+   * dto is set. Further compositions can not follow the anyOf stages.
+   */
+  private static PList<StageMethod> propertyStageMethods(
+      BuilderStage stage, PojoSettings settings) {
+    return stage.fold(
+        ignore -> PList.empty(),
+        ignore -> PList.empty(),
+        ignore -> PList.empty(),
+        requiredStage -> forStage(requiredStage, settings),
+        lastRequiredStage -> forStage(lastRequiredStage, settings),
+        optionalStage -> forStage(optionalStage, settings),
+        lastOptionalStage -> forStage(lastOptionalStage, settings));
+  }
+
+  private static PList<StageMethod> lastRequiredStageMethods(
+      LastRequiredPropertyBuilderStage stage) {
+    return PList.of(
+        nextStageMethod(
+            "",
+            stage.getNextStage().getName(),
+            "andAllOptionals",
+            PList.empty(),
+            PList.empty(),
+            writer -> writer),
+        returningMethod("Builder", "andOptionals", "builder"),
+        buildMethod(stage.getParentPojo()));
+  }
+
+  private static PList<StageMethod> lastOptionalStageMethods(
+      LastOptionalPropertyBuilderStage stage, PojoSettings settings) {
+    final JavaAdditionalProperties additionalProperties =
+        stage.getParentPojo().getAdditionalProperties();
+    final PList<StageMethod> additionalPropertiesSetters =
+        additionalProperties.isAllowed()
+            ? additionalPropertiesSetters(stage.getName(), additionalProperties, settings)
+            : PList.empty();
+    return additionalPropertiesSetters.add(buildMethod(stage.getParentPojo()));
+  }
+
+  private static PList<StageMethod> additionalPropertiesSetters(
+      String stageName, JavaAdditionalProperties additionalProperties, PojoSettings settings) {
+    final String valueType = additionalProperties.getType().getParameterizedClassName().asString();
+    final boolean nullable = additionalProperties.getType().getNullability().isNullable();
+    final String wrappedValueType =
+        String.format(nullable ? "Tristate<%s>" : "Optional<%s>", valueType);
+    final String wrapperRef = nullable ? TRISTATE : JAVA_UTIL_OPTIONAL;
+    final PList<StageMethod> singlePropertySetters =
+        PList.of(valueType, wrappedValueType)
+            .map(
+                argumentType ->
+                    nextStageMethod(
+                        "",
+                        stageName,
+                        "addAdditionalProperty",
+                        PList.of(
+                            new Argument("String", "key"), new Argument(argumentType, "value")),
+                        PList.single(builderCall("addAdditionalProperty", "key, value")),
+                        writer ->
+                            javaTypeRefs()
+                                .generate(
+                                    additionalProperties.getType(),
+                                    settings,
+                                    writer.ref(wrapperRef))));
+    final StageMethod allPropertiesSetter =
+        nextStageMethod(
+            "",
+            stageName,
+            "setAdditionalProperties",
+            PList.single(
+                new Argument(
+                    String.format("Map<String, %s>", valueType),
+                    additionalPropertiesName().asString())),
+            PList.single(
+                builderCall("setAdditionalProperties", additionalPropertiesName().asString())),
+            writer -> writer.ref(JAVA_UTIL_MAP));
+    return singlePropertySetters.add(allPropertiesSetter);
+  }
+
+  private static StageMethod buildMethod(JavaObjectPojo parentPojo) {
+    return returningMethod(parentPojo.getClassName().asString(), "build", "builder.build()");
+  }
+
+  private static PList<StageMethod> setterMethods(
+      PList<Setter> setters, SetterMember setterMember, PojoSettings settings) {
+    return setters
+        .filter(setter -> setter.includeInBuilder(setterMember))
+        .map(setter -> setterMethod(setter, setterMember, settings));
+  }
+
+  private static StageMethod setterMethod(
+      Setter setter, SetterMember setterMember, PojoSettings settings) {
+    final String memberName = setterMember.getMember().getName().asString();
+    final String methodName = setter.methodName(setterMember, settings);
+    return nextStageMethod(
+        setterMember.getMember().getDescription(),
+        setterMember.nextStageClassName(),
+        methodName,
+        PList.single(new Argument(setter.argumentType(setterMember), memberName)),
+        PList.single(builderCall(methodName, memberName)),
+        writer -> setter.addRefs(fieldRefs().generate(setterMember.getMember(), settings, writer)));
+  }
+
+  private static StageMethod dtoSetter(
+      JavaObjectPojo pojo, String nextStageName, PojoSettings settings) {
+    final String methodName =
+        pojo.prefixedClassNameForMethod(settings.getBuilderMethodPrefix()).asString();
+    return nextStageMethod(
+        "",
+        nextStageName,
+        methodName,
+        PList.single(new Argument(pojo.getClassName().asString(), "dto")),
+        PList.single(builderCall(methodName, "dto")),
+        writer -> writer);
+  }
+
+  private static StageMethod containerSetter(
+      String methodName,
+      String containerName,
+      PList<JavaObjectPojo> pojos,
+      String nextStageName,
+      PojoSettings settings) {
+    final PList<BuilderCall> builderCalls =
+        pojos.map(
+            pojo -> {
+              final String getter =
+                  String.format("container.%s()", pojo.prefixedClassNameForMethod("get"));
+              return conditionalBuilderCall(
+                  String.format("%s != null", getter),
+                  pojo.prefixedClassNameForMethod(settings.getBuilderMethodPrefix()).asString(),
+                  getter);
+            });
+    return nextStageMethod(
+        "",
+        nextStageName,
+        methodName,
+        PList.single(new Argument(containerName, "container")),
+        builderCalls,
+        writer -> writer);
+  }
+}
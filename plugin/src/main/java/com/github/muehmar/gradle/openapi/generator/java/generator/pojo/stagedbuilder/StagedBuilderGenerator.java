@@ -68,12 +68,35 @@ public class StagedBuilderGenerator implements Generator<JavaObjectPojo, PojoSet
         .content(
             privateBuilderStagesClassConstructor()
                 .appendSingleBlankLine()
-                .append(singleBuilderVariantContent(FULL))
+                .append(builderVariantContent(FULL))
                 .appendSingleBlankLine()
-                .append(singleBuilderVariantContent(STANDARD)))
+                .append(builderVariantContent(STANDARD)))
         .build();
   }
 
+  private static Generator<JavaObjectPojo, PojoSettings> builderVariantContent(
+      StagedBuilderVariant builderVariant) {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            singleBuilderVariantContent(builderVariant)
+                .filter((pojo, s) -> !s.isSingleInstanceStagedBuilder()))
+        .append(
+            singleInstanceVariantContent(builderVariant)
+                .filter((pojo, s) -> s.isSingleInstanceStagedBuilder()));
+  }
+
+  /**
+   * Creates the stages as interfaces which are all implemented by a single class, i.e. the chain of
+   * stages allocates only one instance. See {@link SingleInstanceStages}.
+   */
+  private static Generator<JavaObjectPojo, PojoSettings> singleInstanceVariantContent(
+      StagedBuilderVariant builderVariant) {
+    final Generator<SingleInstanceStages, PojoSettings> generator =
+        SingleInstanceStagesGenerator.singleInstanceStagesGenerator();
+    return (pojo, s, w) ->
+        generator.generate(SingleInstanceStages.fromPojo(builderVariant, pojo, s), s, w);
+  }
+
   private static Generator<JavaObjectPojo, PojoSettings> privateBuilderStagesClassConstructor() {
     return Generator.constant("private %s() {}", BUILDER_STAGES_CLASS_NAME);
   }
@@ -116,7 +139,9 @@ public class StagedBuilderGenerator implements Generator<JavaObjectPojo, PojoSet
                 w.println(
                     "return new %s.%s(new Builder());",
                     BUILDER_STAGES_CLASS_NAME,
-                    BuilderStage.createStages(builderVariant, pojo).head().getName()),
+                    s.isSingleInstanceStagedBuilder()
+                        ? SingleInstanceStages.className(builderVariant)
+                        : BuilderStage.createStages(builderVariant, pojo).head().getName()),
             1)
         .append(constant("}"));
   }
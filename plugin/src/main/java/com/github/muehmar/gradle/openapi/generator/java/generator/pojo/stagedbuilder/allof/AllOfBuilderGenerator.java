@@ -23,6 +23,28 @@ import java.util.Optional;
 import lombok.Value;
 
 public class AllOfBuilderGenerator {
+  private static final Setter NORMAL_SETTER =
+      fullSetterBuilder()
+          .type(SetterType.DEFAULT)
+          .includeInBuilder(ignore -> true)
+          .typeFormat("%s")
+          .addRefs(writer -> writer)
+          .build();
+  private static final Setter OPTIONAL_SETTER =
+      fullSetterBuilder()
+          .type(SetterType.DEFAULT)
+          .includeInBuilder(AllOfBuilderGenerator::isJavaOptional)
+          .typeFormat("Optional<%s>")
+          .addRefs(writer -> writer.ref(JavaRefs.JAVA_UTIL_OPTIONAL))
+          .build();
+  private static final Setter TRISTATE_SETTER =
+      fullSetterBuilder()
+          .type(SetterType.DEFAULT)
+          .includeInBuilder(m -> m.getMember().isOptionalAndNullable())
+          .typeFormat("Tristate<%s>")
+          .addRefs(writer -> writer.ref(OpenApiUtilRefs.TRISTATE))
+          .build();
+
   private AllOfBuilderGenerator() {}
 
   public static Generator<JavaObjectPojo, PojoSettings> allOfBuilderGenerator(
@@ -45,43 +67,18 @@ public class AllOfBuilderGenerator {
   }
 
   private static Generator<AllOfBuilderStage, PojoSettings> normalSetter() {
-    final Setter setter =
-        fullSetterBuilder()
-            .type(SetterType.DEFAULT)
-            .includeInBuilder(ignore -> true)
-            .typeFormat("%s")
-            .addRefs(writer -> writer)
-            .build();
-    return Generator.<AllOfBuilderStage, PojoSettings>emptyGen()
-        .appendOptional(
-            singleMemberSetterGenerator(
-                PList.of(setter, setter.forType(SetterType.NULLABLE_ITEMS_LIST))),
-            AllOfBuilderGenerator::standardSetterMemberFromStage);
+    return memberSetter(NORMAL_SETTER);
   }
 
   private static Generator<AllOfBuilderStage, PojoSettings> optionalSetter() {
-    final Setter setter =
-        fullSetterBuilder()
-            .type(SetterType.DEFAULT)
-            .includeInBuilder(AllOfBuilderGenerator::isJavaOptional)
-            .typeFormat("Optional<%s>")
-            .addRefs(writer -> writer.ref(JavaRefs.JAVA_UTIL_OPTIONAL))
-            .build();
-    return Generator.<AllOfBuilderStage, PojoSettings>emptyGen()
-        .appendOptional(
-            singleMemberSetterGenerator(
-                PList.of(setter, setter.forType(SetterType.NULLABLE_ITEMS_LIST))),
-            AllOfBuilderGenerator::standardSetterMemberFromStage);
+    return memberSetter(OPTIONAL_SETTER);
   }
 
   private static Generator<AllOfBuilderStage, PojoSettings> tristateSetter() {
-    final Setter setter =
-        fullSetterBuilder()
-            .type(SetterType.DEFAULT)
-            .includeInBuilder(m -> m.getMember().isOptionalAndNullable())
-            .typeFormat("Tristate<%s>")
-            .addRefs(writer -> writer.ref(OpenApiUtilRefs.TRISTATE))
-            .build();
+    return memberSetter(TRISTATE_SETTER);
+  }
+
+  private static Generator<AllOfBuilderStage, PojoSettings> memberSetter(Setter setter) {
     return Generator.<AllOfBuilderStage, PojoSettings>emptyGen()
         .appendOptional(
             singleMemberSetterGenerator(
@@ -89,6 +86,12 @@ public class AllOfBuilderGenerator {
             AllOfBuilderGenerator::standardSetterMemberFromStage);
   }
 
+  /** Returns the setters of a member stage in the order they are generated. */
+  public static PList<Setter> memberSetters() {
+    return PList.of(NORMAL_SETTER, OPTIONAL_SETTER, TRISTATE_SETTER)
+        .flatMap(setter -> PList.of(setter, setter.forType(SetterType.NULLABLE_ITEMS_LIST)));
+  }
+
   private static Generator<AllOfBuilderStage, PojoSettings> dtoSetter() {
     final MethodGen<AllOfPojoStage, PojoSettings> generator =
         MethodGenBuilder.<AllOfPojoStage, PojoSettings>create()
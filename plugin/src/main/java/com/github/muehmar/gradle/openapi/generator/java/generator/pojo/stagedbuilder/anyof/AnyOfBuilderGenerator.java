@@ -23,7 +23,7 @@ import io.github.muehmar.codegenerator.java.MethodGenBuilder;
 import lombok.Value;
 
 public class AnyOfBuilderGenerator {
-  private static final JavaName CONTAINER_NAME = JavaName.fromString("AnyOfContainer");
+  public static final JavaName CONTAINER_NAME = JavaName.fromString("AnyOfContainer");
 
   private AnyOfBuilderGenerator() {}
 
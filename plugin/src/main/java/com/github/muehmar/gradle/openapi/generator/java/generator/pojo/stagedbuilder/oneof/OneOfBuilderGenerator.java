@@ -18,7 +18,7 @@ import io.github.muehmar.codegenerator.java.MethodGenBuilder;
 import lombok.Value;
 
 public class OneOfBuilderGenerator {
-  private static final JavaName CONTAINER_NAME = JavaName.fromString("OneOfContainer");
+  public static final JavaName CONTAINER_NAME = JavaName.fromString("OneOfContainer");
 
   private OneOfBuilderGenerator() {}
 
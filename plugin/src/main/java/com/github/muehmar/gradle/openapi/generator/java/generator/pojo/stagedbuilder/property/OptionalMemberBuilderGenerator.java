@@ -64,15 +64,18 @@ public class OptionalMemberBuilderGenerator {
   }
 
   private static Generator<SetterMember, PojoSettings> singleMemberSetterMethods() {
-    final PList<Setter> setters =
-        PList.of(
-            NORMAL_SETTER,
-            OPTIONAL_SETTER,
-            TRISTATE_SETTER,
-            NORMAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST),
-            OPTIONAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST),
-            TRISTATE_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST));
-    return singleMemberSetterGenerator(setters);
+    return singleMemberSetterGenerator(memberSetters());
+  }
+
+  /** Returns the setters of a member stage in the order they are generated. */
+  public static PList<Setter> memberSetters() {
+    return PList.of(
+        NORMAL_SETTER,
+        OPTIONAL_SETTER,
+        TRISTATE_SETTER,
+        NORMAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST),
+        OPTIONAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST),
+        TRISTATE_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST));
   }
 
   public static Iterable<OptionalPropertyBuilderStage> stagesFromPojo(
@@ -56,13 +56,16 @@ public class RequiredMemberBuilderGenerator {
   }
 
   private static Generator<SetterMember, PojoSettings> singleMemberSetterMethods() {
-    final PList<Setter> setters =
-        PList.of(
-            NORMAL_SETTER,
-            OPTIONAL_SETTER,
-            NORMAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST),
-            OPTIONAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST));
-    return singleMemberSetterGenerator(setters);
+    return singleMemberSetterGenerator(memberSetters());
+  }
+
+  /** Returns the setters of a member stage in the order they are generated. */
+  public static PList<Setter> memberSetters() {
+    return PList.of(
+        NORMAL_SETTER,
+        OPTIONAL_SETTER,
+        NORMAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST),
+        OPTIONAL_SETTER.forType(SetterBuilderImpl.SetterType.NULLABLE_ITEMS_LIST));
   }
 
   public static Iterable<RequiredPropertyBuilderStage> stagesFromPojo(
@@ -3,6 +3,11 @@ package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.validati
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyValidationGenerator.memberValidationGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyValidationGenerator.propertyValueValidationGenerator;
 import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyValidationGenerator.requiredAdditionalPropertyGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.RESULT_ARGUMENT_NAME;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.memberViolationsGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.requiredAdditionalPropertyViolationsGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.unnamedPropertyValueViolationsGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.validateMethodName;
 import static com.github.muehmar.gradle.openapi.generator.java.model.composition.DiscriminatableJavaComposition.Type.ANY_OF;
 import static com.github.muehmar.gradle.openapi.generator.java.model.composition.DiscriminatableJavaComposition.Type.ONE_OF;
 import static com.github.muehmar.gradle.openapi.generator.java.model.name.MethodNames.Composition.isValidAgainstTheCorrectSchemaMethodName;
@@ -13,9 +18,11 @@ import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
 
 import ch.bluecare.commons.data.NonEmptyList;
 import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.JavaEscaper;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConditionsWriter;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.IsPropertyValidMethodName;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyValue;
+import com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties;
 import com.github.muehmar.gradle.openapi.generator.java.model.composition.JavaAllOfComposition;
 import com.github.muehmar.gradle.openapi.generator.java.model.composition.JavaAnyOfComposition;
 import com.github.muehmar.gradle.openapi.generator.java.model.composition.JavaOneOfComposition;
@@ -28,6 +35,7 @@ import com.github.muehmar.gradle.openapi.generator.model.constraints.PropertyCou
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.JavaGenerators;
+import io.github.muehmar.codegenerator.java.MethodGen.Argument;
 import io.github.muehmar.codegenerator.writer.Writer;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -60,7 +68,8 @@ public class ValidatorClassGenerator {
         .appendSingleBlankLine()
         .append(additionalPropertiesValidationMethods())
         .appendSingleBlankLine()
-        .append(isValidMethod());
+        .append(isValidMethod())
+        .append(violationsMethods());
   }
 
   private static Generator<JavaObjectPojo, PojoSettings> additionalPropertiesValidationMethods() {
@@ -192,6 +201,185 @@ public class ValidatorClassGenerator {
         .filter(pojo -> pojo.getAdditionalProperties().isAllowed());
   }
 
+  private static Generator<JavaObjectPojo, PojoSettings> violationsMethods() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .appendSingleBlankLine()
+        .appendList(memberViolationsGenerator(), JavaObjectPojo::getMembers, newLine())
+        .appendSingleBlankLine()
+        .append(requiredAdditionalPropertyViolationsGenerator())
+        .appendSingleBlankLine()
+        .append(additionalPropertiesViolationsMethods())
+        .appendSingleBlankLine()
+        .append(validateDtoMethod())
+        .appendSingleBlankLine()
+        .append(validateMethod())
+        .filter((pojo, settings) -> settings.isGenerateValidateMethod());
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> additionalPropertiesViolationsMethods() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            unnamedPropertyValueViolationsGenerator(),
+            (Function<JavaObjectPojo, PropertyValue>) PropertyValue::fromAdditionalProperties)
+        .filter(pojo -> pojo.getAdditionalProperties().isAllowed());
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> validateMethod() {
+    return JavaGenerators.<JavaObjectPojo, PojoSettings>methodGen()
+        .modifiers(PRIVATE)
+        .noGenericTypes()
+        .returnType("boolean")
+        .methodName("validate")
+        .singleArgument(pojo -> new Argument("ValidationResult", RESULT_ARGUMENT_NAME))
+        .doesNotThrow()
+        .content(validateMethodContent())
+        .build();
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> validateMethodContent() {
+    return (pojo, settings, writer) -> {
+      final PList<Condition> allConditions =
+          createPropertyViolationsConditions(pojo)
+              .concat(createAllOfDtoViolationsConditions(pojo))
+              .concat(additionalPropertiesViolationsCondition(pojo))
+              .concat(validateDtoCondition(pojo, settings));
+      final PList<Writer> conditionWriters =
+          allConditions.map(gen -> gen.generate(pojo, settings, javaWriter()));
+      return writer.append(ConditionsWriter.andConditions(conditionWriters));
+    };
+  }
+
+  private static PList<Condition> createPropertyViolationsConditions(JavaObjectPojo pojo) {
+    final PList<JavaName> memberNames = pojo.getMembers().map(JavaPojoMember::getName);
+    final PList<JavaName> requiredAdditionalPropertiesNames =
+        pojo.getRequiredAdditionalProperties().map(JavaRequiredAdditionalProperty::getName);
+    return memberNames
+        .concat(requiredAdditionalPropertiesNames)
+        .map(
+            name -> (p, s, w) -> w.print("%s(%s)", validateMethodName(name), RESULT_ARGUMENT_NAME));
+  }
+
+  private static PList<Condition> createAllOfDtoViolationsConditions(JavaObjectPojo pojo) {
+    return pojo.getAllOfComposition()
+        .map(JavaAllOfComposition::getPojos)
+        .map(NonEmptyList::toPList)
+        .orElseGet(PList::empty)
+        .map(
+            allOfPojo ->
+                (p, s, w) ->
+                    w.print(
+                        "%s().validate(%s).proceed()",
+                        MethodNames.Composition.asConversionMethodName(allOfPojo),
+                        RESULT_ARGUMENT_NAME));
+  }
+
+  private static PList<Condition> additionalPropertiesViolationsCondition(JavaObjectPojo pojo) {
+    final Condition condition =
+        (p, s, w) ->
+            w.print(
+                "%s(%s)",
+                validateMethodName(JavaAdditionalProperties.additionalPropertiesName()),
+                RESULT_ARGUMENT_NAME);
+    return pojo.getAdditionalProperties().isAllowed() ? PList.single(condition) : PList.empty();
+  }
+
+  private static PList<Condition> validateDtoCondition(JavaObjectPojo pojo, PojoSettings settings) {
+    final Condition condition = Condition.constant("validateDto(" + RESULT_ARGUMENT_NAME + ")");
+    return hasDtoViolationChecks(pojo, settings) ? PList.single(condition) : PList.empty();
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> validateDtoMethod() {
+    return JavaGenerators.<JavaObjectPojo, PojoSettings>methodGen()
+        .modifiers(PRIVATE)
+        .noGenericTypes()
+        .returnType("boolean")
+        .methodName("validateDto")
+        .singleArgument(pojo -> new Argument("ValidationResult", RESULT_ARGUMENT_NAME))
+        .doesNotThrow()
+        .content(
+            dtoViolationChecks()
+                .append(Generator.constant("return %s.proceed();", RESULT_ARGUMENT_NAME)))
+        .build()
+        .filter(ValidatorClassGenerator::hasDtoViolationChecks);
+  }
+
+  private static boolean hasDtoViolationChecks(JavaObjectPojo pojo, PojoSettings settings) {
+    return !dtoViolationChecks().generate(pojo, settings, javaWriter()).asString().isEmpty();
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> dtoViolationChecks() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(
+            dtoViolationCheck(
+                methodContentOneOfCondition(),
+                "oneOf",
+                pojo -> "must be valid against exactly one schema"))
+        .append(
+            dtoViolationCheck(
+                methodContentOneOfDiscriminatorCondition(),
+                "oneOf",
+                pojo -> "must be valid against the schema defined by the discriminator"))
+        .append(
+            dtoViolationCheck(
+                methodContentAnyOfCondition(),
+                "anyOf",
+                pojo -> "must be valid against at least one schema"))
+        .append(
+            dtoViolationCheck(
+                methodContentAnyOfDiscriminatorCondition(),
+                "anyOf",
+                pojo -> "must be valid against the schema defined by the discriminator"))
+        .append(
+            dtoViolationCheck(
+                additionalPropertiesTypeCondition(),
+                "additionalProperties",
+                pojo -> "all additional properties must have the correct type"))
+        .append(
+            dtoViolationCheck(
+                minPropertyCountCondition(),
+                "minProperties",
+                pojo ->
+                    String.format(
+                        "must have at least %d properties",
+                        pojo.getConstraints()
+                            .getPropertyCount()
+                            .flatMap(PropertyCount::getMinProperties)
+                            .orElse(0))))
+        .append(
+            dtoViolationCheck(
+                maxPropertyCountCondition(),
+                "maxProperties",
+                pojo ->
+                    String.format(
+                        "must have at most %d properties",
+                        pojo.getConstraints()
+                            .getPropertyCount()
+                            .flatMap(PropertyCount::getMaxProperties)
+                            .orElse(0))))
+        .append(
+            dtoViolationCheck(
+                noAdditionalPropertiesCondition(),
+                "additionalProperties",
+                pojo -> "must not have additional properties"));
+  }
+
+  private static Generator<JavaObjectPojo, PojoSettings> dtoViolationCheck(
+      Condition condition, String constraint, Function<JavaObjectPojo, String> message) {
+    return (pojo, settings, writer) -> {
+      final Writer conditionWriter = condition.generate(pojo, settings, javaWriter());
+      if (conditionWriter.asString().isEmpty()) {
+        return writer;
+      }
+      return writer
+          .println("if (!(%s)) {", conditionWriter.asString())
+          .tab(1)
+          .println(
+              "%s.addViolation(\"%s\", \"%s\");",
+              RESULT_ARGUMENT_NAME, constraint, JavaEscaper.escape(message.apply(pojo)))
+          .println("}");
+    };
+  }
+
   private interface Condition extends Generator<JavaObjectPojo, PojoSettings> {
     static Condition constant(String constant) {
       return (p, s, w) -> w.print(constant);
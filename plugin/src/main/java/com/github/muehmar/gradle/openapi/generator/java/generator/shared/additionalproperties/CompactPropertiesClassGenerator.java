@@ -0,0 +1,152 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties;
+
+import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.OPENAPI_UTIL_PACKAGE;
+
+import io.github.muehmar.codegenerator.Generator;
+
+/**
+ * Generates an immutable map for the additional properties of the DTO's. Empty maps share a single
+ * instance, small maps store their entries inline in arrays and only larger maps are kept as a
+ * read-only hash map.
+ */
+public class CompactPropertiesClassGenerator {
+  public static final String CLASSNAME = "CompactProperties";
+
+  private CompactPropertiesClassGenerator() {}
+
+  public static Generator<Void, Void> compactPropertiesClassGenerator() {
+    return Generator.constant(
+        "package %s;\n"
+            + "\n"
+            + "import java.util.AbstractMap;\n"
+            + "import java.util.AbstractSet;\n"
+            + "import java.util.Collections;\n"
+            + "import java.util.Iterator;\n"
+            + "import java.util.Map;\n"
+            + "import java.util.NoSuchElementException;\n"
+            + "import java.util.Objects;\n"
+            + "import java.util.Set;\n"
+            + "import java.util.function.BiConsumer;\n"
+            + "\n"
+            + "public final class %s extends AbstractMap<String, Object> {\n"
+            + "  private static final int MAX_INLINE_SIZE = 8;\n"
+            + "  private static final %s EMPTY =\n"
+            + "      new %s(new String[0], new Object[0], null);\n"
+            + "\n"
+            + "  private final String[] keys;\n"
+            + "  private final Object[] values;\n"
+            + "  private final Map<String, Object> properties;\n"
+            + "\n"
+            + "  private %s(String[] keys, Object[] values, Map<String, Object> properties) {\n"
+            + "    this.keys = keys;\n"
+            + "    this.values = values;\n"
+            + "    this.properties = properties;\n"
+            + "  }\n"
+            + "\n"
+            + "  public static Map<String, Object> of(Map<String, Object> properties) {\n"
+            + "    if (properties instanceof %s) {\n"
+            + "      return properties;\n"
+            + "    }\n"
+            + "    final int size = properties.size();\n"
+            + "    if (size == 0) {\n"
+            + "      return EMPTY;\n"
+            + "    }\n"
+            + "    if (size > MAX_INLINE_SIZE) {\n"
+            + "      return new %s(null, null, Collections.unmodifiableMap(properties));\n"
+            + "    }\n"
+            + "    final String[] keys = new String[size];\n"
+            + "    final Object[] values = new Object[size];\n"
+            + "    int index = 0;\n"
+            + "    for (Entry<String, Object> entry : properties.entrySet()) {\n"
+            + "      keys[index] = entry.getKey();\n"
+            + "      values[index] = entry.getValue();\n"
+            + "      index++;\n"
+            + "    }\n"
+            + "    return new %s(keys, values, null);\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public int size() {\n"
+            + "    return properties != null ? properties.size() : keys.length;\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public boolean containsKey(Object key) {\n"
+            + "    return properties != null ? properties.containsKey(key) : indexOf(key) >= 0;\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public Object get(Object key) {\n"
+            + "    if (properties != null) {\n"
+            + "      return properties.get(key);\n"
+            + "    }\n"
+            + "    final int index = indexOf(key);\n"
+            + "    return index >= 0 ? values[index] : null;\n"
+            + "  }\n"
+            + "\n"
+            + "  private int indexOf(Object key) {\n"
+            + "    for (int i = 0; i < keys.length; i++) {\n"
+            + "      if (Objects.equals(keys[i], key)) {\n"
+            + "        return i;\n"
+            + "      }\n"
+            + "    }\n"
+            + "    return -1;\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public void forEach(BiConsumer<? super String, ? super Object> action) {\n"
+            + "    if (properties != null) {\n"
+            + "      properties.forEach(action);\n"
+            + "      return;\n"
+            + "    }\n"
+            + "    for (int i = 0; i < keys.length; i++) {\n"
+            + "      action.accept(keys[i], values[i]);\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public Set<Entry<String, Object>> entrySet() {\n"
+            + "    if (properties != null) {\n"
+            + "      return properties.entrySet();\n"
+            + "    }\n"
+            + "    return new AbstractSet<Entry<String, Object>>() {\n"
+            + "      @Override\n"
+            + "      public int size() {\n"
+            + "        return keys.length;\n"
+            + "      }\n"
+            + "\n"
+            + "      @Override\n"
+            + "      public Iterator<Entry<String, Object>> iterator() {\n"
+            + "        return new Iterator<Entry<String, Object>>() {\n"
+            + "          private int index = 0;\n"
+            + "\n"
+            + "          @Override\n"
+            + "          public boolean hasNext() {\n"
+            + "            return index < keys.length;\n"
+            + "          }\n"
+            + "\n"
+            + "          @Override\n"
+            + "          public Entry<String, Object> next() {\n"
+            + "            if (index >= keys.length) {\n"
+            + "              throw new NoSuchElementException();\n"
+            + "            }\n"
+            + "            final Entry<String, Object> entry =\n"
+            + "                new SimpleImmutableEntry<>(keys[index], values[index]);\n"
+            + "            index++;\n"
+            + "            return entry;\n"
+            + "          }\n"
+            + "        };\n"
+            + "      }\n"
+            + "    };\n"
+            + "  }\n"
+            + "}",
+        OPENAPI_UTIL_PACKAGE,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME);
+  }
+}
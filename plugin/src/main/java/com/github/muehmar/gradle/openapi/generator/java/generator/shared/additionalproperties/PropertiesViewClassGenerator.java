@@ -0,0 +1,119 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties;
+
+import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.OPENAPI_UTIL_PACKAGE;
+
+import io.github.muehmar.codegenerator.Generator;
+
+/**
+ * Generates a read-only map consisting of an underlying map and additional entries, which are only
+ * contained in the map in case they are flagged as present. The keys of the entries must not be
+ * contained in the underlying map.
+ */
+public class PropertiesViewClassGenerator {
+  public static final String CLASSNAME = "PropertiesView";
+
+  private PropertiesViewClassGenerator() {}
+
+  public static Generator<Void, Void> propertiesViewClassGenerator() {
+    return Generator.constant(
+        "package %s;\n"
+            + "\n"
+            + "import java.util.AbstractMap;\n"
+            + "import java.util.AbstractSet;\n"
+            + "import java.util.Iterator;\n"
+            + "import java.util.Map;\n"
+            + "import java.util.Set;\n"
+            + "\n"
+            + "public final class %s extends AbstractMap<String, Object> {\n"
+            + "  private final Map<String, Object> properties;\n"
+            + "  private final String[] keys;\n"
+            + "  private final Object[] values;\n"
+            + "  private final boolean[] present;\n"
+            + "  private final int presentCount;\n"
+            + "\n"
+            + "  public %s(\n"
+            + "      Map<String, Object> properties, String[] keys, Object[] values, boolean[] present) {\n"
+            + "    this.properties = properties;\n"
+            + "    this.keys = keys;\n"
+            + "    this.values = values;\n"
+            + "    this.present = present;\n"
+            + "    int count = 0;\n"
+            + "    for (boolean isPresent : present) {\n"
+            + "      if (isPresent) {\n"
+            + "        count++;\n"
+            + "      }\n"
+            + "    }\n"
+            + "    this.presentCount = count;\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public int size() {\n"
+            + "    return properties.size() + presentCount;\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public boolean containsKey(Object key) {\n"
+            + "    return indexOf(key) >= 0 || properties.containsKey(key);\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public Object get(Object key) {\n"
+            + "    final int index = indexOf(key);\n"
+            + "    return index >= 0 ? values[index] : properties.get(key);\n"
+            + "  }\n"
+            + "\n"
+            + "  private int indexOf(Object key) {\n"
+            + "    for (int i = 0; i < keys.length; i++) {\n"
+            + "      if (present[i] && keys[i].equals(key)) {\n"
+            + "        return i;\n"
+            + "      }\n"
+            + "    }\n"
+            + "    return -1;\n"
+            + "  }\n"
+            + "\n"
+            + "  private int nextPresentIndex(int from) {\n"
+            + "    int index = from;\n"
+            + "    while (index < keys.length && !present[index]) {\n"
+            + "      index++;\n"
+            + "    }\n"
+            + "    return index;\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public Set<Entry<String, Object>> entrySet() {\n"
+            + "    return new AbstractSet<Entry<String, Object>>() {\n"
+            + "      @Override\n"
+            + "      public int size() {\n"
+            + "        return %s.this.size();\n"
+            + "      }\n"
+            + "\n"
+            + "      @Override\n"
+            + "      public Iterator<Entry<String, Object>> iterator() {\n"
+            + "        return new Iterator<Entry<String, Object>>() {\n"
+            + "          private final Iterator<Entry<String, Object>> propertiesIterator =\n"
+            + "              properties.entrySet().iterator();\n"
+            + "          private int index = nextPresentIndex(0);\n"
+            + "\n"
+            + "          @Override\n"
+            + "          public boolean hasNext() {\n"
+            + "            return index < keys.length || propertiesIterator.hasNext();\n"
+            + "          }\n"
+            + "\n"
+            + "          @Override\n"
+            + "          public Entry<String, Object> next() {\n"
+            + "            if (index < keys.length) {\n"
+            + "              final Entry<String, Object> entry =\n"
+            + "                  new SimpleImmutableEntry<>(keys[index], values[index]);\n"
+            + "              index = nextPresentIndex(index + 1);\n"
+            + "              return entry;\n"
+            + "            }\n"
+            + "            return propertiesIterator.next();\n"
+            + "          }\n"
+            + "        };\n"
+            + "      }\n"
+            + "    };\n"
+            + "  }\n"
+            + "}",
+        OPENAPI_UTIL_PACKAGE, CLASSNAME, CLASSNAME, CLASSNAME);
+  }
+}
@@ -0,0 +1,161 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.jackson;
+
+import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.OPENAPI_UTIL_PACKAGE;
+
+import io.github.muehmar.codegenerator.Generator;
+
+/**
+ * Generates the helper methods used by the generated streaming serializers and deserializers of the
+ * DTOs. Scalar values are read and written directly from the current token of the parser, any other
+ * value is delegated to the deserializers and serializers registered in Jackson.
+ */
+public class JacksonStreamingClassGenerator {
+  public static final String CLASSNAME = "JacksonStreaming";
+
+  private JacksonStreamingClassGenerator() {}
+
+  public static Generator<Void, Void> jacksonStreamingClassGenerator() {
+    return Generator.constant(
+        "package %s;\n"
+            + "\n"
+            + "import com.fasterxml.jackson.core.JsonGenerator;\n"
+            + "import com.fasterxml.jackson.core.JsonParser;\n"
+            + "import com.fasterxml.jackson.core.JsonToken;\n"
+            + "import com.fasterxml.jackson.databind.DeserializationContext;\n"
+            + "import com.fasterxml.jackson.databind.JavaType;\n"
+            + "import java.io.IOException;\n"
+            + "\n"
+            + "/**\n"
+            + " * Helper methods for the generated streaming serializers and deserializers. The read methods\n"
+            + " * expect the parser to be positioned at the token of the value and return null for a JSON null.\n"
+            + " */\n"
+            + "public final class %s {\n"
+            + "  private %s() {}\n"
+            + "\n"
+            + "  public static String readString(JsonParser parser, DeserializationContext context)\n"
+            + "      throws IOException {\n"
+            + "    final JsonToken token = parser.currentToken();\n"
+            + "    if (token == JsonToken.VALUE_STRING) {\n"
+            + "      return parser.getText();\n"
+            + "    } else if (token == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, String.class);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static Integer readInteger(JsonParser parser, DeserializationContext context)\n"
+            + "      throws IOException {\n"
+            + "    final JsonToken token = parser.currentToken();\n"
+            + "    if (token == JsonToken.VALUE_NUMBER_INT) {\n"
+            + "      return parser.getIntValue();\n"
+            + "    } else if (token == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, Integer.class);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static Long readLong(JsonParser parser, DeserializationContext context)\n"
+            + "      throws IOException {\n"
+            + "    final JsonToken token = parser.currentToken();\n"
+            + "    if (token == JsonToken.VALUE_NUMBER_INT) {\n"
+            + "      return parser.getLongValue();\n"
+            + "    } else if (token == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, Long.class);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static Float readFloat(JsonParser parser, DeserializationContext context)\n"
+            + "      throws IOException {\n"
+            + "    final JsonToken token = parser.currentToken();\n"
+            + "    if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {\n"
+            + "      return parser.getFloatValue();\n"
+            + "    } else if (token == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, Float.class);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static Double readDouble(JsonParser parser, DeserializationContext context)\n"
+            + "      throws IOException {\n"
+            + "    final JsonToken token = parser.currentToken();\n"
+            + "    if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {\n"
+            + "      return parser.getDoubleValue();\n"
+            + "    } else if (token == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, Double.class);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static Boolean readBoolean(JsonParser parser, DeserializationContext context)\n"
+            + "      throws IOException {\n"
+            + "    final JsonToken token = parser.currentToken();\n"
+            + "    if (token == JsonToken.VALUE_TRUE) {\n"
+            + "      return Boolean.TRUE;\n"
+            + "    } else if (token == JsonToken.VALUE_FALSE) {\n"
+            + "      return Boolean.FALSE;\n"
+            + "    } else if (token == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, Boolean.class);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static <T> T readValue(\n"
+            + "      JsonParser parser, DeserializationContext context, Class<T> type) throws IOException {\n"
+            + "    if (parser.currentToken() == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, type);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static <T> T readValue(\n"
+            + "      JsonParser parser, DeserializationContext context, JavaType type) throws IOException {\n"
+            + "    if (parser.currentToken() == JsonToken.VALUE_NULL) {\n"
+            + "      return null;\n"
+            + "    }\n"
+            + "    return context.readValue(parser, type);\n"
+            + "  }\n"
+            + "\n"
+            + "  public static void writeInteger(JsonGenerator generator, Integer value) throws IOException {\n"
+            + "    if (value == null) {\n"
+            + "      generator.writeNull();\n"
+            + "    } else {\n"
+            + "      generator.writeNumber(value.intValue());\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  public static void writeLong(JsonGenerator generator, Long value) throws IOException {\n"
+            + "    if (value == null) {\n"
+            + "      generator.writeNull();\n"
+            + "    } else {\n"
+            + "      generator.writeNumber(value.longValue());\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  public static void writeFloat(JsonGenerator generator, Float value) throws IOException {\n"
+            + "    if (value == null) {\n"
+            + "      generator.writeNull();\n"
+            + "    } else {\n"
+            + "      generator.writeNumber(value.floatValue());\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  public static void writeDouble(JsonGenerator generator, Double value) throws IOException {\n"
+            + "    if (value == null) {\n"
+            + "      generator.writeNull();\n"
+            + "    } else {\n"
+            + "      generator.writeNumber(value.doubleValue());\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  public static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {\n"
+            + "    if (value == null) {\n"
+            + "      generator.writeNull();\n"
+            + "    } else {\n"
+            + "      generator.writeBoolean(value.booleanValue());\n"
+            + "    }\n"
+            + "  }\n"
+            + "}",
+        OPENAPI_UTIL_PACKAGE, CLASSNAME, CLASSNAME);
+  }
+}
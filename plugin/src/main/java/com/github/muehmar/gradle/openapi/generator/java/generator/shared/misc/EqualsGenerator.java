@@ -1,5 +1,6 @@
 package com.github.muehmar.gradle.openapi.generator.java.generator.shared.misc;
 
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.misc.HashCodeGenerator.CACHED_HASH_CODE_FIELD;
 import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
 
 import ch.bluecare.commons.data.PList;
@@ -37,6 +38,7 @@ public class EqualsGenerator {
     return EqualsGenerator.<EqualsContent>equalsCheckIdentity()
         .append(equalsCheckNullAndSameClass())
         .append(equalsCastObjectToCompare())
+        .append(equalsCompareCachedHashCodes().filter(HashCodeGenerator.cacheHashCode()))
         .append(equalsCompareFields());
   }
 
@@ -53,6 +55,19 @@ public class EqualsGenerator {
         w.println("final %s other = (%s) obj;", content.getClassName(), content.getClassName());
   }
 
+  /**
+   * Objects with different hash codes are not equal, i.e. the comparison of the fields can be
+   * skipped in case both hash codes are already computed and cached.
+   */
+  private static Generator<EqualsContent, PojoSettings> equalsCompareCachedHashCodes() {
+    return Generator.constant(
+        "if (%s != 0 && other.%s != 0 && %s != other.%s) return false;",
+        CACHED_HASH_CODE_FIELD,
+        CACHED_HASH_CODE_FIELD,
+        CACHED_HASH_CODE_FIELD,
+        CACHED_HASH_CODE_FIELD);
+  }
+
   private static Generator<EqualsContent, PojoSettings> equalsCompareFields() {
     return (content, s, w) -> {
       final PList<String> fieldNames =
@@ -12,9 +12,12 @@ import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.JavaGenerators;
 import io.github.muehmar.codegenerator.writer.Writer;
 import io.github.muehmar.pojobuilder.annotations.PojoBuilder;
+import java.util.function.BiPredicate;
 import lombok.Value;
 
 public class HashCodeGenerator {
+  static final String CACHED_HASH_CODE_FIELD = "cachedHashCode_";
+
   private HashCodeGenerator() {}
 
   public static Generator<HashCodeContent, PojoSettings> hashCodeMethod() {
@@ -26,9 +29,13 @@ public class HashCodeGenerator {
             .methodName("hashCode")
             .noArguments()
             .doesNotThrow()
-            .content(hashCodeMethodContent())
+            .content(
+                hashCodeMethodContent()
+                    .filter((content, s) -> !s.isCacheHashCode())
+                    .append(cachedHashCodeMethodContent().filter(cacheHashCode())))
             .build();
-    return AnnotationGenerator.<HashCodeContent, PojoSettings>override()
+    return cachedHashCodeField()
+        .append(AnnotationGenerator.override())
         .append(method)
         .append(arraysRefGenerator());
   }
@@ -50,6 +57,44 @@ public class HashCodeGenerator {
     };
   }
 
+  private static Generator<HashCodeContent, PojoSettings> cachedHashCodeField() {
+    return Generator.<HashCodeContent, PojoSettings>constant(
+            "private transient int %s;", CACHED_HASH_CODE_FIELD)
+        .appendSingleBlankLine()
+        .filter(cacheHashCode());
+  }
+
+  /**
+   * Computes the hash code only once and stores it in a transient field. The computation is
+   * unrolled, i.e. it does not need the varargs array of {@link java.util.Objects#hash} and results
+   * in the same hash code. A computed hash code of zero is not cached and simply computed again,
+   * the same as {@link String#hashCode()} does.
+   */
+  private static Generator<HashCodeContent, PojoSettings> cachedHashCodeMethodContent() {
+    return (content, s, w) -> {
+      final Writer writerStartPrinted =
+          w.println("int result = %s;", CACHED_HASH_CODE_FIELD)
+              .println("if (result == 0) {")
+              .tab(1)
+              .println("result = 1;");
+      return content
+          .getTechnicalPojoMembers()
+          .map(HashCodeGenerator::mapToCachedHashCodeArgument)
+          .foldLeft(
+              writerStartPrinted,
+              (writer, arg) -> writer.tab(1).println("result = 31 * result + %s;", arg))
+          .tab(1)
+          .println("%s = result;", CACHED_HASH_CODE_FIELD)
+          .println("}")
+          .println("return result;")
+          .ref(JavaRefs.JAVA_UTIL_OBJECTS);
+    };
+  }
+
+  static <A> BiPredicate<A, PojoSettings> cacheHashCode() {
+    return (ignore, settings) -> settings.isCacheHashCode();
+  }
+
   private static Generator<HashCodeContent, PojoSettings> arraysRefGenerator() {
     return Generator.<HashCodeContent, PojoSettings>emptyGen()
         .appendConditionally(
@@ -73,4 +118,10 @@ public class HashCodeGenerator {
         ? String.format("Arrays.hashCode(%s)", member.getName())
         : member.getName().asString();
   }
+
+  private static String mapToCachedHashCodeArgument(TechnicalPojoMember member) {
+    return member.getJavaType().isJavaArray()
+        ? String.format("Arrays.hashCode(%s)", member.getName())
+        : String.format("Objects.hashCode(%s)", member.getName());
+  }
 }
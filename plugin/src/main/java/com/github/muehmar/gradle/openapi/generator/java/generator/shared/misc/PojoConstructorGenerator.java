@@ -5,12 +5,15 @@ import static com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditio
 import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.ConstructorGeneratorBuilder;
 import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.CompactPropertiesClassGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.PropertiesViewClassGenerator;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.jackson.JacksonAnnotationGenerator;
 import com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties;
 import com.github.muehmar.gradle.openapi.generator.java.model.member.TechnicalPojoMember;
 import com.github.muehmar.gradle.openapi.generator.java.model.name.JavaName;
 import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaType;
 import com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs;
+import com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.JavaModifier;
@@ -42,7 +45,18 @@ public class PojoConstructorGenerator {
     final Generator<JavaAdditionalProperties, PojoSettings> imports =
         Generator.<JavaType, PojoSettings>emptyGen()
             .append(w -> w.ref(JavaRefs.JAVA_UTIL_MAP))
-            .append(w -> w.ref(JavaRefs.JAVA_UTIL_COLLECTIONS))
+            .append(
+                (t, s, w) ->
+                    w.ref(
+                        s.isCompactAdditionalProperties()
+                            ? OpenApiUtilRefs.COMPACT_PROPERTIES
+                            : JavaRefs.JAVA_UTIL_COLLECTIONS))
+            .append(
+                Generator.<JavaType, PojoSettings>emptyGen()
+                    .append(w -> w.ref(OpenApiUtilRefs.PROPERTIES_VIEW))
+                    .filter(
+                        (t, s) ->
+                            s.isCompactAdditionalProperties() && s.isCompositionConversionView()))
             .append(RefsGenerator.javaTypeRefs())
             .contraMap(JavaAdditionalProperties::getType);
     return Generator.<ConstructorContent, PojoSettings>emptyGen()
@@ -73,7 +87,7 @@ public class PojoConstructorGenerator {
           content
               .getMembers()
               .map(PojoConstructorGenerator::createMemberAssignment)
-              .concat(createAdditionalPropertiesAssignment(content));
+              .concat(createAdditionalPropertiesAssignment(content, settings));
       return assignments.foldLeft(writer, Writer::println);
     };
   }
@@ -82,13 +96,35 @@ public class PojoConstructorGenerator {
     return String.format("this.%s = %s;", member.getName(), member.getName());
   }
 
-  private static PList<String> createAdditionalPropertiesAssignment(ConstructorContent content) {
+  private static PList<String> createAdditionalPropertiesAssignment(
+      ConstructorContent content, PojoSettings settings) {
     return PList.fromOptional(content.getAdditionalProperties())
         .map(
             props ->
                 String.format(
-                    "this.%s = Collections.unmodifiableMap(%s);",
-                    additionalPropertiesName(), additionalPropertiesName()));
+                    "this.%s = %s;",
+                    additionalPropertiesName(), wrappedAdditionalProperties(settings)));
+  }
+
+  /**
+   * The view created by the conversion of a composed DTO is already read-only, it is passed through
+   * unchanged instead of being copied into a compact map.
+   */
+  private static String wrappedAdditionalProperties(PojoSettings settings) {
+    final JavaName name = additionalPropertiesName();
+    if (settings.isCompactAdditionalProperties() && settings.isCompositionConversionView()) {
+      return String.format(
+          "%s instanceof %s ? %s : %s.of(%s)",
+          name,
+          PropertiesViewClassGenerator.CLASSNAME,
+          name,
+          CompactPropertiesClassGenerator.CLASSNAME,
+          name);
+    } else if (settings.isCompactAdditionalProperties()) {
+      return String.format("%s.of(%s)", CompactPropertiesClassGenerator.CLASSNAME, name);
+    } else {
+      return String.format("Collections.unmodifiableMap(%s)", name);
+    }
   }
 
   @Value
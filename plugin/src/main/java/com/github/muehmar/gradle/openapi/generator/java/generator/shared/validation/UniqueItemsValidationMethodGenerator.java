@@ -1,14 +1,25 @@
 package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation;
 
+import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.SettingsFunctions;
 import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMember;
-import com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.QualifiedClassName;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.QualifiedClassNames;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaArrayType;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaType;
+import com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import io.github.muehmar.codegenerator.Generator;
 import io.github.muehmar.codegenerator.java.MethodGen;
 import io.github.muehmar.codegenerator.java.MethodGenBuilder;
+import java.util.Optional;
 
 public class UniqueItemsValidationMethodGenerator {
+  private static final PList<QualifiedClassName> INTEGRAL_NUMBER_CLASS_NAMES =
+      PList.of(QualifiedClassNames.INTEGER, QualifiedClassNames.LONG);
+  private static final PList<QualifiedClassName> FLOATING_POINT_NUMBER_CLASS_NAMES =
+      PList.of(QualifiedClassNames.FLOAT, QualifiedClassNames.DOUBLE);
+
   private UniqueItemsValidationMethodGenerator() {}
 
   public static Generator<JavaPojoMember, PojoSettings> uniqueItemsValidationMethodGenerator() {
@@ -23,13 +34,15 @@ public class UniqueItemsValidationMethodGenerator {
             .content(
                 member ->
                     String.format(
-                        "return new HashSet<>(%s).size() == %s.size();",
-                        member.getName(), member.getName()))
+                        "return %s.%s(%s);",
+                        UniqueItemsValidatorClassGenerator.CLASSNAME,
+                        validatorMethodName(member),
+                        member.getName()))
             .build();
     return ValidationAnnotationGenerator.<JavaPojoMember>assertTrue(
             member -> String.format("%s does not contain unique items", member.getName()))
         .append(method)
-        .append(w -> w.ref(JavaRefs.JAVA_UTIL_HASH_SET))
+        .append(w -> w.ref(OpenApiUtilRefs.UNIQUE_ITEMS_VALIDATOR))
         .filter(UniqueItemsValidationMethodGenerator::generateMethod);
   }
 
@@ -37,6 +50,30 @@ public class UniqueItemsValidationMethodGenerator {
     return member.getName().startUpperCase().prefix("has").append("UniqueItems").asString();
   }
 
+  /**
+   * Selects the method of the validator for the type of the items, which allows to check enums and
+   * numbers without copying the items into a set.
+   */
+  private static String validatorMethodName(JavaPojoMember member) {
+    final Optional<JavaType> itemType =
+        member.getJavaType().onArrayType().map(JavaArrayType::getItemType);
+    final Optional<QualifiedClassName> itemClassName =
+        itemType.map(JavaType::getQualifiedClassName);
+    if (itemType.filter(JavaType::isEnumType).isPresent()) {
+      return "hasUniqueEnums";
+    } else if (itemClassName
+        .filter(name -> INTEGRAL_NUMBER_CLASS_NAMES.exists(name::equals))
+        .isPresent()) {
+      return "hasUniqueIntegers";
+    } else if (itemClassName
+        .filter(name -> FLOATING_POINT_NUMBER_CLASS_NAMES.exists(name::equals))
+        .isPresent()) {
+      return "hasUniqueFloatingPointNumbers";
+    } else {
+      return "hasUniqueItems";
+    }
+  }
+
   private static boolean generateMethod(JavaPojoMember member, PojoSettings settings) {
     return member.getJavaType().isArrayType()
         && member.getJavaType().getConstraints().isUniqueItems();
@@ -0,0 +1,153 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation;
+
+import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.OPENAPI_UTIL_PACKAGE;
+
+import io.github.muehmar.codegenerator.Generator;
+
+/**
+ * Generates the validator for the uniqueItems constraint of arrays. It returns at the first
+ * duplicate item and avoids copying the items into a set for small lists, lists of enums and lists
+ * of integer and floating point numbers.
+ */
+public class UniqueItemsValidatorClassGenerator {
+  public static final String CLASSNAME = "UniqueItemsValidator";
+
+  private UniqueItemsValidatorClassGenerator() {}
+
+  public static Generator<Void, Void> uniqueItemsValidatorClassGenerator() {
+    return Generator.constant(
+        "package %s;\n"
+            + "\n"
+            + "import java.util.BitSet;\n"
+            + "import java.util.HashSet;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Objects;\n"
+            + "import java.util.Set;\n"
+            + "import java.util.function.ToLongFunction;\n"
+            + "\n"
+            + "/**\n"
+            + " * Validates the uniqueness of the items of a list. The validation stops at the first duplicate\n"
+            + " * item. Small lists are compared pairwise, lists of enums and of numbers with a primitive\n"
+            + " * representation are checked without copying the items into a set.\n"
+            + " */\n"
+            + "public final class %s {\n"
+            + "  private static final int PAIRWISE_COMPARISON_MAX_SIZE = 8;\n"
+            + "  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;\n"
+            + "\n"
+            + "  private %s() {}\n"
+            + "\n"
+            + "  /** Returns true in case the list does not contain equal items. */\n"
+            + "  public static boolean hasUniqueItems(List<?> items) {\n"
+            + "    if (items == null || items.size() < 2) {\n"
+            + "      return true;\n"
+            + "    }\n"
+            + "    final int size = items.size();\n"
+            + "    if (size <= PAIRWISE_COMPARISON_MAX_SIZE) {\n"
+            + "      for (int i = 1; i < size; i++) {\n"
+            + "        final Object item = items.get(i);\n"
+            + "        for (int j = 0; j < i; j++) {\n"
+            + "          if (Objects.equals(item, items.get(j))) {\n"
+            + "            return false;\n"
+            + "          }\n"
+            + "        }\n"
+            + "      }\n"
+            + "      return true;\n"
+            + "    }\n"
+            + "    final Set<Object> seenItems = new HashSet<>(size * 4 / 3 + 1);\n"
+            + "    for (Object item : items) {\n"
+            + "      if (!seenItems.add(item)) {\n"
+            + "        return false;\n"
+            + "      }\n"
+            + "    }\n"
+            + "    return true;\n"
+            + "  }\n"
+            + "\n"
+            + "  /** Returns true in case the list does not contain the same constant of the enum twice. */\n"
+            + "  public static boolean hasUniqueEnums(List<? extends Enum<?>> items) {\n"
+            + "    if (items == null || items.size() < 2) {\n"
+            + "      return true;\n"
+            + "    }\n"
+            + "    boolean containsNull = false;\n"
+            + "    long seenOrdinals = 0L;\n"
+            + "    BitSet seenLargeOrdinals = null;\n"
+            + "    for (Enum<?> item : items) {\n"
+            + "      if (item == null) {\n"
+            + "        if (containsNull) {\n"
+            + "          return false;\n"
+            + "        }\n"
+            + "        containsNull = true;\n"
+            + "      } else if (item.ordinal() < Long.SIZE) {\n"
+            + "        final long ordinalBit = 1L << item.ordinal();\n"
+            + "        if ((seenOrdinals & ordinalBit) != 0L) {\n"
+            + "          return false;\n"
+            + "        }\n"
+            + "        seenOrdinals |= ordinalBit;\n"
+            + "      } else {\n"
+            + "        if (seenLargeOrdinals == null) {\n"
+            + "          seenLargeOrdinals = new BitSet();\n"
+            + "        }\n"
+            + "        if (seenLargeOrdinals.get(item.ordinal())) {\n"
+            + "          return false;\n"
+            + "        }\n"
+            + "        seenLargeOrdinals.set(item.ordinal());\n"
+            + "      }\n"
+            + "    }\n"
+            + "    return true;\n"
+            + "  }\n"
+            + "\n"
+            + "  /** Returns true in case the list of integers or longs does not contain equal numbers. */\n"
+            + "  public static boolean hasUniqueIntegers(List<? extends Number> items) {\n"
+            + "    return hasUniqueNumbers(items, Number::longValue);\n"
+            + "  }\n"
+            + "\n"
+            + "  /** Returns true in case the list of floats or doubles does not contain equal numbers. */\n"
+            + "  public static boolean hasUniqueFloatingPointNumbers(List<? extends Number> items) {\n"
+            + "    return hasUniqueNumbers(items, number -> Double.doubleToLongBits(number.doubleValue()));\n"
+            + "  }\n"
+            + "\n"
+            + "  /**\n"
+            + "   * Checks the uniqueness with an open addressing hash table of the bits of the numbers. The bits\n"
+            + "   * must be equal if and only if the numbers are equal. Zero marks an empty slot in the table,\n"
+            + "   * therefore the number with zero bits is tracked separately.\n"
+            + "   */\n"
+            + "  private static boolean hasUniqueNumbers(\n"
+            + "      List<? extends Number> items, ToLongFunction<Number> toBits) {\n"
+            + "    if (items == null || items.size() <= PAIRWISE_COMPARISON_MAX_SIZE) {\n"
+            + "      return hasUniqueItems(items);\n"
+            + "    }\n"
+            + "    final long[] table = new long[Integer.highestOneBit(items.size() * 2 - 1) << 1];\n"
+            + "    final int shift = Long.SIZE - Integer.numberOfTrailingZeros(table.length);\n"
+            + "    final int mask = table.length - 1;\n"
+            + "    boolean containsNull = false;\n"
+            + "    boolean containsZero = false;\n"
+            + "    for (Number item : items) {\n"
+            + "      if (item == null) {\n"
+            + "        if (containsNull) {\n"
+            + "          return false;\n"
+            + "        }\n"
+            + "        containsNull = true;\n"
+            + "        continue;\n"
+            + "      }\n"
+            + "      final long bits = toBits.applyAsLong(item);\n"
+            + "      if (bits == 0L) {\n"
+            + "        if (containsZero) {\n"
+            + "          return false;\n"
+            + "        }\n"
+            + "        containsZero = true;\n"
+            + "        continue;\n"
+            + "      }\n"
+            + "      int index = (int) ((bits * HASH_MULTIPLIER) >>> shift);\n"
+            + "      while (table[index] != 0L) {\n"
+            + "        if (table[index] == bits) {\n"
+            + "          return false;\n"
+            + "        }\n"
+            + "        index = (index + 1) & mask;\n"
+            + "      }\n"
+            + "      table[index] = bits;\n"
+            + "    }\n"
+            + "    return true;\n"
+            + "  }\n"
+            + "}",
+        OPENAPI_UTIL_PACKAGE, CLASSNAME, CLASSNAME);
+  }
+}
@@ -0,0 +1,54 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.ref;
+import static io.github.muehmar.codegenerator.Generator.constant;
+import static io.github.muehmar.codegenerator.java.JavaModifier.PUBLIC;
+
+import com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.java.JavaGenerators;
+import io.github.muehmar.codegenerator.java.MethodGen.Argument;
+
+/**
+ * Generates the public {@code validate} methods which report the violated constraints of the DTO
+ * without using Bean Validation.
+ */
+public class ValidateMethodGenerator {
+  private ValidateMethodGenerator() {}
+
+  public static <T> Generator<T, PojoSettings> validateMethodGenerator() {
+    return Generator.<T, PojoSettings>emptyGen()
+        .append(validateMethod())
+        .appendSingleBlankLine()
+        .append(validateWithResultMethod())
+        .append(ref(OpenApiUtilRefs.VALIDATION_RESULT))
+        .filter((pojo, settings) -> settings.isGenerateValidateMethod());
+  }
+
+  private static <T> Generator<T, PojoSettings> validateMethod() {
+    return JavaGenerators.<T, PojoSettings>methodGen()
+        .modifiers(PUBLIC)
+        .noGenericTypes()
+        .returnType("ValidationResult")
+        .methodName("validate")
+        .noArguments()
+        .doesNotThrow()
+        .content(constant("return validate(ValidationResult.collectAll());"))
+        .build();
+  }
+
+  private static <T> Generator<T, PojoSettings> validateWithResultMethod() {
+    return JavaGenerators.<T, PojoSettings>methodGen()
+        .modifiers(PUBLIC)
+        .noGenericTypes()
+        .returnType("ValidationResult")
+        .methodName("validate")
+        .singleArgument(pojo -> new Argument("ValidationResult", "validationResult"))
+        .doesNotThrow()
+        .content(
+            constant("new Validator().validate(validationResult);")
+                .append(constant("return validationResult;")))
+        .build();
+  }
+}
@@ -0,0 +1,192 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation;
+
+import static com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs.OPENAPI_UTIL_PACKAGE;
+
+import io.github.muehmar.codegenerator.Generator;
+
+/**
+ * Generates the result class of the generated validate methods. It holds the violations with the
+ * path of the property, the violated constraint and a message and supports stopping the validation
+ * at the first violation.
+ */
+public class ValidationResultClassGenerator {
+  public static final String CLASSNAME = "ValidationResult";
+
+  private ValidationResultClassGenerator() {}
+
+  public static Generator<Void, Void> validationResultClassGenerator() {
+    return Generator.constant(
+        "package %s;\n"
+            + "\n"
+            + "import java.util.ArrayList;\n"
+            + "import java.util.Arrays;\n"
+            + "import java.util.Collections;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Objects;\n"
+            + "\n"
+            + "/**\n"
+            + " * Collects the violations reported by the generated validate methods of the DTO's. The path of the\n"
+            + " * currently validated property is tracked in arrays and converted to a string only when a violation\n"
+            + " * is added, i.e. a valid DTO is validated without creating any path.\n"
+            + " */\n"
+            + "public final class %s {\n"
+            + "  private final boolean failFast;\n"
+            + "  private final List<Violation> violations = new ArrayList<>();\n"
+            + "  private String[] names = new String[8];\n"
+            + "  private int[] indices = new int[8];\n"
+            + "  private int depth = 0;\n"
+            + "\n"
+            + "  private %s(boolean failFast) {\n"
+            + "    this.failFast = failFast;\n"
+            + "  }\n"
+            + "\n"
+            + "  /** Creates a result which collects all violations. */\n"
+            + "  public static %s collectAll() {\n"
+            + "    return new %s(false);\n"
+            + "  }\n"
+            + "\n"
+            + "  /** Creates a result which stops the validation after the first violation. */\n"
+            + "  public static %s failFast() {\n"
+            + "    return new %s(true);\n"
+            + "  }\n"
+            + "\n"
+            + "  public void enterProperty(String name) {\n"
+            + "    ensureCapacity();\n"
+            + "    names[depth] = name;\n"
+            + "    depth++;\n"
+            + "  }\n"
+            + "\n"
+            + "  public void enterIndex(int index) {\n"
+            + "    ensureCapacity();\n"
+            + "    names[depth] = null;\n"
+            + "    indices[depth] = index;\n"
+            + "    depth++;\n"
+            + "  }\n"
+            + "\n"
+            + "  public void exit() {\n"
+            + "    depth--;\n"
+            + "    names[depth] = null;\n"
+            + "  }\n"
+            + "\n"
+            + "  private void ensureCapacity() {\n"
+            + "    if (depth == names.length) {\n"
+            + "      names = Arrays.copyOf(names, depth * 2);\n"
+            + "      indices = Arrays.copyOf(indices, depth * 2);\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  /**\n"
+            + "   * Adds a violation for the current path. In the fail-fast mode, only the first violation is\n"
+            + "   * added.\n"
+            + "   */\n"
+            + "  public void addViolation(String constraint, String message) {\n"
+            + "    if (proceed()) {\n"
+            + "      violations.add(new Violation(currentPath(), constraint, message));\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  /**\n"
+            + "   * Returns true if the validation should proceed, which is always the case when collecting all\n"
+            + "   * violations or as long as no violation is added in the fail-fast mode.\n"
+            + "   */\n"
+            + "  public boolean proceed() {\n"
+            + "    return !failFast || violations.isEmpty();\n"
+            + "  }\n"
+            + "\n"
+            + "  public boolean isValid() {\n"
+            + "    return violations.isEmpty();\n"
+            + "  }\n"
+            + "\n"
+            + "  public List<Violation> getViolations() {\n"
+            + "    return Collections.unmodifiableList(violations);\n"
+            + "  }\n"
+            + "\n"
+            + "  private String currentPath() {\n"
+            + "    final StringBuilder path = new StringBuilder();\n"
+            + "    for (int i = 0; i < depth; i++) {\n"
+            + "      if (names[i] == null) {\n"
+            + "        path.append('[').append(indices[i]).append(']');\n"
+            + "      } else {\n"
+            + "        if (path.length() > 0) {\n"
+            + "          path.append('.');\n"
+            + "        }\n"
+            + "        path.append(names[i]);\n"
+            + "      }\n"
+            + "    }\n"
+            + "    return path.toString();\n"
+            + "  }\n"
+            + "\n"
+            + "  @Override\n"
+            + "  public String toString() {\n"
+            + "    return \"%s{\" + \"violations=\" + violations + \"}\";\n"
+            + "  }\n"
+            + "\n"
+            + "  public static final class Violation {\n"
+            + "    private final String path;\n"
+            + "    private final String constraint;\n"
+            + "    private final String message;\n"
+            + "\n"
+            + "    public Violation(String path, String constraint, String message) {\n"
+            + "      this.path = path;\n"
+            + "      this.constraint = constraint;\n"
+            + "      this.message = message;\n"
+            + "    }\n"
+            + "\n"
+            + "    /**\n"
+            + "     * Path of the violated property, e.g. {@code address.street} or {@code items[2].name}. The\n"
+            + "     * path is empty for a violation of the root DTO itself.\n"
+            + "     */\n"
+            + "    public String getPath() {\n"
+            + "      return path;\n"
+            + "    }\n"
+            + "\n"
+            + "    public String getConstraint() {\n"
+            + "      return constraint;\n"
+            + "    }\n"
+            + "\n"
+            + "    public String getMessage() {\n"
+            + "      return message;\n"
+            + "    }\n"
+            + "\n"
+            + "    @Override\n"
+            + "    public boolean equals(Object o) {\n"
+            + "      if (this == o) {\n"
+            + "        return true;\n"
+            + "      }\n"
+            + "      if (o == null || getClass() != o.getClass()) {\n"
+            + "        return false;\n"
+            + "      }\n"
+            + "      final Violation violation = (Violation) o;\n"
+            + "      return Objects.equals(path, violation.path)\n"
+            + "          && Objects.equals(constraint, violation.constraint)\n"
+            + "          && Objects.equals(message, violation.message);\n"
+            + "    }\n"
+            + "\n"
+            + "    @Override\n"
+            + "    public int hashCode() {\n"
+            + "      return Objects.hash(path, constraint, message);\n"
+            + "    }\n"
+            + "\n"
+            + "    @Override\n"
+            + "    public String toString() {\n"
+            + "      return \"Violation{\"\n"
+            + "          + \"path='\"\n"
+            + "          + path\n"
+            + "          + \"', constraint='\"\n"
+            + "          + constraint\n"
+            + "          + \"', message='\"\n"
+            + "          + message\n"
+            + "          + \"'}\";\n"
+            + "    }\n"
+            + "  }\n"
+            + "}",
+        OPENAPI_UTIL_PACKAGE,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME,
+        CLASSNAME);
+  }
+}
@@ -145,13 +145,23 @@ class ConstraintConditions {
             .getDecimalMin()
             .map(
                 decimalMin ->
-                    writer
-                        .print(
-                            "0 <%s BigDecimal.valueOf(%s).compareTo(new BigDecimal(\"%s\"))",
-                            decimalMin.isInclusiveMin() ? "=" : "",
-                            propertyValue.getAccessor(),
-                            decimalMin.getValue())
-                        .ref(JavaRefs.JAVA_MATH_BIG_DECIMAL))
+                    DecimalBounds.exactDoubleLiteral(decimalMin.getValue())
+                        .map(
+                            literal ->
+                                writer.print(
+                                    "%s >%s %s",
+                                    propertyValue.getAccessor(),
+                                    decimalMin.isInclusiveMin() ? "=" : "",
+                                    literal))
+                        .orElseGet(
+                            () ->
+                                writer
+                                    .print(
+                                        "0 <%s BigDecimal.valueOf(%s).compareTo(%s)",
+                                        decimalMin.isInclusiveMin() ? "=" : "",
+                                        propertyValue.getAccessor(),
+                                        ValidationConstantName.decimal(decimalMin.getValue()))
+                                    .ref(JavaRefs.JAVA_MATH_BIG_DECIMAL)))
             .filter(ignore -> isSupportedConstraint(propertyValue, DECIMAL_MIN, settings))
             .orElse(writer);
   }
@@ -164,13 +174,23 @@ class ConstraintConditions {
             .getDecimalMax()
             .map(
                 decimalMax ->
-                    writer
-                        .print(
-                            "BigDecimal.valueOf(%s).compareTo(new BigDecimal(\"%s\")) <%s 0",
-                            propertyValue.getAccessor(),
-                            decimalMax.getValue(),
-                            decimalMax.isInclusiveMax() ? "=" : "")
-                        .ref(JavaRefs.JAVA_MATH_BIG_DECIMAL))
+                    DecimalBounds.exactDoubleLiteral(decimalMax.getValue())
+                        .map(
+                            literal ->
+                                writer.print(
+                                    "%s <%s %s",
+                                    propertyValue.getAccessor(),
+                                    decimalMax.isInclusiveMax() ? "=" : "",
+                                    literal))
+                        .orElseGet(
+                            () ->
+                                writer
+                                    .print(
+                                        "BigDecimal.valueOf(%s).compareTo(%s) <%s 0",
+                                        propertyValue.getAccessor(),
+                                        ValidationConstantName.decimal(decimalMax.getValue()),
+                                        decimalMax.isInclusiveMax() ? "=" : "")
+                                    .ref(JavaRefs.JAVA_MATH_BIG_DECIMAL)))
             .filter(ignore -> isSupportedConstraint(propertyValue, DECIMAL_MAX, settings))
             .orElse(writer);
   }
@@ -184,9 +204,9 @@ class ConstraintConditions {
             .map(
                 pattern ->
                     writer.print(
-                        "%s.matches(\"%s\", %s)",
-                        JavaRefs.JAVA_UTIL_REGEX_PATTERN,
-                        pattern.getPatternEscaped(JavaEscaper::escape),
+                        "%s.matcher(%s).matches()",
+                        ValidationConstantName.pattern(
+                            pattern.getPatternEscaped(JavaEscaper::escape)),
                         propertyValue.getAccessor()))
             .filter(ignore -> isSupportedConstraint(propertyValue, PATTERN, settings))
             .orElse(writer);
@@ -0,0 +1,30 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+class DecimalBounds {
+  private DecimalBounds() {}
+
+  /**
+   * Returns the bound as double literal in case a comparison of a double with this literal gives
+   * the same result as the comparison of {@code BigDecimal.valueOf(double)} with the bound. This is
+   * the case if the bound is exactly representable as double and is the shortest decimal
+   * representation of this double.
+   */
+  static Optional<String> exactDoubleLiteral(String bound) {
+    try {
+      final BigDecimal decimalBound = new BigDecimal(bound);
+      final double doubleBound = decimalBound.doubleValue();
+      if (Double.isInfinite(doubleBound)) {
+        return Optional.empty();
+      }
+      final boolean isExact =
+          new BigDecimal(doubleBound).compareTo(decimalBound) == 0
+              && BigDecimal.valueOf(doubleBound).compareTo(decimalBound) == 0;
+      return isExact ? Optional.of(Double.toString(doubleBound)) : Optional.empty();
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
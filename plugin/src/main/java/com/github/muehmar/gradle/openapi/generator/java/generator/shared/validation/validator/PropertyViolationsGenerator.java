@@ -0,0 +1,462 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.RefsGenerator.ref;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.decimalMaxCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.decimalMinCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.emailCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.maxCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.maxSizeCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.minCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.minSizeCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.multipleOfCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.patternCondition;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ConstraintConditions.uniqueArrayItemsCondition;
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
+import static io.github.muehmar.codegenerator.Generator.constant;
+import static io.github.muehmar.codegenerator.java.JavaModifier.PRIVATE;
+import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.JavaEscaper;
+import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMember;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.IsNotNullFlagName;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.IsPresentFlagName;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.JavaName;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaArrayType;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaMapType;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaObjectType;
+import com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs;
+import com.github.muehmar.gradle.openapi.generator.java.ref.OpenApiUtilRefs;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.Constraints;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.PropertyCount;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.Size;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.util.Optionals;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.java.JavaGenerators;
+import io.github.muehmar.codegenerator.java.MethodGen;
+import io.github.muehmar.codegenerator.java.MethodGen.Argument;
+import io.github.muehmar.codegenerator.writer.Writer;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Generates the methods of the validator which report the violated constraints of a property to a
+ * {@code ValidationResult}. The conditions are the same as the ones of the {@code isValid} methods
+ * but each constraint is checked on its own to report which one is violated.
+ */
+public class PropertyViolationsGenerator {
+  public static final String RESULT_ARGUMENT_NAME = "validationResult";
+
+  private PropertyViolationsGenerator() {}
+
+  public static Generator<JavaPojoMember, PojoSettings> memberViolationsGenerator() {
+    return propertyValueViolationsGenerator(true).contraMap(PropertyValue::fromJavaMember);
+  }
+
+  public static Generator<JavaObjectPojo, PojoSettings>
+      requiredAdditionalPropertyViolationsGenerator() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .appendList(
+            propertyValueViolationsGenerator(true),
+            PropertyValue::fromRequiredAdditionalProperties);
+  }
+
+  /**
+   * Generator for property values which are not part of the path of a violation, like the
+   * additional properties or the items of an array DTO.
+   */
+  public static Generator<PropertyValue, PojoSettings> unnamedPropertyValueViolationsGenerator() {
+    return propertyValueViolationsGenerator(false);
+  }
+
+  public static JavaName validateMethodName(JavaName name) {
+    return name.startUpperCase().prefix("validate");
+  }
+
+  private static Generator<PropertyValue, PojoSettings> propertyValueViolationsGenerator(
+      boolean isPartOfPath) {
+    final MethodGen<PropertyValue, PojoSettings> method =
+        JavaGenerators.<PropertyValue, PojoSettings>methodGen()
+            .modifiers(PRIVATE)
+            .noGenericTypes()
+            .returnType("boolean")
+            .methodName(propertyValue -> validateMethodName(propertyValue.getName()).asString())
+            .singleArgument(pv -> new Argument("ValidationResult", RESULT_ARGUMENT_NAME))
+            .doesNotThrow()
+            .content(propertyMethodContent(isPartOfPath))
+            .build();
+    return (propertyValue, settings, writer) -> {
+      final Writer methodWriter =
+          method
+              .append(ref(OpenApiUtilRefs.VALIDATION_RESULT))
+              .generate(propertyValue, settings, writer);
+      return appendNestedValueMethod(propertyValue, settings, methodWriter);
+    };
+  }
+
+  private static Generator<PropertyValue, PojoSettings> propertyMethodContent(
+      boolean isPartOfPath) {
+    final Generator<PropertyValue, PojoSettings> checks =
+        Generator.<PropertyValue, PojoSettings>emptyGen()
+            .append(enterProperty().filter(pv -> isPartOfPath))
+            .append(valueChecks())
+            .append(constant("%s.exit();", RESULT_ARGUMENT_NAME).filter(pv -> isPartOfPath))
+            .append(constant("return %s.proceed();", RESULT_ARGUMENT_NAME));
+    return Generator.<PropertyValue, PojoSettings>emptyGen()
+        .append(checks.filter(PropertyViolationsGenerator::hasValueChecks))
+        .append(
+            constant("return true;").filter((pv, settings) -> not(hasValueChecks(pv, settings))));
+  }
+
+  private static Generator<PropertyValue, PojoSettings> enterProperty() {
+    return (pv, s, w) ->
+        w.println(
+            "%s.enterProperty(\"%s\");",
+            RESULT_ARGUMENT_NAME, JavaEscaper.escape(pv.getName().getOriginalName().asString()));
+  }
+
+  private static Writer appendNestedValueMethod(
+      PropertyValue propertyValue, PojoSettings settings, Writer writer) {
+    return propertyValue
+        .nestedPropertyValue()
+        .filter(nested -> hasValueChecks(nested, settings))
+        .map(nested -> nestedValueMethod().generate(nested, settings, javaWriter()))
+        .map(nestedWriter -> writer.printSingleBlankLine().append(nestedWriter))
+        .orElse(writer);
+  }
+
+  private static Generator<PropertyValue, PojoSettings> nestedValueMethod() {
+    final MethodGen<PropertyValue, PojoSettings> method =
+        JavaGenerators.<PropertyValue, PojoSettings>methodGen()
+            .modifiers(PRIVATE)
+            .noGenericTypes()
+            .returnType("void")
+            .methodName(propertyValue -> validateMethodName(propertyValue.getName()).asString())
+            .arguments(
+                pv ->
+                    PList.of(
+                        new Argument(
+                            pv.getType().getParameterizedClassName().asString(),
+                            pv.getName().asString()),
+                        new Argument("ValidationResult", RESULT_ARGUMENT_NAME)))
+            .doesNotThrow()
+            .content(valueChecks())
+            .build();
+    return (propertyValue, settings, writer) ->
+        appendNestedValueMethod(
+            propertyValue, settings, method.generate(propertyValue, settings, writer));
+  }
+
+  private static boolean hasValueChecks(PropertyValue propertyValue, PojoSettings settings) {
+    return not(valueChecks().generate(propertyValue, settings, javaWriter()).asString().isEmpty());
+  }
+
+  private static Generator<PropertyValue, PojoSettings> valueChecks() {
+    return (propertyValue, settings, writer) -> {
+      final Writer checksWriter =
+          notNullValueChecks().generate(propertyValue, settings, javaWriter());
+      final Optional<NullViolation> nullViolation = NullViolation.fromPropertyValue(propertyValue);
+      if (checksWriter.asString().isEmpty()) {
+        return nullViolation
+            .map(violation -> violation.printSingleCheck(propertyValue, writer))
+            .orElse(writer);
+      }
+      final Generator<PropertyValue, PojoSettings> checks =
+          Generator.<PropertyValue, PojoSettings>emptyGen()
+              .append((pv, s, w) -> w.println("if (%s != null) {", pv.getAccessor()))
+              .append((pv, s, w) -> w.append(checksWriter), 1)
+              .append(
+                  (pv, s, w) ->
+                      nullViolation
+                          .map(violation -> violation.printElseBranch(w))
+                          .orElseGet(() -> w.println("}")));
+      return checks.generate(propertyValue, settings, writer);
+    };
+  }
+
+  private static Generator<PropertyValue, PojoSettings> notNullValueChecks() {
+    return Generator.<PropertyValue, PojoSettings>emptyGen()
+        .append(constraintCheck(minCondition(), "min", PropertyViolationsGenerator::minMessage))
+        .append(constraintCheck(maxCondition(), "max", PropertyViolationsGenerator::maxMessage))
+        .append(
+            constraintCheck(
+                minSizeCondition(), "size", PropertyViolationsGenerator::minSizeMessage))
+        .append(
+            constraintCheck(
+                maxSizeCondition(), "size", PropertyViolationsGenerator::maxSizeMessage))
+        .append(
+            constraintCheck(
+                decimalMinCondition(),
+                "decimalMin",
+                PropertyViolationsGenerator::decimalMinMessage))
+        .append(
+            constraintCheck(
+                decimalMaxCondition(),
+                "decimalMax",
+                PropertyViolationsGenerator::decimalMaxMessage))
+        .append(
+            constraintCheck(
+                patternCondition(), "pattern", PropertyViolationsGenerator::patternMessage))
+        .append(
+            constraintCheck(emailCondition(), "email", pv -> "must be a well-formed email address"))
+        .append(
+            constraintCheck(
+                uniqueArrayItemsCondition(), "uniqueItems", pv -> "must contain unique items"))
+        .append(
+            constraintCheck(
+                multipleOfCondition(),
+                "multipleOf",
+                PropertyViolationsGenerator::multipleOfMessage))
+        .append(deepValidation());
+  }
+
+  private static Generator<PropertyValue, PojoSettings> constraintCheck(
+      ConstraintConditions.Condition condition,
+      String constraint,
+      Function<PropertyValue, String> message) {
+    return (propertyValue, settings, writer) -> {
+      final Writer conditionWriter = condition.generate(propertyValue, settings, javaWriter());
+      if (conditionWriter.asString().isEmpty()) {
+        return writer;
+      }
+      return printViolation(
+              writer.println("if (!(%s)) {", conditionWriter.asString()),
+              constraint,
+              message.apply(propertyValue))
+          .println("}")
+          .refs(conditionWriter.getRefs());
+    };
+  }
+
+  private static Writer printViolation(Writer writer, String constraint, String message) {
+    return writer
+        .tab(1)
+        .println(
+            "%s.addViolation(\"%s\", \"%s\");",
+            RESULT_ARGUMENT_NAME, constraint, JavaEscaper.escape(message));
+  }
+
+  private static Generator<PropertyValue, PojoSettings> deepValidation() {
+    return (propertyValue, settings, writer) ->
+        propertyValue
+            .getType()
+            .fold(
+                arrayType -> deepValidateArrayType(propertyValue, arrayType, settings, writer),
+                booleanType -> writer,
+                enumType -> writer,
+                mapType -> deepValidateMapType(propertyValue, mapType, settings, writer),
+                javaAnyType -> writer,
+                numericType -> writer,
+                integerType -> writer,
+                objectType -> deepValidateObjectType(propertyValue, objectType, writer),
+                stringType -> writer);
+  }
+
+  private static Writer deepValidateArrayType(
+      PropertyValue propertyValue, JavaArrayType arrayType, PojoSettings settings, Writer writer) {
+    return propertyValue
+        .nestedPropertyValue()
+        .filter(nested -> hasValueChecks(nested, settings))
+        .map(
+            nested -> {
+              final JavaName indexName = propertyValue.getName().append("Index");
+              return printNestedValueValidation(
+                  writer
+                      .println("int %s = 0;", indexName)
+                      .println(
+                          "for (%s %s : %s) {",
+                          arrayType.getItemType().getParameterizedClassName(),
+                          nested.getName(),
+                          propertyValue.getAccessor())
+                      .tab(1)
+                      .println("%s.enterIndex(%s++);", RESULT_ARGUMENT_NAME, indexName),
+                  nested,
+                  nested.getName().asString());
+            })
+        .orElse(writer);
+  }
+
+  private static Writer deepValidateMapType(
+      PropertyValue propertyValue, JavaMapType mapType, PojoSettings settings, Writer writer) {
+    return propertyValue
+        .nestedPropertyValue()
+        .filter(nested -> hasValueChecks(nested, settings))
+        .map(
+            nested -> {
+              final JavaName entryName = propertyValue.getName().append("Entry");
+              return printNestedValueValidation(
+                  writer
+                      .println(
+                          "for (Map.Entry<%s, %s> %s : %s.entrySet()) {",
+                          mapType.getKey().getParameterizedClassName(),
+                          mapType.getValue().getParameterizedClassName(),
+                          entryName,
+                          propertyValue.getAccessor())
+                      .tab(1)
+                      .println("%s.enterProperty(%s.getKey());", RESULT_ARGUMENT_NAME, entryName)
+                      .ref(JavaRefs.JAVA_UTIL_MAP),
+                  nested,
+                  String.format("%s.getValue()", entryName));
+            })
+        .orElse(writer);
+  }
+
+  private static Writer printNestedValueValidation(
+      Writer writer, PropertyValue nested, String value) {
+    return writer
+        .tab(1)
+        .println("%s(%s, %s);", validateMethodName(nested.getName()), value, RESULT_ARGUMENT_NAME)
+        .tab(1)
+        .println("%s.exit();", RESULT_ARGUMENT_NAME)
+        .tab(1)
+        .println("if (!%s.proceed()) {", RESULT_ARGUMENT_NAME)
+        .tab(2)
+        .println("break;")
+        .tab(1)
+        .println("}")
+        .println("}");
+  }
+
+  private static Writer deepValidateObjectType(
+      PropertyValue propertyValue, JavaObjectType objectType, Writer writer) {
+    return objectType.getOrigin().equals(JavaObjectType.TypeOrigin.OPENAPI)
+        ? writer.println("%s.validate(%s);", propertyValue.getAccessor(), RESULT_ARGUMENT_NAME)
+        : writer;
+  }
+
+  private static String minMessage(PropertyValue propertyValue) {
+    return constraints(propertyValue)
+        .getMin()
+        .map(min -> String.format("must be greater than or equal to %d", min.getValue()))
+        .orElse("");
+  }
+
+  private static String maxMessage(PropertyValue propertyValue) {
+    return constraints(propertyValue)
+        .getMax()
+        .map(max -> String.format("must be less than or equal to %d", max.getValue()))
+        .orElse("");
+  }
+
+  private static String minSizeMessage(PropertyValue propertyValue) {
+    final Constraints constraints = constraints(propertyValue);
+    final Optional<Integer> minPropertyCountForMap =
+        constraints
+            .getPropertyCount()
+            .flatMap(PropertyCount::getMinProperties)
+            .filter(ignore -> propertyValue.getType().isMapType());
+    return Optionals.or(constraints.getSize().flatMap(Size::getMin), minPropertyCountForMap)
+        .map(min -> String.format("size must be greater than or equal to %d", min))
+        .orElse("");
+  }
+
+  private static String maxSizeMessage(PropertyValue propertyValue) {
+    final Constraints constraints = constraints(propertyValue);
+    final Optional<Integer> maxPropertyCountForMap =
+        constraints
+            .getPropertyCount()
+            .flatMap(PropertyCount::getMaxProperties)
+            .filter(ignore -> propertyValue.getType().isMapType());
+    return Optionals.or(constraints.getSize().flatMap(Size::getMax), maxPropertyCountForMap)
+        .map(max -> String.format("size must be less than or equal to %d", max))
+        .orElse("");
+  }
+
+  private static String decimalMinMessage(PropertyValue propertyValue) {
+    return constraints(propertyValue)
+        .getDecimalMin()
+        .map(
+            decimalMin ->
+                String.format(
+                    "must be greater than %s%s",
+                    decimalMin.isInclusiveMin() ? "or equal to " : "", decimalMin.getValue()))
+        .orElse("");
+  }
+
+  private static String decimalMaxMessage(PropertyValue propertyValue) {
+    return constraints(propertyValue)
+        .getDecimalMax()
+        .map(
+            decimalMax ->
+                String.format(
+                    "must be less than %s%s",
+                    decimalMax.isInclusiveMax() ? "or equal to " : "", decimalMax.getValue()))
+        .orElse("");
+  }
+
+  private static String patternMessage(PropertyValue propertyValue) {
+    return constraints(propertyValue)
+        .getPattern()
+        .map(pattern -> String.format("must match \"%s\"", pattern.getPattern()))
+        .orElse("");
+  }
+
+  private static String multipleOfMessage(PropertyValue propertyValue) {
+    return constraints(propertyValue)
+        .getMultipleOf()
+        .map(multipleOf -> String.format("must be a multiple of %s", multipleOf.asString()))
+        .orElse("");
+  }
+
+  private static Constraints constraints(PropertyValue propertyValue) {
+    return propertyValue.getType().getConstraints();
+  }
+
+  /** Violation which is reported if the value of the property is null. */
+  private static class NullViolation {
+    private final Optional<String> additionalCondition;
+    private final String constraint;
+    private final String message;
+
+    private NullViolation(Optional<String> additionalCondition, String constraint, String message) {
+      this.additionalCondition = additionalCondition;
+      this.constraint = constraint;
+      this.message = message;
+    }
+
+    private static NullViolation notNull(Optional<String> additionalCondition) {
+      return new NullViolation(additionalCondition, "notNull", "must not be null");
+    }
+
+    private static Optional<NullViolation> fromPropertyValue(PropertyValue propertyValue) {
+      if (propertyValue.isNested()) {
+        return propertyValue.getNullability().isNullable()
+            ? Optional.empty()
+            : Optional.of(notNull(Optional.empty()));
+      } else if (propertyValue.isRequiredAndNotNullable()) {
+        return Optional.of(notNull(Optional.empty()));
+      } else if (propertyValue.isRequiredAndNullable()) {
+        final String isPresentFlag =
+            IsPresentFlagName.fromName(propertyValue.getName()).getName().asString();
+        return Optional.of(
+            new NullViolation(
+                Optional.of(String.format("!%s", isPresentFlag)), "required", "must be present"));
+      } else if (propertyValue.isOptionalAndNotNullable()) {
+        final String isNotNullFlag =
+            IsNotNullFlagName.fromName(propertyValue.getName()).getName().asString();
+        return Optional.of(notNull(Optional.of(String.format("!%s", isNotNullFlag))));
+      } else {
+        return Optional.empty();
+      }
+    }
+
+    private Writer printSingleCheck(PropertyValue propertyValue, Writer writer) {
+      final String condition =
+          additionalCondition
+              .map(c -> String.format("%s == null && %s", propertyValue.getAccessor(), c))
+              .orElseGet(() -> String.format("%s == null", propertyValue.getAccessor()));
+      return printViolation(writer.println("if (%s) {", condition), constraint, message)
+          .println("}");
+    }
+
+    private Writer printElseBranch(Writer writer) {
+      final Writer elseWriter =
+          additionalCondition
+              .map(c -> writer.println("} else if (%s) {", c))
+              .orElseGet(() -> writer.println("} else {"));
+      return printViolation(elseWriter, constraint, message).println("}");
+    }
+  }
+}
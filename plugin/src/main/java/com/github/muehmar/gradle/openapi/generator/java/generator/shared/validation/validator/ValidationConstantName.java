@@ -0,0 +1,51 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import com.github.muehmar.gradle.openapi.generator.java.model.name.JavaName;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.Value;
+
+/**
+ * Name of a static constant which is used in the validator. The name is derived from the value of
+ * the constant, i.e. properties with the same pattern or decimal bound share the constant and
+ * different property names cannot lead to the same constant name.
+ */
+@Value
+class ValidationConstantName {
+  JavaName name;
+
+  public static ValidationConstantName pattern(String escapedPattern) {
+    return fromPrefixAndValue("PATTERN_", escapedPattern);
+  }
+
+  public static ValidationConstantName decimal(String value) {
+    return fromPrefixAndValue("DECIMAL_", value);
+  }
+
+  private static ValidationConstantName fromPrefixAndValue(String prefix, String value) {
+    final byte[] hash = sha256(value);
+    final StringBuilder constantName = new StringBuilder(prefix);
+    for (int i = 0; i < 8; i++) {
+      constantName.append(String.format("%02X", hash[i]));
+    }
+    return new ValidationConstantName(JavaName.fromString(constantName.toString()));
+  }
+
+  private static byte[] sha256(String value) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+    }
+  }
+
+  public String asString() {
+    return name.asString();
+  }
+
+  @Override
+  public String toString() {
+    return asString();
+  }
+}
@@ -0,0 +1,129 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import static com.github.muehmar.gradle.openapi.generator.java.model.validation.ConstraintType.DECIMAL_MAX;
+import static com.github.muehmar.gradle.openapi.generator.java.model.validation.ConstraintType.DECIMAL_MIN;
+import static com.github.muehmar.gradle.openapi.generator.java.model.validation.ConstraintType.PATTERN;
+import static com.github.muehmar.gradle.openapi.util.Booleans.not;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.JavaEscaper;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaArrayPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.validation.JavaConstraints;
+import com.github.muehmar.gradle.openapi.generator.java.ref.JavaRefs;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.DecimalMax;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.DecimalMin;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import io.github.muehmar.codegenerator.Generator;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Creates the static constants which are used in the validator, i.e. the compiled patterns and the
+ * decimal bounds which cannot be compared as double. The constants are created once per class
+ * instead of once per validation and each distinct pattern or decimal bound is created only once.
+ */
+public class ValidationConstantsGenerator {
+  private ValidationConstantsGenerator() {}
+
+  public static Generator<JavaObjectPojo, PojoSettings> objectPojoValidationConstantsGenerator() {
+    return Generator.<JavaObjectPojo, PojoSettings>emptyGen()
+        .append(constantsGenerator(), ValidationConstantsGenerator::propertyValues);
+  }
+
+  public static Generator<JavaArrayPojo, PojoSettings> arrayPojoValidationConstantsGenerator() {
+    return Generator.<JavaArrayPojo, PojoSettings>emptyGen()
+        .append(
+            constantsGenerator(),
+            pojo ->
+                withNestedPropertyValues(PropertyValue.fromJavaMember(pojo.getArrayPojoMember())));
+  }
+
+  private static PList<PropertyValue> propertyValues(JavaObjectPojo pojo) {
+    final PList<PropertyValue> additionalProperties =
+        pojo.getAdditionalProperties().isAllowed()
+            ? PList.single(PropertyValue.fromAdditionalProperties(pojo))
+            : PList.empty();
+    return pojo.getMembers()
+        .map(PropertyValue::fromJavaMember)
+        .concat(PropertyValue.fromRequiredAdditionalProperties(pojo))
+        .concat(additionalProperties)
+        .flatMap(ValidationConstantsGenerator::withNestedPropertyValues);
+  }
+
+  private static PList<PropertyValue> withNestedPropertyValues(PropertyValue propertyValue) {
+    return PList.single(propertyValue)
+        .concat(
+            PList.fromOptional(propertyValue.nestedPropertyValue())
+                .flatMap(ValidationConstantsGenerator::withNestedPropertyValues));
+  }
+
+  private static Generator<PList<PropertyValue>, PojoSettings> constantsGenerator() {
+    return Generator.<PList<PropertyValue>, PojoSettings>emptyGen()
+        .appendList(patternConstantGenerator(), ValidationConstantsGenerator::distinctPatterns)
+        .appendList(decimalConstantGenerator(), ValidationConstantsGenerator::distinctDecimals);
+  }
+
+  private static PList<String> distinctPatterns(PList<PropertyValue> propertyValues) {
+    return propertyValues
+        .flatMap(
+            propertyValue ->
+                PList.fromOptional(
+                    propertyValue
+                        .getType()
+                        .getConstraints()
+                        .getPattern()
+                        .filter(
+                            ignore -> JavaConstraints.isSupported(propertyValue.getType(), PATTERN))
+                        .map(pattern -> pattern.getPatternEscaped(JavaEscaper::escape))))
+        .distinct(Function.identity());
+  }
+
+  private static Generator<String, PojoSettings> patternConstantGenerator() {
+    return (escapedPattern, settings, writer) ->
+        writer.println(
+            "private static final %s %s = %s.compile(\"%s\");",
+            JavaRefs.JAVA_UTIL_REGEX_PATTERN,
+            ValidationConstantName.pattern(escapedPattern),
+            JavaRefs.JAVA_UTIL_REGEX_PATTERN,
+            escapedPattern);
+  }
+
+  private static PList<String> distinctDecimals(PList<PropertyValue> propertyValues) {
+    return propertyValues
+        .flatMap(
+            propertyValue ->
+                PList.fromOptional(decimalMinValue(propertyValue))
+                    .concat(PList.fromOptional(decimalMaxValue(propertyValue))))
+        .filter(value -> not(DecimalBounds.exactDoubleLiteral(value).isPresent()))
+        .distinct(Function.identity());
+  }
+
+  private static Optional<String> decimalMinValue(PropertyValue propertyValue) {
+    return propertyValue
+        .getType()
+        .getConstraints()
+        .getDecimalMin()
+        .filter(ignore -> JavaConstraints.isSupported(propertyValue.getType(), DECIMAL_MIN))
+        .map(DecimalMin::getValue);
+  }
+
+  private static Optional<String> decimalMaxValue(PropertyValue propertyValue) {
+    return propertyValue
+        .getType()
+        .getConstraints()
+        .getDecimalMax()
+        .filter(ignore -> JavaConstraints.isSupported(propertyValue.getType(), DECIMAL_MAX))
+        .map(DecimalMax::getValue);
+  }
+
+  private static Generator<String, PojoSettings> decimalConstantGenerator() {
+    return (value, settings, writer) ->
+        writer.println(
+            "private static final %s %s = new %s(\"%s\");",
+            JavaRefs.JAVA_MATH_BIG_DECIMAL,
+            ValidationConstantName.decimal(value),
+            JavaRefs.JAVA_MATH_BIG_DECIMAL,
+            value);
+  }
+}
@@ -123,6 +123,19 @@ public interface JavaType {
         JavaNumericType.class::isInstance);
   }
 
+  default boolean isEnumType() {
+    return fold(
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance,
+        JavaEnumType.class::isInstance);
+  }
+
   default PList<QualifiedClassName> getImports() {
     return getAllQualifiedClassNames()
         .filter(qualifiedClassName -> qualifiedClassName.getPackageName().isPresent())
@@ -7,6 +7,8 @@ public class JacksonRefs {
       "com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder";
   public static final String JSON_DESERIALIZE =
       "com.fasterxml.jackson.databind.annotation.JsonDeserialize";
+  public static final String JSON_SERIALIZE =
+      "com.fasterxml.jackson.databind.annotation.JsonSerialize";
   public static final String JSON_VALUE = "com.fasterxml.jackson.annotation.JsonValue";
   public static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
   public static final String JSON_ANY_GETTER = "com.fasterxml.jackson.annotation.JsonAnyGetter";
@@ -14,4 +16,19 @@ public class JacksonRefs {
   public static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
   public static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
   public static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+  public static final String JSON_GENERATOR = "com.fasterxml.jackson.core.JsonGenerator";
+  public static final String JSON_PARSER = "com.fasterxml.jackson.core.JsonParser";
+  public static final String JSON_TOKEN = "com.fasterxml.jackson.core.JsonToken";
+  public static final String TYPE_REFERENCE = "com.fasterxml.jackson.core.type.TypeReference";
+  public static final String SERIALIZED_STRING = "com.fasterxml.jackson.core.io.SerializedString";
+  public static final String DESERIALIZATION_CONTEXT =
+      "com.fasterxml.jackson.databind.DeserializationContext";
+  public static final String SERIALIZER_PROVIDER =
+      "com.fasterxml.jackson.databind.SerializerProvider";
+  public static final String JAVA_TYPE = "com.fasterxml.jackson.databind.JavaType";
+  public static final String STD_DESERIALIZER =
+      "com.fasterxml.jackson.databind.deser.std.StdDeserializer";
+  public static final String STD_SERIALIZER =
+      "com.fasterxml.jackson.databind.ser.std.StdSerializer";
+  public static final String TYPE_FACTORY = "com.fasterxml.jackson.databind.type.TypeFactory";
 }
@@ -23,10 +23,13 @@ public class JavaRefs {
   public static final String JAVA_UTIL_UNARYOPERATOR = "java.util.function.UnaryOperator";
   public static final String JAVA_UTIL_FUNCTION = "java.util.function.Function";
   public static final String JAVA_UTIL_BIFUNCTION = "java.util.function.BiFunction";
+  public static final String JAVA_UTIL_BICONSUMER = "java.util.function.BiConsumer";
   public static final String JAVA_UTIL_SUPPLIER = "java.util.function.Supplier";
 
   public static final String JAVA_UTIL_STREAM_COLLECTORS = "java.util.stream.Collectors";
   public static final String JAVA_UTIL_STREAM_STREAM = "java.util.stream.Stream";
 
   public static final String JAVA_MATH_BIG_DECIMAL = "java.math.BigDecimal";
+
+  public static final String JAVA_IO_IO_EXCEPTION = "java.io.IOException";
 }
@@ -1,7 +1,13 @@
 package com.github.muehmar.gradle.openapi.generator.java.ref;
 
+import com.github.muehmar.gradle.openapi.generator.java.generator.pojo.nullableitemslist.NullableItemsListClassGenerator;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.AdditionalPropertyClassGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.CompactPropertiesClassGenerator;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.NullableAdditionalPropertyClassGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.additionalproperties.PropertiesViewClassGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.jackson.JacksonStreamingClassGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.UniqueItemsValidatorClassGenerator;
+import com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.ValidationResultClassGenerator;
 
 public class OpenApiUtilRefs {
   private OpenApiUtilRefs() {}
@@ -11,9 +17,21 @@ public class OpenApiUtilRefs {
   public static final String TRISTATE = OPENAPI_UTIL_PACKAGE + ".Tristate";
   public static final String JACKSON_NULL_CONTAINER =
       OPENAPI_UTIL_PACKAGE + ".JacksonNullContainer";
+  public static final String JACKSON_STREAMING =
+      OPENAPI_UTIL_PACKAGE + "." + JacksonStreamingClassGenerator.CLASSNAME;
   public static final String EMAIL_VALIDATOR = OPENAPI_UTIL_PACKAGE + ".EmailValidator";
+  public static final String UNIQUE_ITEMS_VALIDATOR =
+      OPENAPI_UTIL_PACKAGE + "." + UniqueItemsValidatorClassGenerator.CLASSNAME;
+  public static final String VALIDATION_RESULT =
+      OPENAPI_UTIL_PACKAGE + "." + ValidationResultClassGenerator.CLASSNAME;
   public static final String ADDITIONAL_PROPERTY =
       OPENAPI_UTIL_PACKAGE + "." + AdditionalPropertyClassGenerator.CLASSNAME;
   public static final String NULLABLE_ADDITIONAL_PROPERTY =
       OPENAPI_UTIL_PACKAGE + "." + NullableAdditionalPropertyClassGenerator.CLASSNAME;
+  public static final String NULLABLE_ITEMS_LIST =
+      OPENAPI_UTIL_PACKAGE + "." + NullableItemsListClassGenerator.CLASSNAME;
+  public static final String PROPERTIES_VIEW =
+      OPENAPI_UTIL_PACKAGE + "." + PropertiesViewClassGenerator.CLASSNAME;
+  public static final String COMPACT_PROPERTIES =
+      OPENAPI_UTIL_PACKAGE + "." + CompactPropertiesClassGenerator.CLASSNAME;
 }
@@ -1,15 +1,36 @@
 package com.github.muehmar.gradle.openapi.generator.mapper;
 
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.ComponentsOnlySpecificationParser;
 import com.github.muehmar.gradle.openapi.generator.mapper.reader.FileSpecificationReader;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.ParsedSpecificationCache;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SpecificationParser;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SpecificationParserType;
 import com.github.muehmar.gradle.openapi.generator.mapper.reader.SwaggerSpecificationParser;
 import com.github.muehmar.gradle.openapi.generator.mapper.resolver.MapResultResolverImpl;
 
 public class PojoMapperFactory {
   private PojoMapperFactory() {}
 
-  public static SpecificationMapper create(String pojoSuffix) {
+  public static SpecificationMapper create(
+      String pojoSuffix,
+      int parsingParallelism,
+      ParsedSpecificationCache cache,
+      SpecificationParserType parserType) {
     return SpecificationMapperImpl.create(
         new MapResultResolverImpl(),
-        new SwaggerSpecificationParser(new FileSpecificationReader(), pojoSuffix));
+        createParser(pojoSuffix, cache, parserType),
+        parsingParallelism);
+  }
+
+  private static SpecificationParser createParser(
+      String pojoSuffix, ParsedSpecificationCache cache, SpecificationParserType parserType) {
+    final FileSpecificationReader specReader = new FileSpecificationReader();
+    switch (parserType) {
+      case COMPONENTS_ONLY:
+        return new ComponentsOnlySpecificationParser(specReader, pojoSuffix, cache);
+      case SWAGGER:
+      default:
+        return new SwaggerSpecificationParser(specReader, pojoSuffix, cache);
+    }
   }
 }
@@ -14,6 +14,7 @@ import com.github.muehmar.gradle.openapi.generator.model.schema.OpenApiSchema;
 import com.github.muehmar.gradle.openapi.generator.model.specification.MainDirectory;
 import com.github.muehmar.gradle.openapi.generator.model.specification.OpenApiSpec;
 import com.github.muehmar.gradle.openapi.generator.settings.ExcludedSchemas;
+import com.github.muehmar.gradle.openapi.util.Parallel;
 import java.awt.*;
 import java.util.Optional;
 
@@ -21,16 +22,28 @@ public class SpecificationMapperImpl implements SpecificationMapper {
 
   private final MapResultResolver resolver;
   private final SpecificationParser specificationParser;
+  private final int parsingParallelism;
 
   private SpecificationMapperImpl(
-      MapResultResolver resolver, SpecificationParser specificationParser) {
+      MapResultResolver resolver, SpecificationParser specificationParser, int parsingParallelism) {
     this.resolver = resolver;
     this.specificationParser = specificationParser;
+    this.parsingParallelism = parsingParallelism;
   }
 
   public static SpecificationMapper create(
       MapResultResolver resolver, SpecificationParser specificationParser) {
-    return new SpecificationMapperImpl(resolver, specificationParser);
+    return create(resolver, specificationParser, 1);
+  }
+
+  /**
+   * Creates a mapper which parses the specifications which are referenced in the same step with at
+   * most {@code parsingParallelism} threads. The parsed specifications are merged in the order of
+   * the references, i.e. the result is the same for any parallelism.
+   */
+  public static SpecificationMapper create(
+      MapResultResolver resolver, SpecificationParser specificationParser, int parsingParallelism) {
+    return new SpecificationMapperImpl(resolver, specificationParser, parsingParallelism);
   }
 
   @Override
@@ -47,7 +60,10 @@ public class SpecificationMapperImpl implements SpecificationMapper {
     return mapContext.onUnmappedItems(
         (ctx, specs) -> {
           final PList<ParsedSpecification> parsedSpecifications =
-              specs.toPList().map(spec -> specificationParser.parse(mainDirectory, spec));
+              Parallel.map(
+                  specs.toPList(),
+                  parsingParallelism,
+                  spec -> specificationParser.parse(mainDirectory, spec));
           final PList<PojoSchema> pojoSchemas =
               parsedSpecifications
                   .flatMap(ParsedSpecification::getPojoSchemas)
@@ -0,0 +1,85 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import ch.bluecare.commons.data.PList;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.muehmar.gradle.openapi.generator.model.ParsedSpecification;
+import com.github.muehmar.gradle.openapi.generator.model.specification.MainDirectory;
+import com.github.muehmar.gradle.openapi.generator.model.specification.OpenApiSpec;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.ObjectMapperFactory;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.util.DeserializationUtils;
+import java.io.IOException;
+import java.util.Set;
+import org.gradle.api.GradleException;
+
+/**
+ * Parser which reads only the parts of the specification which are used for the generation. The
+ * document is read with a streaming parser and the sections which contain no components, i.e. the
+ * paths and webhooks, are skipped without building a tree for them. The remaining document is
+ * deserialized with the swagger parser, i.e. the parsed specification is the same as the one from
+ * the {@link SwaggerSpecificationParser}.
+ */
+public class ComponentsOnlySpecificationParser implements SpecificationParser {
+  private static final Set<String> SKIPPED_SECTIONS = PList.of("paths", "webhooks").toHashSet();
+  private static final ObjectMapper JSON_MAPPER = ObjectMapperFactory.createJson();
+  private static final ObjectMapper YAML_MAPPER = ObjectMapperFactory.createYaml();
+
+  private final SpecificationReader specReader;
+  private final String pojoSuffix;
+  private final ParsedSpecificationCache cache;
+
+  public ComponentsOnlySpecificationParser(
+      SpecificationReader specReader, String pojoSuffix, ParsedSpecificationCache cache) {
+    this.specReader = specReader;
+    this.pojoSuffix = pojoSuffix;
+    this.cache = cache;
+  }
+
+  @Override
+  public ParsedSpecification parse(MainDirectory mainDirectory, OpenApiSpec inputSpec) {
+    final String specString = specReader.read(mainDirectory, inputSpec);
+    return cache.getOrParse(
+        specString,
+        pojoSuffix,
+        () -> ParsedSpecifications.fromOpenApi(parseSpec(specString), pojoSuffix));
+  }
+
+  private static OpenAPI parseSpec(String inputSpec) {
+    final ParseOptions parseOptions = new ParseOptions();
+    parseOptions.setResolve(false);
+    parseOptions.setResolveFully(false);
+    final ObjectNode rootNode = readWithoutSkippedSections(inputSpec);
+    return ParsedSpecifications.getOpenApi(
+        new OpenAPIV3Parser().parseJsonNode(null, rootNode, parseOptions));
+  }
+
+  private static ObjectNode readWithoutSkippedSections(String inputSpec) {
+    final ObjectMapper mapper = DeserializationUtils.isJson(inputSpec) ? JSON_MAPPER : YAML_MAPPER;
+    try (final JsonParser parser = mapper.getFactory().createParser(inputSpec)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new GradleException("Unable to parse OpenAPI specification.");
+      }
+      final ObjectNode rootNode = mapper.createObjectNode();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        if (SKIPPED_SECTIONS.contains(fieldName)) {
+          parser.skipChildren();
+          rootNode.set(fieldName, mapper.createObjectNode());
+        } else {
+          rootNode.set(fieldName, mapper.readTree(parser));
+        }
+      }
+      return rootNode;
+    } catch (IOException e) {
+      throw new GradleException(
+          "Failed to parse the OpenAPI specification with the following message: " + e.getMessage(),
+          e);
+    }
+  }
+}
@@ -2,27 +2,25 @@ package com.github.muehmar.gradle.openapi.generator.mapper.reader;
 
 import com.github.muehmar.gradle.openapi.generator.model.specification.MainDirectory;
 import com.github.muehmar.gradle.openapi.generator.model.specification.OpenApiSpec;
-import java.io.BufferedReader;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.gradle.api.GradleException;
 
+/**
+ * Reads the specification as UTF-8 encoded file with a single bulk read. The swagger parser accepts
+ * only a String, i.e. the decoded content is needed once on the heap in any case.
+ */
 public class FileSpecificationReader implements SpecificationReader {
   @Override
   public String read(MainDirectory mainDirectory, OpenApiSpec specification) {
-    try (final FileInputStream fileInputStream =
-            new FileInputStream(specification.asPathWithMainDirectory(mainDirectory).toFile());
-        final BufferedReader bufferedReader =
-            new BufferedReader(new InputStreamReader(fileInputStream))) {
-      return bufferedReader.lines().collect(Collectors.joining("\n"));
+    final Path specPath = specification.asPathWithMainDirectory(mainDirectory);
+    try {
+      return new String(Files.readAllBytes(specPath), StandardCharsets.UTF_8);
     } catch (IOException e) {
       throw new GradleException(
-          "Unable to read the specification '"
-              + specification.asPathWithMainDirectory(mainDirectory).toString()
-              + "'",
-          e);
+          "Unable to read the specification '" + specPath.toString() + "'", e);
     }
   }
 }
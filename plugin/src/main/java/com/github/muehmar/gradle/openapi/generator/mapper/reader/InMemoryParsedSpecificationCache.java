@@ -0,0 +1,34 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import com.github.muehmar.gradle.openapi.generator.model.ParsedSpecification;
+import com.github.muehmar.gradle.openapi.manifest.Fingerprint;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.Value;
+
+/**
+ * Thread safe cache which keeps the parsed specifications in memory. The specifications are
+ * identified by the fingerprint of their content, i.e. the cache does not need to be invalidated if
+ * a specification changes.
+ */
+class InMemoryParsedSpecificationCache implements ParsedSpecificationCache {
+  private final Map<CacheKey, ParsedSpecification> parsedSpecifications;
+
+  InMemoryParsedSpecificationCache() {
+    this.parsedSpecifications = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public ParsedSpecification getOrParse(
+      String specification, String pojoSuffix, Supplier<ParsedSpecification> parse) {
+    final CacheKey key = new CacheKey(Fingerprint.ofContent(specification), pojoSuffix);
+    return parsedSpecifications.computeIfAbsent(key, ignore -> parse.get());
+  }
+
+  @Value
+  private static class CacheKey {
+    Fingerprint specificationFingerprint;
+    String pojoSuffix;
+  }
+}
@@ -0,0 +1,21 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import com.github.muehmar.gradle.openapi.generator.model.ParsedSpecification;
+import java.util.function.Supplier;
+
+/**
+ * Cache of parsed specifications. The parsed specification depends only on the content of the
+ * specification and the suffix of the pojos, which are therefore used as key.
+ */
+public interface ParsedSpecificationCache {
+  ParsedSpecification getOrParse(
+      String specification, String pojoSuffix, Supplier<ParsedSpecification> parse);
+
+  static ParsedSpecificationCache noCache() {
+    return (specification, pojoSuffix, parse) -> parse.get();
+  }
+
+  static ParsedSpecificationCache inMemory() {
+    return new InMemoryParsedSpecificationCache();
+  }
+}
@@ -0,0 +1,67 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import static java.util.Objects.nonNull;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.model.ParameterSchema;
+import com.github.muehmar.gradle.openapi.generator.model.ParsedSpecification;
+import com.github.muehmar.gradle.openapi.generator.model.PojoSchema;
+import com.github.muehmar.gradle.openapi.generator.model.name.ComponentName;
+import com.github.muehmar.gradle.openapi.generator.model.name.Name;
+import com.github.muehmar.gradle.openapi.generator.model.schema.OpenApiSchema;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.gradle.api.GradleException;
+
+/** Creates the {@link ParsedSpecification} from the result of the swagger parser. */
+class ParsedSpecifications {
+  private ParsedSpecifications() {}
+
+  static OpenAPI getOpenApi(SwaggerParseResult swaggerParseResult) {
+    final OpenAPI openAPI = swaggerParseResult.getOpenAPI();
+    if (openAPI == null) {
+      if (swaggerParseResult.getMessages() != null) {
+        final String messages =
+            PList.fromIter(swaggerParseResult.getMessages())
+                .map(message -> String.format("%s", message))
+                .mkString("\n\n");
+        throw new GradleException(
+            "Failed to parse the OpenAPI specification with the following messages: " + messages);
+      }
+      throw new GradleException("Unable to parse OpenAPI specification.");
+    }
+    return openAPI;
+  }
+
+  static ParsedSpecification fromOpenApi(OpenAPI openAPI, String pojoSuffix) {
+    final PList<PojoSchema> pojoSchemas = parsePojoSchemas(openAPI, pojoSuffix);
+    final PList<ParameterSchema> parameters = parseParameters(openAPI);
+    return new ParsedSpecification(pojoSchemas, parameters);
+  }
+
+  private static PList<PojoSchema> parsePojoSchemas(OpenAPI openAPI, String pojoSuffix) {
+    return PList.fromOptional(Optional.ofNullable(openAPI.getComponents().getSchemas()))
+        .flatMap(Map::entrySet)
+        .filter(Objects::nonNull)
+        .map(
+            entry ->
+                new PojoSchema(
+                    ComponentName.fromSchemaStringAndSuffix(entry.getKey(), pojoSuffix),
+                    OpenApiSchema.wrapSchema(entry.getValue())));
+  }
+
+  private static PList<ParameterSchema> parseParameters(OpenAPI openAPI) {
+    return PList.fromOptional(Optional.ofNullable(openAPI.getComponents().getParameters()))
+        .flatMap(Map::entrySet)
+        .filter(Objects::nonNull)
+        .filter(entry -> nonNull(entry.getValue().getSchema()))
+        .map(
+            entry ->
+                new ParameterSchema(
+                    Name.ofString(entry.getKey()),
+                    OpenApiSchema.wrapSchema(entry.getValue().getSchema())));
+  }
+}
@@ -0,0 +1,23 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import ch.bluecare.commons.data.PList;
+import java.util.Optional;
+
+public enum SpecificationParserType {
+  SWAGGER("swagger"),
+  COMPONENTS_ONLY("components-only");
+
+  private final String value;
+
+  SpecificationParserType(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static Optional<SpecificationParserType> fromString(String value) {
+    return PList.of(values()).find(type -> type.value.equals(value));
+  }
+}
@@ -5,13 +5,18 @@ import static com.github.muehmar.gradle.openapi.util.Booleans.not;
 import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.generator.mapper.MapResult;
 import com.github.muehmar.gradle.openapi.generator.mapper.UnresolvedMapResult;
+import com.github.muehmar.gradle.openapi.generator.model.ObjectTypeReplacements;
 import com.github.muehmar.gradle.openapi.generator.model.Pojo;
 import com.github.muehmar.gradle.openapi.generator.model.PojoMemberReference;
 import com.github.muehmar.gradle.openapi.generator.model.UnresolvedObjectPojo;
 import com.github.muehmar.gradle.openapi.generator.model.composition.UnresolvedAllOfComposition;
 import com.github.muehmar.gradle.openapi.generator.model.name.PojoName;
+import com.github.muehmar.gradle.openapi.generator.model.pojo.EnumPojo;
 import com.github.muehmar.gradle.openapi.generator.model.type.EnumObjectType;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.Value;
 
 public class MapResultResolverImpl implements MapResultResolver {
@@ -29,19 +34,16 @@ public class MapResultResolverImpl implements MapResultResolver {
         unresolvedMapResult.getUnresolvedObjectPojos();
     final PList<AllOfMemberReference> allOfMemberReferences =
         createAllOfMemberReferences(unresolvedObjectPojos, pojoMemberReferences);
+    final Set<UnresolvedObjectPojo> inlinedUnresolvedObjectPojos =
+        allOfMemberReferences.map(AllOfMemberReference::getUnresolvedObjectPojo).toHashSet();
     final PList<UnresolvedObjectPojo> filteredUnresolvedObjectPojo =
         unresolvedObjectPojos.filter(
-            unresolvedPojo ->
-                not(
-                    allOfMemberReferences.exists(
-                        ref -> ref.unresolvedObjectPojo.equals(unresolvedPojo))));
+            unresolvedPojo -> not(inlinedUnresolvedObjectPojos.contains(unresolvedPojo)));
 
     final PList<Pojo> resolvedPojos =
         Optional.of(pojos)
             .map(p -> UnresolvedObjectPojoResolver.resolve(filteredUnresolvedObjectPojo, p))
-            .map(p -> inlineAllOfMemberReferences(p, allOfMemberReferences))
-            .map(p -> inlineMemberReferences(p, pojoMemberReferences))
-            .map(this::resolveEnumObjectPojos)
+            .map(p -> inlineReferences(p, allOfMemberReferences, pojoMemberReferences))
             .map(NullableRootPojoResolver::resolve)
             .orElse(PList.empty());
     return MapResult.of(
@@ -50,56 +52,48 @@ public class MapResultResolverImpl implements MapResultResolver {
         unresolvedMapResult.getUsedSpecs());
   }
 
-  private PList<Pojo> inlineAllOfMemberReferences(
-      PList<Pojo> pojos, PList<AllOfMemberReference> allOfMemberReferences) {
-    return allOfMemberReferences.foldLeft(
-        pojos,
-        (p, allOfMemberReference) ->
-            p.map(
-                pojo ->
-                    pojo.replaceObjectType(
-                        allOfMemberReference.getUnresolvedObjectPojo().getName().getPojoName(),
-                        allOfMemberReference.getAdjustedMemberReference().getDescription(),
-                        allOfMemberReference.getAdjustedMemberReference().getType())));
-  }
-
-  private PList<Pojo> inlineMemberReferences(
-      PList<Pojo> inputPojos, PList<PojoMemberReference> pojoMemberReferences) {
-    return pojoMemberReferences.foldLeft(
-        inputPojos,
-        (pojos, memberReference) ->
-            pojos.map(
-                pojo ->
-                    pojo.replaceObjectType(
-                        memberReference.getName(),
-                        memberReference.getDescription(),
-                        memberReference.getType())));
+  /**
+   * Inlines the allOf member references, the member references and the enum pojos. The references
+   * are indexed by name and replaced in a single traversal of the pojos, in the order allOf member
+   * references, member references and enum pojos.
+   */
+  private static PList<Pojo> inlineReferences(
+      PList<Pojo> pojos,
+      PList<AllOfMemberReference> allOfMemberReferences,
+      PList<PojoMemberReference> pojoMemberReferences) {
+    final PList<PojoMemberReference> enumReferences =
+        pojos.flatMapOptional(Pojo::asEnumPojo).map(MapResultResolverImpl::toEnumReference);
+    final ObjectTypeReplacements replacements =
+        ObjectTypeReplacements.fromMemberReferences(
+            allOfMemberReferences
+                .map(AllOfMemberReference::toInlinedReference)
+                .concat(pojoMemberReferences)
+                .concat(enumReferences));
+    if (replacements.isEmpty()) {
+      return pojos;
+    }
+    return pojos.map(pojo -> pojo.replaceObjectTypes(replacements));
   }
 
-  private PList<Pojo> resolveEnumObjectPojos(PList<Pojo> inputPojos) {
-    return inputPojos
-        .flatMapOptional(Pojo::asEnumPojo)
-        .foldLeft(
-            inputPojos,
-            (p, enumPojo) ->
-                p.map(
-                    pojo -> {
-                      final PojoName enumName = enumPojo.getName().getPojoName();
-                      final EnumObjectType enumObjectType = EnumObjectType.ofEnumPojo(enumPojo);
-                      return pojo.replaceObjectType(
-                          enumName, enumPojo.getDescription(), enumObjectType);
-                    }));
+  private static PojoMemberReference toEnumReference(EnumPojo enumPojo) {
+    final PojoName enumName = enumPojo.getName().getPojoName();
+    final EnumObjectType enumObjectType = EnumObjectType.ofEnumPojo(enumPojo);
+    return new PojoMemberReference(enumName, enumPojo.getDescription(), enumObjectType);
   }
 
   private PList<AllOfMemberReference> createAllOfMemberReferences(
       PList<UnresolvedObjectPojo> unresolvedObjectPojos,
       PList<PojoMemberReference> memberReferences) {
+    final Map<PojoName, PojoMemberReference> memberReferencesByName = new HashMap<>();
+    memberReferences.forEach(ref -> memberReferencesByName.putIfAbsent(ref.getName(), ref));
     return unresolvedObjectPojos.flatMapOptional(
-        unresolvedObjectPojo -> mapToAllOfMemberReference(unresolvedObjectPojo, memberReferences));
+        unresolvedObjectPojo ->
+            mapToAllOfMemberReference(unresolvedObjectPojo, memberReferencesByName));
   }
 
   private static Optional<AllOfMemberReference> mapToAllOfMemberReference(
-      UnresolvedObjectPojo unresolvedObjectPojo, PList<PojoMemberReference> memberReferences) {
+      UnresolvedObjectPojo unresolvedObjectPojo,
+      Map<PojoName, PojoMemberReference> memberReferencesByName) {
     if (not(unresolvedObjectPojo.getAnyOfComposition().isPresent())
         && not(unresolvedObjectPojo.getOneOfComposition().isPresent())
         && unresolvedObjectPojo.getRequiredAdditionalProperties().nonEmpty()
@@ -111,19 +105,19 @@ public class MapResultResolverImpl implements MapResultResolver {
         .flatMap(
             comp ->
                 findMatchingMemberReferenceInComposition(
-                    unresolvedObjectPojo, comp, memberReferences));
+                    unresolvedObjectPojo, comp, memberReferencesByName));
   }
 
   private static Optional<AllOfMemberReference> findMatchingMemberReferenceInComposition(
       UnresolvedObjectPojo unresolvedObjectPojo,
       UnresolvedAllOfComposition comp,
-      PList<PojoMemberReference> memberReferences) {
+      Map<PojoName, PojoMemberReference> memberReferencesByName) {
     if (comp.getComponentNames().size() != 1) {
       return Optional.empty();
     }
     return comp.getComponentNames()
         .headOption()
-        .flatMap(name -> memberReferences.find(ref -> ref.getName().equals(name.getPojoName())))
+        .flatMap(name -> Optional.ofNullable(memberReferencesByName.get(name.getPojoName())))
         .map(memberReference -> new AllOfMemberReference(unresolvedObjectPojo, memberReference));
   }
 
@@ -139,5 +133,13 @@ public class MapResultResolverImpl implements MapResultResolver {
         return memberReference;
       }
     }
+
+    PojoMemberReference toInlinedReference() {
+      final PojoMemberReference adjustedMemberReference = getAdjustedMemberReference();
+      return new PojoMemberReference(
+          unresolvedObjectPojo.getName().getPojoName(),
+          adjustedMemberReference.getDescription(),
+          adjustedMemberReference.getType());
+    }
   }
 }
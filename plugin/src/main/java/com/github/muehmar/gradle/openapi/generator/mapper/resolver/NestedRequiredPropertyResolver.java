@@ -17,8 +17,10 @@ import com.github.muehmar.gradle.openapi.generator.model.pojo.ObjectPojo;
 import com.github.muehmar.gradle.openapi.generator.model.type.StandardObjectType;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import lombok.Value;
 
@@ -32,27 +34,37 @@ public class NestedRequiredPropertyResolver {
     return new Resolver(pojos, allObjectPojos).resolve();
   }
 
+  /**
+   * Resolves the nested required properties. The object pojos are indexed by their name, i.e. the
+   * references of the members are resolved in constant time. The required properties of a pojo and
+   * whether a pojo has only required additional properties are computed once per pojo.
+   */
   private static class Resolver {
     private final PList<Pojo> allPojos;
     private final PList<ObjectPojo> allObjectPojos;
+    private final ObjectPojoIndex objectPojoIndex;
+    private final Map<ObjectPojo, PList<RequiredProperty>> requiredPropertiesByPojo;
+    private final Map<ObjectPojo, Boolean> onlyRequiredAdditionalPropertiesByPojo;
 
     public Resolver(PList<Pojo> allPojos, PList<ObjectPojo> allObjectPojos) {
       this.allPojos = allPojos;
       this.allObjectPojos = allObjectPojos;
+      this.objectPojoIndex = ObjectPojoIndex.fromPojos(allObjectPojos);
+      this.requiredPropertiesByPojo = new HashMap<>();
+      this.onlyRequiredAdditionalPropertiesByPojo = new HashMap<>();
     }
 
     private PList<Pojo> resolve() {
       final PList<Pojo> promotedPojos =
           findRequiredPropertiesForPojos()
               .flatMap(
-                  requiredPropertiesForPojo -> requiredPropertiesForPojo.promote(allObjectPojos))
+                  requiredPropertiesForPojo -> requiredPropertiesForPojo.promote(objectPojoIndex))
               .map(p -> p);
+      final Set<ComponentName> pojoNames = promotedPojos.map(Pojo::getName).toHashSet();
       return allPojos.foldLeft(
           promotedPojos,
           (pojos, existingPojo) ->
-              pojos.exists(p -> p.getName().equals(existingPojo.getName()))
-                  ? pojos
-                  : pojos.cons(existingPojo));
+              pojoNames.add(existingPojo.getName()) ? pojos.cons(existingPojo) : pojos);
     }
 
     private PList<RequiredPropertiesForPojo> findRequiredPropertiesForPojos() {
@@ -86,15 +98,28 @@ public class NestedRequiredPropertyResolver {
     }
 
     private PList<RequiredProperty> findRequiredProperties(ObjectPojo pojo) {
-      if (not(hasOnlyRequiredAdditionalProperties(pojo))) {
-        return PList.empty();
+      final PList<RequiredProperty> cachedRequiredProperties = requiredPropertiesByPojo.get(pojo);
+      if (cachedRequiredProperties != null) {
+        return cachedRequiredProperties;
       }
 
-      return findRequiredPropertiesDeep(pojo, PList.empty());
+      final PList<RequiredProperty> requiredProperties =
+          hasOnlyRequiredAdditionalProperties(pojo)
+              ? findRequiredPropertiesDeep(pojo, PList.empty(), new HashSet<>())
+              : PList.empty();
+      requiredPropertiesByPojo.put(pojo, requiredProperties);
+      return requiredProperties;
     }
 
+    /**
+     * Collects the required properties of the pojo and its object members. The visited pojos
+     * contain the pojos of the current link chain, except the root pojo and the current pojo, which
+     * stops the recursion for cyclic references.
+     */
     private PList<RequiredProperty> findRequiredPropertiesDeep(
-        ObjectPojo currentPojo, PList<SinglePropertyLink> currentLinkChain) {
+        ObjectPojo currentPojo,
+        PList<SinglePropertyLink> currentLinkChain,
+        Set<PojoName> visitedPojos) {
       final boolean hasNonObjectProperties =
           currentPojo
               .getMembers()
@@ -103,19 +128,24 @@ public class NestedRequiredPropertyResolver {
       if (hasNonObjectProperties) {
         return PList.empty();
       }
-      if (currentLinkChain
-          .reverse()
-          .drop(1)
-          .reverse()
-          .exists(link -> link.getPojoName().equals(currentPojo.getName().getPojoName()))) {
+      final PojoName currentPojoName = currentPojo.getName().getPojoName();
+      if (visitedPojos.contains(currentPojoName)) {
         return PList.empty();
       }
 
+      final boolean isRootPojo = currentLinkChain.isEmpty();
+      if (not(isRootPojo)) {
+        visitedPojos.add(currentPojoName);
+      }
       final PList<RequiredProperty> requiredProperties =
           currentPojo
               .getMembers()
-              .flatMapOptional(member -> findRequiredPropertiesForMember(currentLinkChain, member))
+              .flatMapOptional(
+                  member -> findRequiredPropertiesForMember(currentLinkChain, visitedPojos, member))
               .flatMap(list -> list);
+      if (not(isRootPojo)) {
+        visitedPojos.remove(currentPojoName);
+      }
 
       return currentPojo
           .getRequiredAdditionalProperties()
@@ -127,7 +157,7 @@ public class NestedRequiredPropertyResolver {
     }
 
     private Optional<PList<RequiredProperty>> findRequiredPropertiesForMember(
-        PList<SinglePropertyLink> currentLinkChain, PojoMember member) {
+        PList<SinglePropertyLink> currentLinkChain, Set<PojoName> visitedPojos, PojoMember member) {
       return member
           .getType()
           .asObjectType()
@@ -135,14 +165,34 @@ public class NestedRequiredPropertyResolver {
               objectType -> {
                 final SinglePropertyLink nextLink =
                     new SinglePropertyLink(member.getName(), objectType.getName());
-                return findPojoForPojoName(objectType.getName())
+                return objectPojoIndex
+                    .find(objectType.getName())
                     .map(
                         nextPojo ->
-                            findRequiredPropertiesDeep(nextPojo, currentLinkChain.add(nextLink)));
+                            findRequiredPropertiesDeep(
+                                nextPojo, currentLinkChain.add(nextLink), visitedPojos));
               });
     }
 
     private boolean hasOnlyRequiredAdditionalProperties(ObjectPojo pojo) {
+      final Boolean cachedResult = onlyRequiredAdditionalPropertiesByPojo.get(pojo);
+      if (cachedResult != null) {
+        return cachedResult;
+      }
+      final boolean result = hasOnlyRequiredAdditionalPropertiesDeep(pojo, new HashSet<>());
+      onlyRequiredAdditionalPropertiesByPojo.put(pojo, result);
+      return result;
+    }
+
+    /**
+     * Returns true in case the pojo and all pojos referenced by its members have only required
+     * additional properties. Already visited pojos are skipped, as they are checked already.
+     */
+    private boolean hasOnlyRequiredAdditionalPropertiesDeep(
+        ObjectPojo pojo, Set<PojoName> visitedPojos) {
+      if (not(visitedPojos.add(pojo.getName().getPojoName()))) {
+        return true;
+      }
       final boolean hasNonObjectTypeProperties =
           pojo.getMembers().toStream().anyMatch(member -> not(member.getType().isObjectType()));
       if (hasNonObjectTypeProperties) {
@@ -163,12 +213,40 @@ public class NestedRequiredPropertyResolver {
       }
       return pojo.getMembers()
           .flatMapOptional(member -> member.getType().asObjectType())
-          .flatMapOptional(objectType -> findPojoForPojoName(objectType.getName()))
-          .forall(this::hasOnlyRequiredAdditionalProperties);
+          .flatMapOptional(objectType -> objectPojoIndex.find(objectType.getName()))
+          .forall(memberPojo -> hasOnlyRequiredAdditionalPropertiesDeep(memberPojo, visitedPojos));
+    }
+  }
+
+  /**
+   * Index of the object pojos by their name. Pojos can be excluded from the index, which is used
+   * while promoting the nodes to prevent resolving the pojos which are made required.
+   */
+  private static class ObjectPojoIndex {
+    private final Map<PojoName, PList<ObjectPojo>> pojosByName;
+    private final Set<ComponentName> excludedPojos;
+
+    private ObjectPojoIndex(
+        Map<PojoName, PList<ObjectPojo>> pojosByName, Set<ComponentName> excludedPojos) {
+      this.pojosByName = pojosByName;
+      this.excludedPojos = excludedPojos;
+    }
+
+    static ObjectPojoIndex fromPojos(PList<ObjectPojo> pojos) {
+      final Map<PojoName, PList<ObjectPojo>> pojosByName = new HashMap<>();
+      pojos.forEach(
+          pojo ->
+              pojosByName.merge(pojo.getName().getPojoName(), PList.single(pojo), PList::concat));
+      return new ObjectPojoIndex(pojosByName, Collections.emptySet());
+    }
+
+    Optional<ObjectPojo> find(PojoName pojoName) {
+      return Optional.ofNullable(pojosByName.get(pojoName))
+          .flatMap(pojos -> pojos.find(pojo -> not(excludedPojos.contains(pojo.getName()))));
     }
 
-    private Optional<ObjectPojo> findPojoForPojoName(PojoName pojoName) {
-      return allObjectPojos.find(pojo -> pojo.getName().getPojoName().equals(pojoName));
+    ObjectPojoIndex without(PList<ObjectPojo> pojos) {
+      return new ObjectPojoIndex(pojosByName, pojos.map(ObjectPojo::getName).toHashSet());
     }
   }
 
@@ -187,7 +265,7 @@ public class NestedRequiredPropertyResolver {
           requiredProperties.concat(requiredProperties));
     }
 
-    PList<PojoNode> toNodes(PList<ObjectPojo> allObjectPojos) {
+    PList<PojoNode> toNodes(ObjectPojoIndex objectPojoIndex) {
       return composition
           .getPojos()
           .toPList()
@@ -196,13 +274,13 @@ public class NestedRequiredPropertyResolver {
           .flatMapOptional(
               allOfPojo ->
                   requiredProperties
-                      .flatMap(rp -> rp.toNodeFor(allOfPojo, allObjectPojos))
+                      .flatMap(rp -> rp.toNodeFor(allOfPojo, objectPojoIndex))
                       .reduce(PojoNode::merge));
     }
 
-    PList<ObjectPojo> promote(PList<ObjectPojo> allObjectPojos) {
-      final PList<PojoNode> nodes = toNodes(allObjectPojos);
-      final PList<ObjectPojo> objectPojos = promoteNodes(allObjectPojos, nodes);
+    PList<ObjectPojo> promote(ObjectPojoIndex objectPojoIndex) {
+      final PList<PojoNode> nodes = toNodes(objectPojoIndex);
+      final PList<ObjectPojo> objectPojos = promoteNodes(objectPojoIndex, nodes);
       final PList<Pojo> newAllOfPojos = createNewAllOfPojos(nodes, objectPojos);
 
       if (nodes.isEmpty()) {
@@ -238,18 +316,11 @@ public class NestedRequiredPropertyResolver {
               });
     }
 
-    private PList<ObjectPojo> promoteNodes(
-        PList<ObjectPojo> allObjectPojos, PList<PojoNode> nodes) {
+    private PList<ObjectPojo> promoteNodes(ObjectPojoIndex objectPojoIndex, PList<PojoNode> nodes) {
+      final ObjectPojoIndex indexWithoutMakeRequiredPojos =
+          objectPojoIndex.without(makeRequiredAllOfPojos);
       return nodes.flatMap(
-          node ->
-              node.promote(
-                  parentPojo.getName().getPojoName(),
-                  allObjectPojos.filter(
-                      p ->
-                          not(
-                              makeRequiredAllOfPojos
-                                  .map(ObjectPojo::getName)
-                                  .exists(p.getName()::equals)))));
+          node -> node.promote(parentPojo.getName().getPojoName(), indexWithoutMakeRequiredPojos));
     }
 
     private boolean isMakeRequiredAllOfPojo(Pojo p) {
@@ -266,9 +337,9 @@ public class NestedRequiredPropertyResolver {
       return new RequiredProperty(propertyName, linkChain.drop(1));
     }
 
-    PList<PojoNode> toNodeFor(ObjectPojo pojo, PList<ObjectPojo> allObjectPojos) {
+    PList<PojoNode> toNodeFor(ObjectPojo pojo, ObjectPojoIndex objectPojoIndex) {
       if (linkChain.isEmpty()) {
-        final boolean hasMember = hasMemberOrAllOfMemberDeep(pojo, allObjectPojos);
+        final boolean hasMember = hasMemberOrAllOfMemberDeep(pojo);
         return hasMember
             ? PList.of(
                 new PojoNode(
@@ -281,11 +352,11 @@ public class NestedRequiredPropertyResolver {
             .headOption()
             .map(
                 link ->
-                    link.resolveLink(pojo, allObjectPojos)
+                    link.resolveLink(pojo, objectPojoIndex)
                         .flatMap(
                             nextPojo ->
                                 removeFirstLink()
-                                    .toNodeFor(nextPojo, allObjectPojos)
+                                    .toNodeFor(nextPojo, objectPojoIndex)
                                     .map(
                                         childNode ->
                                             new PojoNode(
@@ -297,7 +368,7 @@ public class NestedRequiredPropertyResolver {
       }
     }
 
-    boolean hasMemberOrAllOfMemberDeep(ObjectPojo pojo, PList<ObjectPojo> allObjectPojos) {
+    boolean hasMemberOrAllOfMemberDeep(ObjectPojo pojo) {
       if (pojo.getMembers().exists(pojoMember -> pojoMember.getName().equals(propertyName))) {
         return true;
       }
@@ -308,8 +379,7 @@ public class NestedRequiredPropertyResolver {
                       .getPojos()
                       .toPList()
                       .flatMapOptional(Pojo::asObjectPojo)
-                      .exists(
-                          allOfSubPojo -> hasMemberOrAllOfMemberDeep(allOfSubPojo, allObjectPojos)))
+                      .exists(this::hasMemberOrAllOfMemberDeep))
           .orElse(false);
     }
   }
@@ -319,24 +389,20 @@ public class NestedRequiredPropertyResolver {
     Name propertyName;
     PojoName pojoName;
 
-    private PList<ObjectPojo> resolveLink(
-        ObjectPojo currentPojo, PList<ObjectPojo> allObjectPojos) {
+    private PList<ObjectPojo> resolveLink(ObjectPojo currentPojo, ObjectPojoIndex objectPojoIndex) {
       final Optional<ObjectPojo> memberPojo =
           currentPojo
               .getMembers()
               .find(member -> member.getName().equals(propertyName))
               .flatMap(member -> member.getType().asObjectType())
-              .flatMap(
-                  objectType ->
-                      allObjectPojos.find(
-                          p -> p.getName().getPojoName().equals(objectType.getName())));
+              .flatMap(objectType -> objectPojoIndex.find(objectType.getName()));
       final PList<ObjectPojo> allOfPojos =
           currentPojo
               .getAllOfComposition()
               .map(allOfComposition -> allOfComposition.getPojos().toPList())
               .orElse(PList.empty())
               .flatMapOptional(Pojo::asObjectPojo)
-              .flatMap(pojo -> resolveLink(pojo, allObjectPojos));
+              .flatMap(pojo -> resolveLink(pojo, objectPojoIndex));
       return allOfPojos.concat(PList.fromOptional(memberPojo));
     }
   }
@@ -356,10 +422,10 @@ public class NestedRequiredPropertyResolver {
           newChildren);
     }
 
-    PList<ObjectPojo> promote(PojoName rootPojoName, PList<ObjectPojo> allObjectPojos) {
-      return allObjectPojos
-          .find(pojo -> pojo.getName().getPojoName().equals(pojoName))
-          .map(pojo -> promotePojo(rootPojoName, pojo, allObjectPojos))
+    PList<ObjectPojo> promote(PojoName rootPojoName, ObjectPojoIndex objectPojoIndex) {
+      return objectPojoIndex
+          .find(pojoName)
+          .map(pojo -> promotePojo(rootPojoName, pojo, objectPojoIndex))
           .orElseThrow(
               () ->
                   new OpenApiGeneratorException(
@@ -370,13 +436,13 @@ public class NestedRequiredPropertyResolver {
     }
 
     private PojoNodePromotionResult promotePojo(
-        PojoName rootPojoName, ObjectPojo pojo, PList<ObjectPojo> allObjectPojos) {
+        PojoName rootPojoName, ObjectPojo pojo, ObjectPojoIndex objectPojoIndex) {
       final PList<PojoMember> members =
           pojo.getMembers()
               .map(this::promoteMember)
               .map(m -> renameObjectTypeNames(rootPojoName, m));
       final AllOfNodePromotionResult allOfNodePromotionResult =
-          promoteAllOfComposition(rootPojoName, pojo.getAllOfComposition(), allObjectPojos);
+          promoteAllOfComposition(rootPojoName, pojo.getAllOfComposition(), objectPojoIndex);
       final ComponentName componentName = mapComponentName(rootPojoName, pojo.getName());
       final ObjectPojo thisPromotedPojo =
           pojo.withName(componentName)
@@ -384,7 +450,7 @@ public class NestedRequiredPropertyResolver {
               .withAllOfComposition(allOfNodePromotionResult.getComposition());
       final PList<ObjectPojo> newPromotedPojos =
           PList.fromIter(children.values())
-              .flatMap(node -> node.promote(rootPojoName, allObjectPojos))
+              .flatMap(node -> node.promote(rootPojoName, objectPojoIndex))
               .concat(allOfNodePromotionResult.getNewPromotedPojos());
       return new PojoNodePromotionResult(thisPromotedPojo, newPromotedPojos);
     }
@@ -392,26 +458,26 @@ public class NestedRequiredPropertyResolver {
     private AllOfNodePromotionResult promoteAllOfComposition(
         PojoName rootPojoName,
         Optional<AllOfComposition> allOfComposition,
-        PList<ObjectPojo> allObjectPojos) {
+        ObjectPojoIndex objectPojoIndex) {
       return allOfComposition
           .map(
               composition ->
                   promoteAllOfComposition(
-                      rootPojoName, allOfComposition, allObjectPojos, composition))
+                      rootPojoName, allOfComposition, objectPojoIndex, composition))
           .orElse(new AllOfNodePromotionResult(Optional.empty(), PList.empty()));
     }
 
     private AllOfNodePromotionResult promoteAllOfComposition(
         PojoName rootPojoName,
         Optional<AllOfComposition> allOfComposition,
-        PList<ObjectPojo> allObjectPojos,
+        ObjectPojoIndex objectPojoIndex,
         AllOfComposition composition) {
       final PList<PojoNodePromotionResult> results =
           composition
               .getPojos()
               .toPList()
               .flatMapOptional(Pojo::asObjectPojo)
-              .map(p -> promotePojo(rootPojoName, p, allObjectPojos));
+              .map(p -> promotePojo(rootPojoName, p, objectPojoIndex));
       final PList<ObjectPojo> promotedAllOfSubPojos = results.map(PojoNodePromotionResult::getPojo);
       if (composition.getPojos().size() == promotedAllOfSubPojos.size()) {
         final Optional<AllOfComposition> promotedAllOfComposition =
@@ -25,11 +25,12 @@ public class AdditionalProperties {
   }
 
   public AdditionalProperties replaceObjectType(PojoName objectTypeName, Type newObjectType) {
+    return replaceObjectTypes(ObjectTypeReplacements.single(objectTypeName, "", newObjectType));
+  }
+
+  public AdditionalProperties replaceObjectTypes(ObjectTypeReplacements replacements) {
     final Type newType =
-        type.asObjectType()
-            .filter(objectType -> objectType.getName().equals(objectTypeName))
-            .map(ignore -> newObjectType)
-            .orElse(type);
+        replacements.findReplacement(type).map(PojoMemberReference::getType).orElse(type);
     return new AdditionalProperties(allowed, newType);
   }
 
@@ -0,0 +1,91 @@
+package com.github.muehmar.gradle.openapi.generator.model;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.model.name.PojoName;
+import com.github.muehmar.gradle.openapi.generator.model.type.ObjectType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Replacements of object types, indexed by the name of the replaced object type. The replacements
+ * are applied in the order they are given, i.e. a replaced type gets replaced again in case it is
+ * an object type which matches one of the subsequent replacements. This is the same result as
+ * replacing the object types one after the other, but allows to replace all types of a pojo in a
+ * single traversal.
+ */
+@EqualsAndHashCode
+@ToString
+public class ObjectTypeReplacements {
+  private final Map<PojoName, IndexedReplacement> replacements;
+
+  private ObjectTypeReplacements(Map<PojoName, IndexedReplacement> replacements) {
+    this.replacements = replacements;
+  }
+
+  public static ObjectTypeReplacements empty() {
+    return new ObjectTypeReplacements(new HashMap<>());
+  }
+
+  public static ObjectTypeReplacements single(
+      PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
+    return fromMemberReferences(
+        PList.single(
+            new PojoMemberReference(objectTypeName, newObjectTypeDescription, newObjectType)));
+  }
+
+  /**
+   * Creates the replacements from the given references, where the type of each object type with the
+   * name of the reference gets replaced with the type of the reference. In case of multiple
+   * references with the same name, only the first one is used.
+   */
+  public static ObjectTypeReplacements fromMemberReferences(
+      PList<PojoMemberReference> memberReferences) {
+    final Map<PojoName, IndexedReplacement> replacements = new HashMap<>();
+    int index = 0;
+    for (PojoMemberReference memberReference : memberReferences) {
+      replacements.putIfAbsent(
+          memberReference.getName(), new IndexedReplacement(index, memberReference));
+      index++;
+    }
+    return new ObjectTypeReplacements(replacements);
+  }
+
+  /**
+   * Returns the replacement of the given type, i.e. the description and type which should be used
+   * instead. An empty optional is returned in case the type is not replaced.
+   */
+  public Optional<PojoMemberReference> findReplacement(Type type) {
+    Optional<PojoMemberReference> replacement = Optional.empty();
+    Type currentType = type;
+    int lastIndex = -1;
+    while (true) {
+      final Optional<IndexedReplacement> next =
+          currentType.asObjectType().map(ObjectType::getName).map(replacements::get);
+      if (!next.isPresent() || next.get().index <= lastIndex) {
+        return replacement;
+      }
+      lastIndex = next.get().index;
+      replacement = Optional.of(next.get().memberReference);
+      currentType = next.get().memberReference.getType();
+    }
+  }
+
+  public boolean isEmpty() {
+    return replacements.isEmpty();
+  }
+
+  @EqualsAndHashCode
+  @ToString
+  private static class IndexedReplacement {
+    private final int index;
+    private final PojoMemberReference memberReference;
+
+    private IndexedReplacement(int index, PojoMemberReference memberReference) {
+      this.index = index;
+      this.memberReference = memberReference;
+    }
+  }
+}
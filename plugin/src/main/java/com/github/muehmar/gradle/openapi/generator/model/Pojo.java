@@ -14,8 +14,13 @@ public interface Pojo {
 
   String getDescription();
 
-  Pojo replaceObjectType(
-      PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType);
+  Pojo replaceObjectTypes(ObjectTypeReplacements replacements);
+
+  default Pojo replaceObjectType(
+      PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
+    return replaceObjectTypes(
+        ObjectTypeReplacements.single(objectTypeName, newObjectTypeDescription, newObjectType));
+  }
 
   Pojo adjustNullablePojo(PojoName nullablePojo);
 
@@ -31,9 +31,16 @@ public class PojoMember {
 
   public PojoMember replaceObjectType(
       PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
-    return type.asObjectType()
-        .filter(objType -> objType.getName().equals(objectTypeName))
-        .map(ignore -> withDescription(newObjectTypeDescription).withType(newObjectType))
+    return replaceObjectTypes(
+        ObjectTypeReplacements.single(objectTypeName, newObjectTypeDescription, newObjectType));
+  }
+
+  public PojoMember replaceObjectTypes(ObjectTypeReplacements replacements) {
+    return replacements
+        .findReplacement(type)
+        .map(
+            replacement ->
+                withDescription(replacement.getDescription()).withType(replacement.getType()))
         .orElse(this);
   }
 
@@ -1,8 +1,8 @@
 package com.github.muehmar.gradle.openapi.generator.model.composition;
 
 import ch.bluecare.commons.data.NonEmptyList;
+import com.github.muehmar.gradle.openapi.generator.model.ObjectTypeReplacements;
 import com.github.muehmar.gradle.openapi.generator.model.Pojo;
-import com.github.muehmar.gradle.openapi.generator.model.Type;
 import com.github.muehmar.gradle.openapi.generator.model.name.PojoName;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoNameMapping;
 import lombok.EqualsAndHashCode;
@@ -25,12 +25,8 @@ public class AllOfComposition {
     return pojos;
   }
 
-  public AllOfComposition replaceObjectType(
-      PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
-    final NonEmptyList<Pojo> mappedPojos =
-        pojos.map(
-            pojo ->
-                pojo.replaceObjectType(objectTypeName, newObjectTypeDescription, newObjectType));
+  public AllOfComposition replaceObjectTypes(ObjectTypeReplacements replacements) {
+    final NonEmptyList<Pojo> mappedPojos = pojos.map(pojo -> pojo.replaceObjectTypes(replacements));
     return new AllOfComposition(mappedPojos);
   }
 
@@ -1,8 +1,8 @@
 package com.github.muehmar.gradle.openapi.generator.model.composition;
 
 import ch.bluecare.commons.data.NonEmptyList;
+import com.github.muehmar.gradle.openapi.generator.model.ObjectTypeReplacements;
 import com.github.muehmar.gradle.openapi.generator.model.Pojo;
-import com.github.muehmar.gradle.openapi.generator.model.Type;
 import com.github.muehmar.gradle.openapi.generator.model.name.PojoName;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoNameMapping;
 import java.util.Optional;
@@ -33,12 +33,8 @@ public class OneOfComposition {
     return pojos;
   }
 
-  public OneOfComposition replaceObjectType(
-      PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
-    final NonEmptyList<Pojo> mappedPojos =
-        pojos.map(
-            pojo ->
-                pojo.replaceObjectType(objectTypeName, newObjectTypeDescription, newObjectType));
+  public OneOfComposition replaceObjectTypes(ObjectTypeReplacements replacements) {
+    final NonEmptyList<Pojo> mappedPojos = pojos.map(pojo -> pojo.replaceObjectTypes(replacements));
     return new OneOfComposition(mappedPojos);
   }
 
@@ -15,4 +15,9 @@ public class Email {
     }
     return obj != null && getClass() == obj.getClass();
   }
+
+  @Override
+  public String toString() {
+    return "Email{}";
+  }
 }
@@ -1,6 +1,7 @@
 package com.github.muehmar.gradle.openapi.generator.model.pojo;
 
 import com.github.muehmar.gradle.openapi.generator.model.Nullability;
+import com.github.muehmar.gradle.openapi.generator.model.ObjectTypeReplacements;
 import com.github.muehmar.gradle.openapi.generator.model.Pojo;
 import com.github.muehmar.gradle.openapi.generator.model.Type;
 import com.github.muehmar.gradle.openapi.generator.model.constraints.Constraints;
@@ -33,8 +34,7 @@ public class ArrayPojo implements Pojo {
   }
 
   @Override
-  public Pojo replaceObjectType(
-      PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
+  public Pojo replaceObjectTypes(ObjectTypeReplacements replacements) {
     return this;
   }
 
@@ -1,8 +1,8 @@
 package com.github.muehmar.gradle.openapi.generator.model.pojo;
 
 import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.model.ObjectTypeReplacements;
 import com.github.muehmar.gradle.openapi.generator.model.Pojo;
-import com.github.muehmar.gradle.openapi.generator.model.Type;
 import com.github.muehmar.gradle.openapi.generator.model.name.ComponentName;
 import com.github.muehmar.gradle.openapi.generator.model.name.PojoName;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoNameMapping;
@@ -38,8 +38,7 @@ public class EnumPojo implements Pojo {
   }
 
   @Override
-  public Pojo replaceObjectType(
-      PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
+  public Pojo replaceObjectTypes(ObjectTypeReplacements replacements) {
     return this;
   }
 
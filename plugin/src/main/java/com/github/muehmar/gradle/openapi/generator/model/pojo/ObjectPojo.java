@@ -7,6 +7,7 @@ import ch.bluecare.commons.data.NonEmptyList;
 import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.generator.model.AdditionalProperties;
 import com.github.muehmar.gradle.openapi.generator.model.Nullability;
+import com.github.muehmar.gradle.openapi.generator.model.ObjectTypeReplacements;
 import com.github.muehmar.gradle.openapi.generator.model.Pojo;
 import com.github.muehmar.gradle.openapi.generator.model.PojoMember;
 import com.github.muehmar.gradle.openapi.generator.model.Type;
@@ -48,27 +49,22 @@ public class ObjectPojo implements Pojo {
   @Override
   public ObjectPojo replaceObjectType(
       PojoName objectTypeName, String newObjectTypeDescription, Type newObjectType) {
+    return replaceObjectTypes(
+        ObjectTypeReplacements.single(objectTypeName, newObjectTypeDescription, newObjectType));
+  }
+
+  @Override
+  public ObjectPojo replaceObjectTypes(ObjectTypeReplacements replacements) {
     final PList<PojoMember> mappedMembers =
-        members.map(
-            member ->
-                member.replaceObjectType(objectTypeName, newObjectTypeDescription, newObjectType));
+        members.map(member -> member.replaceObjectTypes(replacements));
     final Optional<AllOfComposition> mappedAllOfComposition =
-        allOfComposition.map(
-            composition ->
-                composition.replaceObjectType(
-                    objectTypeName, newObjectTypeDescription, newObjectType));
+        allOfComposition.map(composition -> composition.replaceObjectTypes(replacements));
     final Optional<OneOfComposition> mappedOneOfComposition =
-        oneOfComposition.map(
-            composition ->
-                composition.replaceObjectType(
-                    objectTypeName, newObjectTypeDescription, newObjectType));
+        oneOfComposition.map(composition -> composition.replaceObjectTypes(replacements));
     final Optional<AnyOfComposition> mappedAnyOfComposition =
-        anyOfComposition.map(
-            composition ->
-                composition.replaceObjectType(
-                    objectTypeName, newObjectTypeDescription, newObjectType));
+        anyOfComposition.map(composition -> composition.replaceObjectTypes(replacements));
     final AdditionalProperties mappedAdditionalProperties =
-        additionalProperties.replaceObjectType(objectTypeName, newObjectType);
+        additionalProperties.replaceObjectTypes(replacements);
     return fullObjectPojoBuilder()
         .name(name)
         .description(description)
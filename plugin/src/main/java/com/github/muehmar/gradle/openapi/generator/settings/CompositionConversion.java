@@ -0,0 +1,29 @@
+package com.github.muehmar.gradle.openapi.generator.settings;
+
+import ch.bluecare.commons.data.PList;
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Defines how the DTO's of a composition are created from the composed DTO. {@link #COPY} copies
+ * the additional properties into a new map for each converted DTO while {@link #VIEW} creates a
+ * read-only view over the properties of the composed DTO.
+ */
+public enum CompositionConversion implements Serializable {
+  COPY("copy"),
+  VIEW("view");
+
+  private final String value;
+
+  CompositionConversion(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static Optional<CompositionConversion> fromString(String value) {
+    return PList.of(values()).find(conversion -> conversion.value.equalsIgnoreCase(value));
+  }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 public enum JsonSupport implements Serializable {
   JACKSON("jackson"),
+  JACKSON_STREAMING("jackson-streaming"),
   NONE("none");
 
   private final String value;
@@ -29,11 +29,24 @@ public class PojoSettings implements Serializable {
   ValidationMethods validationMethods;
   List<String> excludeSchemas;
   PojoNameMappings pojoNameMappings;
+  CompositionConversion compositionConversion;
+  boolean cacheHashCode;
+  boolean generateValidateMethod;
+  boolean cacheAdditionalProperties;
+  boolean compactAdditionalProperties;
 
   TaskIdentifier taskIdentifier;
 
   public boolean isJacksonJson() {
-    return jsonSupport.equals(JsonSupport.JACKSON);
+    return jsonSupport.equals(JsonSupport.JACKSON) || isJacksonStreamingJson();
+  }
+
+  public boolean isJacksonStreamingJson() {
+    return jsonSupport.equals(JsonSupport.JACKSON_STREAMING);
+  }
+
+  public boolean isCompositionConversionView() {
+    return compositionConversion.equals(CompositionConversion.VIEW);
   }
 
   public boolean isEnableValidation() {
@@ -73,6 +86,10 @@ public class PojoSettings implements Serializable {
     return !isEnableStagedBuilder();
   }
 
+  public boolean isSingleInstanceStagedBuilder() {
+    return stagedBuilder.isSingleInstance();
+  }
+
   public StagedBuilderSettings getStagedBuilder() {
     return stagedBuilder;
   }
@@ -8,4 +8,5 @@ import lombok.Value;
 @Value
 public class StagedBuilderSettings implements Serializable {
   boolean enabled;
+  boolean singleInstance;
 }
@@ -0,0 +1,80 @@
+package com.github.muehmar.gradle.openapi.manifest;
+
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+
+/** SHA-256 fingerprint of the input of a generation or the content of a generated file. */
+@EqualsAndHashCode
+public class Fingerprint {
+  private static final String GENERATOR_FINGERPRINT = determineGeneratorFingerprint();
+
+  private final String hash;
+
+  private Fingerprint(String hash) {
+    this.hash = hash;
+  }
+
+  public static Fingerprint fromString(String hash) {
+    return new Fingerprint(hash);
+  }
+
+  public static Fingerprint ofBytes(byte[] bytes) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+      final StringBuilder sb = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        sb.append(String.format("%02x", b));
+      }
+      return new Fingerprint(sb.toString());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static Fingerprint ofContent(String content) {
+    return ofBytes(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Creates the fingerprint of an input for the generation, i.e. a pojo or a parameter. The
+   * fingerprint considers the settings as well as the generator itself, i.e. the fingerprint
+   * changes in case the settings or the version of the plugin change.
+   */
+  public static Fingerprint ofGenerationInput(Object input, PojoSettings settings) {
+    return ofContent(String.format("%s\n%s\n%s", GENERATOR_FINGERPRINT, settings, input));
+  }
+
+  private static String determineGeneratorFingerprint() {
+    final Optional<URL> location =
+        Optional.ofNullable(Fingerprint.class.getProtectionDomain().getCodeSource())
+            .map(CodeSource::getLocation);
+    final long lastModified = location.map(Fingerprint::lastModified).orElse(0L);
+    return location.map(URL::toString).orElse("") + "@" + lastModified;
+  }
+
+  private static long lastModified(URL location) {
+    try {
+      return Paths.get(location.toURI()).toFile().lastModified();
+    } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+      return 0L;
+    }
+  }
+
+  public String asString() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return asString();
+  }
+}
@@ -0,0 +1,219 @@
+package com.github.muehmar.gradle.openapi.manifest;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.task.TaskIdentifier;
+import com.github.muehmar.gradle.openapi.warnings.Warning;
+import com.github.muehmar.gradle.openapi.warnings.WarningType;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Manifest of the files generated by a single task. It contains for each pojo and parameter the
+ * fingerprint of the input together with the generated files and occurred warnings. It is stored in
+ * the output directory and used in the next run to regenerate only the changed pojos and parameters
+ * as well as to delete the files of removed ones.
+ */
+@EqualsAndHashCode
+@ToString
+public class GenerationManifest {
+  private static final String HEADER = "# openapi-schema generation manifest v1";
+  private static final String SEPARATOR = "\t";
+  private static final String ENTRY_RECORD = "entry";
+  private static final String FILE_RECORD = "file";
+  private static final String WARNING_RECORD = "warning";
+
+  private final Map<String, ManifestEntry> entries;
+
+  private GenerationManifest(Map<String, ManifestEntry> entries) {
+    this.entries = entries;
+  }
+
+  public static GenerationManifest empty() {
+    return new GenerationManifest(Collections.emptyMap());
+  }
+
+  public static GenerationManifest fromEntries(PList<ManifestEntry> entries) {
+    final Map<String, ManifestEntry> entriesByKey = new LinkedHashMap<>();
+    entries.forEach(entry -> entriesByKey.put(entry.getKey(), entry));
+    return new GenerationManifest(Collections.unmodifiableMap(entriesByKey));
+  }
+
+  public static Path manifestPath(Path outputDir, TaskIdentifier taskIdentifier) {
+    return outputDir.resolve(String.format(".openapi-schema-%s.manifest", taskIdentifier));
+  }
+
+  /**
+   * Reads the manifest from the given file. An empty manifest is returned in case the file does not
+   * exist or is not a valid manifest, which leads to a full generation.
+   */
+  public static GenerationManifest read(Path manifestFile) {
+    if (!Files.isRegularFile(manifestFile)) {
+      return empty();
+    }
+    try {
+      final List<String> lines = Files.readAllLines(manifestFile, StandardCharsets.UTF_8);
+      if (lines.isEmpty() || !lines.get(0).equals(HEADER)) {
+        return empty();
+      }
+      return parseEntries(PList.fromIter(lines).drop(1))
+          .map(GenerationManifest::fromEntries)
+          .orElseGet(GenerationManifest::empty);
+    } catch (IOException e) {
+      return empty();
+    }
+  }
+
+  private static Optional<PList<ManifestEntry>> parseEntries(PList<String> lines) {
+    PList<ManifestEntry> entries = PList.empty();
+    for (String line : lines) {
+      final String[] parts = line.split(SEPARATOR, -1);
+      if (parts.length == 3 && parts[0].equals(ENTRY_RECORD)) {
+        entries =
+            entries.cons(
+                new ManifestEntry(
+                    parts[1], Fingerprint.fromString(parts[2]), PList.empty(), PList.empty()));
+      } else if (parts.length == 3 && parts[0].equals(FILE_RECORD) && entries.nonEmpty()) {
+        final ManifestFile file =
+            new ManifestFile(Paths.get(parts[1]), Fingerprint.fromString(parts[2]));
+        entries = entries.tail().cons(addFile(entries.head(), file));
+      } else if (parts.length == 3 && parts[0].equals(WARNING_RECORD) && entries.nonEmpty()) {
+        final Optional<Warning> warning = parseWarning(parts[1], parts[2]);
+        if (!warning.isPresent()) {
+          return Optional.empty();
+        }
+        entries = entries.tail().cons(addWarning(entries.head(), warning.get()));
+      } else if (!line.isEmpty()) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(entries.reverse());
+  }
+
+  private static ManifestEntry addFile(ManifestEntry entry, ManifestFile file) {
+    return new ManifestEntry(
+        entry.getKey(), entry.getFingerprint(), entry.getFiles().add(file), entry.getWarnings());
+  }
+
+  private static ManifestEntry addWarning(ManifestEntry entry, Warning warning) {
+    return new ManifestEntry(
+        entry.getKey(), entry.getFingerprint(), entry.getFiles(), entry.getWarnings().add(warning));
+  }
+
+  private static Optional<Warning> parseWarning(String type, String message) {
+    return PList.of(WarningType.values())
+        .find(warningType -> warningType.name().equals(type))
+        .map(warningType -> new Warning(warningType, unescape(message)));
+  }
+
+  public void write(Path manifestFile) {
+    final PList<String> lines =
+        PList.fromIter(entries.values()).flatMap(GenerationManifest::formatEntry).cons(HEADER);
+    try {
+      Files.createDirectories(manifestFile.getParent());
+      Files.write(manifestFile, lines.toArrayList(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static PList<String> formatEntry(ManifestEntry entry) {
+    final PList<String> files =
+        entry
+            .getFiles()
+            .map(
+                file ->
+                    String.join(
+                        SEPARATOR,
+                        FILE_RECORD,
+                        formatPath(file.getFile()),
+                        file.getContentFingerprint().asString()));
+    final PList<String> warnings =
+        entry
+            .getWarnings()
+            .map(
+                warning ->
+                    String.join(
+                        SEPARATOR,
+                        WARNING_RECORD,
+                        warning.getType().name(),
+                        escape(warning.getMessage())));
+    return files
+        .concat(warnings)
+        .cons(
+            String.join(
+                SEPARATOR, ENTRY_RECORD, entry.getKey(), entry.getFingerprint().asString()));
+  }
+
+  private static String formatPath(Path path) {
+    return path.toString().replace(File.separatorChar, '/');
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+  }
+
+  private static String unescape(String value) {
+    final StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '\\' && i + 1 < value.length()) {
+        i++;
+        sb.append(unescapeChar(value.charAt(i)));
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static char unescapeChar(char escapedChar) {
+    if (escapedChar == 't') {
+      return '\t';
+    } else if (escapedChar == 'n') {
+      return '\n';
+    } else {
+      return escapedChar;
+    }
+  }
+
+  /**
+   * Returns the entry for the given key in case the fingerprint is unchanged and the generated
+   * files are still present and unmodified in the output directory.
+   */
+  public Optional<ManifestEntry> findUpToDateEntry(
+      String key, Fingerprint fingerprint, Path outputDir) {
+    return Optional.ofNullable(entries.get(key))
+        .filter(entry -> entry.isUpToDate(fingerprint, outputDir));
+  }
+
+  /** Returns the files of this manifest which are no longer present in the current manifest. */
+  public PList<Path> getStaleFiles(GenerationManifest currentManifest) {
+    final Set<String> currentFiles = currentManifest.getFiles().map(Path::toString).toHashSet();
+    return getFiles().filter(file -> !currentFiles.contains(file.toString()));
+  }
+
+  private PList<Path> getFiles() {
+    return PList.fromIter(entries.values())
+        .flatMap(ManifestEntry::getFiles)
+        .map(ManifestFile::getFile)
+        .map(GenerationManifest::formatPath)
+        .map(Paths::get);
+  }
+
+  public PList<ManifestEntry> getEntries() {
+    return PList.fromIter(entries.values());
+  }
+}
@@ -0,0 +1,62 @@
+package com.github.muehmar.gradle.openapi.manifest;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.task.TaskIdentifier;
+import com.github.muehmar.gradle.openapi.warnings.Warning;
+import com.github.muehmar.gradle.openapi.warnings.WarningsContext;
+import com.github.muehmar.gradle.openapi.writer.FileWriter;
+import com.github.muehmar.gradle.openapi.writer.GeneratedFile;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * Generates and writes the files for a single input of the generation only in case the input
+ * changed since the last generation according to the manifest. The warnings of an unchanged input
+ * are taken from the manifest and added again to the {@link WarningsContext}.
+ */
+public class IncrementalGenerator {
+  private final GenerationManifest previousManifest;
+  private final PojoSettings settings;
+  private final Path outputDir;
+  private final FileWriter fileWriter;
+
+  public IncrementalGenerator(
+      GenerationManifest previousManifest,
+      PojoSettings settings,
+      Path outputDir,
+      FileWriter fileWriter) {
+    this.previousManifest = previousManifest;
+    this.settings = settings;
+    this.outputDir = outputDir;
+    this.fileWriter = fileWriter;
+  }
+
+  public ManifestEntry generate(
+      String key, Object input, Function<PojoSettings, PList<GeneratedFile>> generateFiles) {
+    final Fingerprint fingerprint = Fingerprint.ofGenerationInput(input, settings);
+    final ManifestEntry entry =
+        previousManifest
+            .findUpToDateEntry(key, fingerprint, outputDir)
+            .orElseGet(() -> generateAndWriteFiles(key, fingerprint, generateFiles));
+    entry
+        .getWarnings()
+        .forEach(
+            warning -> WarningsContext.addWarningForTask(settings.getTaskIdentifier(), warning));
+    return entry;
+  }
+
+  private ManifestEntry generateAndWriteFiles(
+      String key,
+      Fingerprint fingerprint,
+      Function<PojoSettings, PList<GeneratedFile>> generateFiles) {
+    final TaskIdentifier inputTaskIdentifier =
+        TaskIdentifier.fromString(String.format("%s/%s", settings.getTaskIdentifier(), key));
+    final PList<GeneratedFile> files =
+        generateFiles.apply(settings.withTaskIdentifier(inputTaskIdentifier));
+    files.forEach(fileWriter::writeFile);
+    final PList<Warning> warnings =
+        WarningsContext.removeWarnings(inputTaskIdentifier).getWarnings();
+    return ManifestEntry.fromGeneratedFiles(key, fingerprint, files, warnings);
+  }
+}
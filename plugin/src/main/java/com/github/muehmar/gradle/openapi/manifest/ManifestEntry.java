@@ -0,0 +1,33 @@
+package com.github.muehmar.gradle.openapi.manifest;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.warnings.Warning;
+import com.github.muehmar.gradle.openapi.writer.GeneratedFile;
+import java.nio.file.Path;
+import lombok.Value;
+
+/**
+ * Entry of the manifest, i.e. the fingerprint of a single input of the generation together with the
+ * files generated for it and the warnings which occurred during the generation.
+ */
+@Value
+public class ManifestEntry {
+  String key;
+  Fingerprint fingerprint;
+  PList<ManifestFile> files;
+  PList<Warning> warnings;
+
+  public static ManifestEntry fromGeneratedFiles(
+      String key,
+      Fingerprint fingerprint,
+      PList<GeneratedFile> generatedFiles,
+      PList<Warning> warnings) {
+    return new ManifestEntry(
+        key, fingerprint, generatedFiles.map(ManifestFile::fromGeneratedFile), warnings);
+  }
+
+  public boolean isUpToDate(Fingerprint currentFingerprint, Path outputDir) {
+    return fingerprint.equals(currentFingerprint)
+        && files.forall(file -> file.isUnmodified(outputDir));
+  }
+}
@@ -0,0 +1,32 @@
+package com.github.muehmar.gradle.openapi.manifest;
+
+import com.github.muehmar.gradle.openapi.writer.GeneratedFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.Value;
+
+/** A generated file of the manifest together with the fingerprint of its content. */
+@Value
+public class ManifestFile {
+  Path file;
+  Fingerprint contentFingerprint;
+
+  public static ManifestFile fromGeneratedFile(GeneratedFile generatedFile) {
+    return new ManifestFile(
+        generatedFile.getFile(), Fingerprint.ofContent(generatedFile.getContent()));
+  }
+
+  /** Returns true in case the file exists in the output directory and is not modified. */
+  public boolean isUnmodified(Path outputDir) {
+    final Path completePath = outputDir.resolve(file);
+    if (!Files.isRegularFile(completePath)) {
+      return false;
+    }
+    try {
+      return Fingerprint.ofBytes(Files.readAllBytes(completePath)).equals(contentFingerprint);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.github.muehmar.gradle.openapi.task;
 import static com.github.muehmar.gradle.openapi.util.Booleans.not;
 
 import ch.bluecare.commons.data.NonEmptyList;
+import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.dsl.SingleSchemaExtension;
 import com.github.muehmar.gradle.openapi.dsl.WarningsConfig;
 import com.github.muehmar.gradle.openapi.generator.GeneratorFactory;
@@ -10,6 +11,7 @@ import com.github.muehmar.gradle.openapi.generator.Generators;
 import com.github.muehmar.gradle.openapi.generator.mapper.MapResult;
 import com.github.muehmar.gradle.openapi.generator.mapper.PojoMapperFactory;
 import com.github.muehmar.gradle.openapi.generator.mapper.SpecificationMapper;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SpecificationParserType;
 import com.github.muehmar.gradle.openapi.generator.model.Parameter;
 import com.github.muehmar.gradle.openapi.generator.model.Pojo;
 import com.github.muehmar.gradle.openapi.generator.model.specification.MainDirectory;
@@ -17,11 +19,18 @@ import com.github.muehmar.gradle.openapi.generator.model.specification.OpenApiSp
 import com.github.muehmar.gradle.openapi.generator.settings.Language;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoNameMapping;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.manifest.GenerationManifest;
+import com.github.muehmar.gradle.openapi.manifest.IncrementalGenerator;
+import com.github.muehmar.gradle.openapi.manifest.ManifestEntry;
+import com.github.muehmar.gradle.openapi.util.Parallel;
 import com.github.muehmar.gradle.openapi.util.Suppliers;
 import com.github.muehmar.gradle.openapi.warnings.WarningsHandler;
 import com.github.muehmar.gradle.openapi.writer.BaseDirFileWriter;
 import com.github.muehmar.gradle.openapi.writer.FileWriter;
 import com.github.muehmar.gradle.openapi.writer.GeneratedFile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -38,6 +47,8 @@ import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.OutputDirectory;
 
 public class GenerateSchemasTask extends DefaultTask {
+  private static final String UTILS_KEY = "utils";
+
   private final String inputSpec;
   private final MainDirectory mainDirectory;
   private final Provider<FileCollection> usedSpecifications;
@@ -45,6 +56,9 @@ public class GenerateSchemasTask extends DefaultTask {
   private final Provider<PojoSettings> pojoSettings;
   private final Provider<WarningsConfig> warningsConfig;
   private final Provider<String> sourceSet;
+  private final Provider<Integer> generationParallelism;
+  private final Provider<SpecificationParserType> specificationParser;
+  private final Provider<ParsedSpecificationCacheService> specificationCacheService;
   private final Supplier<MapResult> cachedMapping;
 
   @Inject
@@ -63,6 +77,10 @@ public class GenerateSchemasTask extends DefaultTask {
     pojoSettings =
         project.getProviders().provider(() -> extension.toPojoSettings(project, taskName));
     warningsConfig = project.getProviders().provider(extension::getWarnings);
+    generationParallelism = project.getProviders().provider(extension::getGenerationParallelism);
+    specificationParser = project.getProviders().provider(extension::getSpecificationParser);
+    specificationCacheService = ParsedSpecificationCacheService.register(project.getGradle());
+    usesService(specificationCacheService);
 
     // Use an inner class instead of a lambda to support incremental build properly
     doLast(
@@ -77,17 +95,63 @@ public class GenerateSchemasTask extends DefaultTask {
   private void runTask() {
     final MapResult mapResult = cachedMapping.get();
     final Generators generators = GeneratorFactory.create(Language.JAVA);
+    final PojoSettings settings = pojoSettings.get();
+    final int parallelism = generationParallelism.get();
+    final Path outputPath = Paths.get(outputDir.get());
+    final Path manifestPath =
+        GenerationManifest.manifestPath(outputPath, settings.getTaskIdentifier());
+    final GenerationManifest previousManifest = GenerationManifest.read(manifestPath);
+    final FileWriter fileWriter = new BaseDirFileWriter(outputDir.get());
+    final IncrementalGenerator incrementalGenerator =
+        new IncrementalGenerator(previousManifest, settings, outputPath, fileWriter);
+
+    final PList<ManifestEntry> pojoEntries =
+        Parallel.map(
+            mapResult.getPojos(),
+            parallelism,
+            pojo ->
+                incrementalGenerator.generate(
+                    pojoKey(pojo),
+                    pojo,
+                    inputSettings -> createPojo(pojo, generators, inputSettings).toPList()));
+
+    final PList<ManifestEntry> parameterEntries =
+        Parallel.map(
+            mapResult.getParameters(),
+            parallelism,
+            parameter ->
+                incrementalGenerator.generate(
+                    parameterKey(parameter),
+                    parameter,
+                    inputSettings ->
+                        PList.single(createParameter(parameter, generators, inputSettings))));
+
+    final ManifestEntry utilsEntry =
+        incrementalGenerator.generate(
+            UTILS_KEY, UTILS_KEY, generators.getUtilsGenerator()::generateUtils);
+
+    final GenerationManifest manifest =
+        GenerationManifest.fromEntries(pojoEntries.concat(parameterEntries).add(utilsEntry));
+    previousManifest.getStaleFiles(manifest).forEach(file -> deleteFile(outputPath.resolve(file)));
+    manifest.write(manifestPath);
 
-    mapResult.getPojos().flatMap(pojo -> createPojo(pojo, generators)).forEach(this::writeFile);
+    handleWarnings();
+  }
 
-    mapResult
-        .getParameters()
-        .map(parameter -> createParameter(parameter, generators))
-        .forEach(this::writeFile);
+  private static String pojoKey(Pojo pojo) {
+    return String.format("pojo:%s", pojo.getName().getPojoName());
+  }
 
-    generators.getUtilsGenerator().generateUtils(pojoSettings.get()).forEach(this::writeFile);
+  private static String parameterKey(Parameter parameter) {
+    return String.format("parameter:%s", parameter.getName());
+  }
 
-    handleWarnings();
+  private static void deleteFile(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   private void handleWarnings() {
@@ -97,22 +161,23 @@ public class GenerateSchemasTask extends DefaultTask {
     }
   }
 
-  private NonEmptyList<GeneratedFile> createPojo(Pojo pojo, Generators generators) {
-    return generators.getPojoGenerator().generatePojo(pojo, pojoSettings.get());
+  private static NonEmptyList<GeneratedFile> createPojo(
+      Pojo pojo, Generators generators, PojoSettings settings) {
+    return generators.getPojoGenerator().generatePojo(pojo, settings);
   }
 
-  private GeneratedFile createParameter(Parameter parameter, Generators generators) {
-    return generators.getParametersGenerator().generate(parameter, pojoSettings.get());
-  }
-
-  private void writeFile(GeneratedFile file) {
-    final FileWriter fileWriter = new BaseDirFileWriter(outputDir.get());
-    fileWriter.writeFile(file);
+  private static GeneratedFile createParameter(
+      Parameter parameter, Generators generators, PojoSettings settings) {
+    return generators.getParametersGenerator().generate(parameter, settings);
   }
 
   private MapResult executeMapping() {
     final SpecificationMapper specificationMapper =
-        PojoMapperFactory.create(pojoSettings.get().getSuffix());
+        PojoMapperFactory.create(
+            pojoSettings.get().getSuffix(),
+            generationParallelism.get(),
+            specificationCacheService.get().getCache(),
+            specificationParser.get());
     final Path specPath = Paths.get(inputSpec);
     final OpenApiSpec openApiSpec = OpenApiSpec.fromPath(specPath.getFileName());
     final PojoNameMapping pojoNameMapping = pojoSettings.get().pojoNameMapping();
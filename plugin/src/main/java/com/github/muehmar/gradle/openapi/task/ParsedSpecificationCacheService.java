@@ -0,0 +1,29 @@
+package com.github.muehmar.gradle.openapi.task;
+
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.ParsedSpecificationCache;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Shared build service which holds the cache of the parsed specifications. The cache is shared
+ * between all generate tasks of the build, i.e. a specification which is referenced by multiple
+ * tasks, like a file with common types, is parsed only once.
+ */
+public abstract class ParsedSpecificationCacheService
+    implements BuildService<BuildServiceParameters.None> {
+  private static final String SERVICE_NAME = "openApiSchemaParsedSpecificationCache";
+
+  private final ParsedSpecificationCache cache = ParsedSpecificationCache.inMemory();
+
+  public static Provider<ParsedSpecificationCacheService> register(Gradle gradle) {
+    return gradle
+        .getSharedServices()
+        .registerIfAbsent(SERVICE_NAME, ParsedSpecificationCacheService.class, spec -> {});
+  }
+
+  public ParsedSpecificationCache getCache() {
+    return cache;
+  }
+}
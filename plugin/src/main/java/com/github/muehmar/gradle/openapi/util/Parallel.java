@@ -0,0 +1,54 @@
+package com.github.muehmar.gradle.openapi.util;
+
+import ch.bluecare.commons.data.PList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+public class Parallel {
+  private Parallel() {}
+
+  /**
+   * Maps each element of the list with at most {@code parallelism} threads. The order of the
+   * resulting list is the same as the order of the input list. A parallelism of one maps the
+   * elements in the calling thread.
+   */
+  public static <A, B> PList<B> map(PList<A> elements, int parallelism, Function<A, B> f) {
+    if (parallelism <= 1 || elements.size() <= 1) {
+      return elements.map(f);
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      final List<Callable<B>> tasks =
+          elements.map(element -> (Callable<B>) () -> f.apply(element)).toArrayList();
+      return PList.fromIter(executor.invokeAll(tasks)).map(Parallel::getResult);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for parallel execution", e);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static <B> B getResult(Future<B> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for parallel execution", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.github.muehmar.gradle.openapi.task.TaskIdentifier;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -15,10 +16,14 @@ public class WarningsContext {
   private WarningsContext() {}
 
   public static void addWarningForTask(TaskIdentifier identifier, Warning warning) {
-    final Set<Warning> warnings =
-        new HashSet<>(map.getOrDefault(identifier, Collections.emptySet()));
-    warnings.add(warning);
-    map.put(identifier, Collections.unmodifiableSet(warnings));
+    map.compute(
+        identifier,
+        (id, currentWarnings) -> {
+          final Set<Warning> warnings =
+              new HashSet<>(Optional.ofNullable(currentWarnings).orElse(Collections.emptySet()));
+          warnings.add(warning);
+          return Collections.unmodifiableSet(warnings);
+        });
   }
 
   public static TaskWarnings getWarnings(TaskIdentifier identifier) {
@@ -26,4 +31,10 @@ public class WarningsContext {
         PList.fromIter(map.getOrDefault(identifier, Collections.emptySet()));
     return new TaskWarnings(identifier, warnings);
   }
+
+  public static TaskWarnings removeWarnings(TaskIdentifier identifier) {
+    final PList<Warning> warnings =
+        PList.fromIter(Optional.ofNullable(map.remove(identifier)).orElse(Collections.emptySet()));
+    return new TaskWarnings(identifier, warnings);
+  }
 }
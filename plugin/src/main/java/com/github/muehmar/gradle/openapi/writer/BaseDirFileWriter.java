@@ -1,39 +1,72 @@
 package com.github.muehmar.gradle.openapi.writer;
 
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Writes the files relative to a base directory. Files which exist already with the same content
+ * are not written again, i.e. the timestamp of unchanged files is not modified. A single instance
+ * should be used for all files, as the writer keeps track of the already created directories. The
+ * writer is thread safe as long as each file is written only once.
+ */
 public class BaseDirFileWriter implements FileWriter {
-  private final String outputDir;
+  private final Path outputDir;
+  private final Set<Path> createdDirectories;
 
   public BaseDirFileWriter(String outputDir) {
-    this.outputDir = outputDir;
+    this.outputDir = Paths.get(outputDir);
+    this.createdDirectories = ConcurrentHashMap.newKeySet();
   }
 
   @Override
   public void writeFile(GeneratedFile file) {
+    final Path completePath = outputDir.resolve(file.getFile());
+    final byte[] content = file.getContent().getBytes(StandardCharsets.UTF_8);
     try {
-      final Path completePath = Paths.get(outputDir).resolve(file.getFile());
-      completePath.toFile().mkdirs();
+      if (hasSameContent(completePath, content)) {
+        return;
+      }
+      createDirectories(completePath.getParent());
+      // Delete the file to properly change the case of the filename on case-insensitive systems
+      Files.deleteIfExists(completePath);
+      write(completePath, content);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-      Files.delete(completePath);
+  private static boolean hasSameContent(Path file, byte[] content) throws IOException {
+    if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+      return false;
+    }
+    return Arrays.equals(Files.readAllBytes(file), content);
+  }
 
-      try (final PrintWriter pw =
-          new PrintWriter(
-              new OutputStreamWriter(
-                  Files.newOutputStream(completePath.toFile().toPath()), StandardCharsets.UTF_8))) {
+  private void createDirectories(Path directory) throws IOException {
+    if (directory != null && !createdDirectories.contains(directory)) {
+      Files.createDirectories(directory);
+      createdDirectories.add(directory);
+    }
+  }
 
-        pw.append(file.getContent());
-        pw.flush();
+  private static void write(Path file, byte[] content) throws IOException {
+    try (final FileChannel channel = FileChannel.open(file, CREATE_NEW, WRITE)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
       }
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
     }
   }
 }
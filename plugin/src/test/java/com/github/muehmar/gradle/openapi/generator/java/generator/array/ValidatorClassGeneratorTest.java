@@ -43,4 +43,18 @@ class ValidatorClassGeneratorTest {
 
     expect.toMatchSnapshot(writer.asString());
   }
+
+  @Test
+  @SnapshotName("arrayPojoWithGenerateValidateMethod")
+  void generate_when_arrayPojoWithGenerateValidateMethod_then_correctOutput() {
+    final Generator<JavaArrayPojo, PojoSettings> generator = validationClassGenerator();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.arrayPojo(),
+            defaultTestSettings().withGenerateValidateMethod(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writer.asString());
+  }
 }
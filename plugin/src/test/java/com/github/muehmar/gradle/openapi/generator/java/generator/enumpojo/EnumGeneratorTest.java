@@ -30,7 +30,8 @@ class EnumGeneratorTest {
     final PojoSettings pojoSettings =
         defaultTestSettings()
             .withJsonSupport(JsonSupport.NONE)
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
             .withEnableValidation(true);
 
     final String content =
@@ -45,7 +46,8 @@ class EnumGeneratorTest {
 
     final PojoSettings pojoSettings =
         defaultTestSettings()
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
             .withEnableValidation(true);
 
     final String content =
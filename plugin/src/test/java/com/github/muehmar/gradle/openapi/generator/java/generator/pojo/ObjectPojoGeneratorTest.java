@@ -119,7 +119,8 @@ class ObjectPojoGeneratorTest {
     final PojoSettings pojoSettings =
         defaultTestSettings()
             .withJsonSupport(JsonSupport.NONE)
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
             .withEnableValidation(false);
 
     final String content =
@@ -135,7 +136,26 @@ class ObjectPojoGeneratorTest {
 
     final PojoSettings pojoSettings =
         defaultTestSettings()
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
+            .withEnableValidation(false);
+
+    final String content =
+        generator.generate(SAMPLE_OBJECT_POJO, pojoSettings, javaWriter()).asString();
+
+    expect.toMatchSnapshot(content);
+  }
+
+  @Test
+  @SnapshotName("jsonSupportJacksonStreaming")
+  void generatePojo_when_jsonSupportJacksonStreaming_then_correctPojoGenerated() {
+    final ObjectPojoGenerator generator = new ObjectPojoGenerator();
+
+    final PojoSettings pojoSettings =
+        defaultTestSettings()
+            .withJsonSupport(JsonSupport.JACKSON_STREAMING)
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
             .withEnableValidation(false);
 
     final String content =
@@ -152,7 +172,8 @@ class ObjectPojoGeneratorTest {
     final PojoSettings pojoSettings =
         defaultTestSettings()
             .withJsonSupport(JsonSupport.NONE)
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(true).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(true).singleInstance(false).build())
             .withEnableValidation(false);
 
     final String content =
@@ -170,7 +191,8 @@ class ObjectPojoGeneratorTest {
     final PojoSettings pojoSettings =
         defaultTestSettings()
             .withJsonSupport(JsonSupport.NONE)
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
             .withEnableValidation(true)
             .withValidationApi(validationApi);
 
@@ -280,7 +302,8 @@ class ObjectPojoGeneratorTest {
     final PojoSettings pojoSettings =
         defaultTestSettings()
             .withJsonSupport(JsonSupport.NONE)
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
             .withEnumDescriptionSettings(EnumDescriptionSettings.enabled("`__ENUM__`:", false));
 
     final JavaObjectPojo pojo =
@@ -322,7 +345,8 @@ class ObjectPojoGeneratorTest {
 
     final PojoSettings pojoSettings =
         defaultTestSettings()
-            .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build())
+            .withStagedBuilder(
+                fullStagedBuilderSettingsBuilder().enabled(false).singleInstance(false).build())
             .withEnumDescriptionSettings(EnumDescriptionSettings.enabled("`__ENUM__`:", false));
 
     final JavaObjectPojo pojo =
@@ -366,7 +390,11 @@ class ObjectPojoGeneratorTest {
             .generate(
                 JavaPojos.allNecessityAndNullabilityVariants(),
                 defaultTestSettings()
-                    .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(true).build()),
+                    .withStagedBuilder(
+                        fullStagedBuilderSettingsBuilder()
+                            .enabled(true)
+                            .singleInstance(false)
+                            .build()),
                 javaWriter())
             .asString();
 
@@ -62,4 +62,34 @@ class AdditionalPropertiesSetterGeneratorTest {
 
     expect.toMatchSnapshot(writerSnapshot(writer));
   }
+
+  @Test
+  @SnapshotName("objectPojoAnyTypeAdditionalPropertiesAndCompactAdditionalProperties")
+  void generate_when_anyTypeAndCompactAdditionalProperties_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = additionalPropertiesSetterGenerator();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.objectPojo(requiredBirthdate()),
+            defaultTestSettings().withCompactAdditionalProperties(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("objectPojoSpecificTypeAdditionalPropertiesAndCompactAdditionalProperties")
+  void generate_when_specificTypeAndCompactAdditionalProperties_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = additionalPropertiesSetterGenerator();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.objectPojo(
+                PList.single(requiredBirthdate()),
+                JavaAdditionalProperties.allowedFor(objectType())),
+            defaultTestSettings().withCompactAdditionalProperties(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
 }
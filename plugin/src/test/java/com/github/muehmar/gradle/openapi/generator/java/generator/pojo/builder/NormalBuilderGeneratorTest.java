@@ -90,7 +90,11 @@ class NormalBuilderGeneratorTest {
         generator.generate(
             allNecessityAndNullabilityVariants(),
             defaultTestSettings()
-                .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build()),
+                .withStagedBuilder(
+                    fullStagedBuilderSettingsBuilder()
+                        .enabled(false)
+                        .singleInstance(false)
+                        .build()),
             javaWriter());
 
     expect.toMatchSnapshot(writerSnapshot(writer));
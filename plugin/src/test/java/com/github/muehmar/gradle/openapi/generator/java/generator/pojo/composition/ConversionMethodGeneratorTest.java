@@ -20,6 +20,7 @@ import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojo;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos;
 import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaStringType;
 import com.github.muehmar.gradle.openapi.generator.model.type.StringType;
+import com.github.muehmar.gradle.openapi.generator.settings.CompositionConversion;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import com.github.muehmar.gradle.openapi.generator.settings.TypeMappings;
 import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
@@ -95,6 +96,27 @@ class ConversionMethodGeneratorTest {
     expect.toMatchSnapshot(writerSnapshot(writer));
   }
 
+  @Test
+  @SnapshotName("composedPojoWithNullabilityAndNecessityVariantsAndViewConversion")
+  void
+      generate_when_composedPojoWithNullabilityAndNecessityVariantsAndViewConversion_then_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = conversionMethodGenerator();
+
+    final JavaObjectPojo pojo1 = JavaPojos.sampleObjectPojo1();
+
+    final JavaObjectPojo pojo2 = JavaPojos.allNecessityAndNullabilityVariants();
+
+    final JavaObjectPojo composedPojo = JavaPojos.oneOfPojo(pojo1, pojo2);
+
+    final Writer writer =
+        generator.generate(
+            composedPojo,
+            defaultTestSettings().withCompositionConversion(CompositionConversion.VIEW),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
   @Test
   @SnapshotName("nestedOneOf")
   void generate_when_nestedOneOf_then_correctOutput() {
@@ -0,0 +1,90 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.getter.additionalproperties.ForEachAdditionalProperty.forEachAdditionalPropertyGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.model.type.JavaTypes.stringListType;
+import static com.github.muehmar.gradle.openapi.generator.model.Nullability.NOT_NULLABLE;
+import static com.github.muehmar.gradle.openapi.generator.model.Nullability.NULLABLE;
+import static com.github.muehmar.gradle.openapi.generator.model.name.PojoNames.pojoName;
+import static com.github.muehmar.gradle.openapi.generator.settings.TestPojoSettings.defaultTestSettings;
+import static com.github.muehmar.gradle.openapi.snapshot.SnapshotUtil.writerSnapshot;
+import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import au.com.origin.snapshots.Expect;
+import au.com.origin.snapshots.annotations.SnapshotName;
+import com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaObjectType;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaTypes;
+import com.github.muehmar.gradle.openapi.generator.model.type.StandardObjectType;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.writer.Writer;
+import org.junit.jupiter.api.Test;
+
+@SnapshotTest
+class ForEachAdditionalPropertyTest {
+  private Expect expect;
+
+  @Test
+  void generate_when_additionalPropertiesNotAllowed_then_noOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = forEachAdditionalPropertyGenerator();
+
+    final JavaAdditionalProperties additionalProperties = JavaAdditionalProperties.notAllowed();
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo().withAdditionalProperties(additionalProperties);
+
+    final Writer writer = generator.generate(pojo, defaultTestSettings(), javaWriter());
+
+    assertEquals("", writer.asString());
+  }
+
+  @Test
+  @SnapshotName("notNullableAnyType")
+  void generate_when_notNullableAnyType_then_matchSnapshot() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = forEachAdditionalPropertyGenerator();
+
+    final JavaAdditionalProperties additionalProperties =
+        JavaAdditionalProperties.allowedFor(JavaTypes.anyType().withNullability(NOT_NULLABLE));
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo().withAdditionalProperties(additionalProperties);
+
+    final Writer writer = generator.generate(pojo, defaultTestSettings(), javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("notNullableListType")
+  void generate_when_notNullableListType_then_matchSnapshot() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = forEachAdditionalPropertyGenerator();
+
+    final JavaAdditionalProperties additionalProperties =
+        JavaAdditionalProperties.allowedFor(stringListType().withNullability(NOT_NULLABLE));
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo().withAdditionalProperties(additionalProperties);
+
+    final Writer writer = generator.generate(pojo, defaultTestSettings(), javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("nullableObjectType")
+  void generate_when_nullableObjectType_then_matchSnapshot() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = forEachAdditionalPropertyGenerator();
+
+    final JavaAdditionalProperties additionalProperties =
+        JavaAdditionalProperties.allowedFor(
+            JavaObjectType.wrap(StandardObjectType.ofName(pojoName("Object", "Dto")))
+                .withNullability(NULLABLE));
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo().withAdditionalProperties(additionalProperties);
+
+    final Writer writer = generator.generate(pojo, defaultTestSettings(), javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+}
@@ -141,4 +141,42 @@ class GetAdditionalPropertiesListTest {
 
     expect.toMatchSnapshot(writerSnapshot(writer));
   }
+
+  @Test
+  @SnapshotName("nullableListTypeAndCacheAdditionalProperties")
+  void generate_when_nullableListTypeAndCacheAdditionalProperties_then_matchSnapshot() {
+    final Generator<JavaObjectPojo, PojoSettings> generator =
+        getAdditionalPropertiesListGenerator();
+
+    final JavaAdditionalProperties additionalProperties =
+        JavaAdditionalProperties.allowedFor(stringListType().withNullability(NULLABLE));
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo().withAdditionalProperties(additionalProperties);
+
+    final Writer writer =
+        generator.generate(
+            pojo, defaultTestSettings().withCacheAdditionalProperties(true), javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("notNullableObjectTypeAndCacheAdditionalProperties")
+  void generate_when_notNullableObjectTypeAndCacheAdditionalProperties_then_matchSnapshot() {
+    final Generator<JavaObjectPojo, PojoSettings> generator =
+        getAdditionalPropertiesListGenerator();
+
+    final JavaAdditionalProperties additionalProperties =
+        JavaAdditionalProperties.allowedFor(
+            JavaObjectType.wrap(StandardObjectType.ofName(pojoName("Object", "Dto")))
+                .withNullability(NOT_NULLABLE));
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo().withAdditionalProperties(additionalProperties);
+
+    final Writer writer =
+        generator.generate(
+            pojo, defaultTestSettings().withCacheAdditionalProperties(true), javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
 }
@@ -0,0 +1,140 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.jackson;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.jackson.JacksonStreamingGenerator.jacksonClassAnnotations;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.pojo.jackson.JacksonStreamingGenerator.jacksonStreamingClasses;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.requiredListWithNullableItems;
+import static com.github.muehmar.gradle.openapi.generator.settings.TestPojoSettings.defaultTestSettings;
+import static com.github.muehmar.gradle.openapi.snapshot.SnapshotUtil.writerSnapshot;
+import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import au.com.origin.snapshots.Expect;
+import au.com.origin.snapshots.annotations.SnapshotName;
+import ch.bluecare.commons.data.NonEmptyList;
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.model.JavaAdditionalProperties;
+import com.github.muehmar.gradle.openapi.generator.java.model.composition.JavaAllOfComposition;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.JavaName;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos;
+import com.github.muehmar.gradle.openapi.generator.java.ref.JacksonRefs;
+import com.github.muehmar.gradle.openapi.generator.settings.JsonSupport;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.writer.Writer;
+import org.junit.jupiter.api.Test;
+
+@SnapshotTest
+class JacksonStreamingGeneratorTest {
+  private Expect expect;
+
+  private static final PojoSettings STREAMING_SETTINGS =
+      defaultTestSettings().withJsonSupport(JsonSupport.JACKSON_STREAMING);
+
+  @Test
+  @SnapshotName("sampleObjectPojo1")
+  void jacksonStreamingClasses_when_sampleObjectPojo1_then_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonStreamingClasses();
+
+    final Writer writer =
+        generator.generate(JavaPojos.sampleObjectPojo1(), STREAMING_SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("allNecessityAndNullabilityVariants")
+  void jacksonStreamingClasses_when_allNecessityAndNullabilityVariants_then_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonStreamingClasses();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.allNecessityAndNullabilityVariants(), STREAMING_SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("noAdditionalPropertiesAllowed")
+  void jacksonStreamingClasses_when_noAdditionalPropertiesAllowed_then_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonStreamingClasses();
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo(PList.empty(), JavaAdditionalProperties.notAllowed());
+
+    final Writer writer = generator.generate(pojo, STREAMING_SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("membersWithSameUpperCaseName")
+  void jacksonStreamingClasses_when_membersWithSameUpperCaseName_then_uniqueConstants() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonStreamingClasses();
+    final JavaObjectPojo pojo =
+        JavaPojos.objectPojo(
+            PList.of(
+                requiredListWithNullableItems().withName(JavaName.fromString("fooBar")),
+                requiredListWithNullableItems().withName(JavaName.fromString("foo_bar"))),
+            JavaAdditionalProperties.notAllowed());
+
+    final Writer writer = generator.generate(pojo, STREAMING_SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  void jacksonStreamingClasses_when_jacksonSupport_then_noOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonStreamingClasses();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.sampleObjectPojo1(),
+            defaultTestSettings().withJsonSupport(JsonSupport.JACKSON),
+            javaWriter());
+
+    assertEquals("", writer.asString());
+  }
+
+  @Test
+  void jacksonStreamingClasses_when_pojoWithComposition_then_noOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonStreamingClasses();
+    final JavaObjectPojo pojo =
+        JavaPojos.allOfPojo(
+            JavaAllOfComposition.fromPojos(NonEmptyList.single(JavaPojos.sampleObjectPojo1())));
+
+    final Writer writer = generator.generate(pojo, STREAMING_SETTINGS, javaWriter());
+
+    assertEquals("", writer.asString());
+  }
+
+  @Test
+  void jacksonClassAnnotations_when_jacksonStreamingSupport_then_serializerAndDeserializerUsed() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonClassAnnotations();
+
+    final Writer writer =
+        generator.generate(JavaPojos.sampleObjectPojo1(), STREAMING_SETTINGS, javaWriter());
+
+    assertEquals(
+        "@JsonSerialize(using = SampleObjectPojo1Dto.JacksonSerializer.class)\n"
+            + "@JsonDeserialize(using = SampleObjectPojo1Dto.JacksonDeserializer.class)",
+        writer.asString());
+    assertTrue(writer.getRefs().exists(JacksonRefs.JSON_SERIALIZE::equals));
+    assertTrue(writer.getRefs().exists(JacksonRefs.JSON_DESERIALIZE::equals));
+  }
+
+  @Test
+  void jacksonClassAnnotations_when_jacksonSupport_then_builderUsedForDeserialization() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = jacksonClassAnnotations();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.sampleObjectPojo1(),
+            defaultTestSettings().withJsonSupport(JsonSupport.JACKSON),
+            javaWriter());
+
+    assertEquals(
+        "@JsonDeserialize(builder = SampleObjectPojo1Dto.Builder.class)", writer.asString());
+  }
+}
@@ -1,5 +1,8 @@
 package com.github.muehmar.gradle.openapi.generator.java.generator.pojo.stagedbuilder;
 
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.optionalBirthdate;
+import static com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos.sampleObjectPojo1;
+import static com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos.sampleObjectPojo2;
 import static com.github.muehmar.gradle.openapi.generator.settings.StagedBuilderSettingsBuilder.fullStagedBuilderSettingsBuilder;
 import static com.github.muehmar.gradle.openapi.generator.settings.TestPojoSettings.defaultTestSettings;
 import static com.github.muehmar.gradle.openapi.snapshot.SnapshotUtil.writerSnapshot;
@@ -8,7 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import au.com.origin.snapshots.Expect;
 import au.com.origin.snapshots.annotations.SnapshotName;
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMembers;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
 import io.github.muehmar.codegenerator.writer.Writer;
 import org.junit.jupiter.api.Test;
@@ -26,12 +33,70 @@ class StagedBuilderGeneratorTest {
         gen.generate(
             JavaPojos.allNecessityAndNullabilityVariants(),
             defaultTestSettings()
-                .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(true).build()),
+                .withStagedBuilder(
+                    fullStagedBuilderSettingsBuilder().enabled(true).singleInstance(false).build()),
             javaWriter());
 
     expect.toMatchSnapshot(writerSnapshot(writer));
   }
 
+  @Test
+  @SnapshotName("singleInstanceStagedBuilder")
+  void generate_when_singleInstanceStagedBuilder_then_correctOutput() {
+    final StagedBuilderGenerator gen = new StagedBuilderGenerator();
+
+    final Writer writer =
+        gen.generate(
+            JavaPojos.allNecessityAndNullabilityVariants(),
+            defaultTestSettings()
+                .withStagedBuilder(
+                    fullStagedBuilderSettingsBuilder().enabled(true).singleInstance(true).build()),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("singleInstanceAllOfPojo")
+  void generate_when_singleInstanceAndAllOfPojo_then_correctOutput() {
+    final StagedBuilderGenerator gen = new StagedBuilderGenerator();
+
+    final Writer writer =
+        gen.generate(
+            JavaPojos.allOfPojo(sampleObjectPojo1(), sampleObjectPojo2()),
+            singleInstanceSettings(),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("singleInstanceOneOfPojo")
+  void generate_when_singleInstanceAndOneOfPojo_then_correctOutput() {
+    final StagedBuilderGenerator gen = new StagedBuilderGenerator();
+
+    final Writer writer =
+        gen.generate(
+            JavaPojos.oneOfPojo(sampleObjectPojo1(), sampleObjectPojo2()),
+            singleInstanceSettings(),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("singleInstanceAnyOfPojo")
+  void generate_when_singleInstanceAndAnyOfPojo_then_correctOutput() {
+    final StagedBuilderGenerator gen = new StagedBuilderGenerator();
+
+    final JavaObjectPojo anyOfPojo =
+        JavaPojos.anyOfPojo(sampleObjectPojo1(), sampleObjectPojo2())
+            .withMembers(JavaPojoMembers.fromMembers(PList.single(optionalBirthdate())));
+    final Writer writer = gen.generate(anyOfPojo, singleInstanceSettings(), javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
   @Test
   void generate_when_disabledStagedBuilder_then_noOutput() {
     final StagedBuilderGenerator gen = new StagedBuilderGenerator();
@@ -40,9 +105,19 @@ class StagedBuilderGeneratorTest {
         gen.generate(
             JavaPojos.allNecessityAndNullabilityVariants(),
             defaultTestSettings()
-                .withStagedBuilder(fullStagedBuilderSettingsBuilder().enabled(false).build()),
+                .withStagedBuilder(
+                    fullStagedBuilderSettingsBuilder()
+                        .enabled(false)
+                        .singleInstance(false)
+                        .build()),
             javaWriter());
 
     assertEquals("", writer.asString());
   }
+
+  private static PojoSettings singleInstanceSettings() {
+    return defaultTestSettings()
+        .withStagedBuilder(
+            fullStagedBuilderSettingsBuilder().enabled(true).singleInstance(true).build());
+  }
 }
@@ -203,4 +203,19 @@ class ValidatorClassGeneratorTest {
 
     expect.toMatchSnapshot(writer.asString());
   }
+
+  @Test
+  @SnapshotName("objectPojoWithGenerateValidateMethod")
+  void generate_when_objectPojoWithGenerateValidateMethod_then_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = validationClassGenerator();
+
+    final JavaObjectPojo pojo =
+        sampleObjectPojo1().withAdditionalProperties(JavaAdditionalProperties.notAllowed());
+
+    final Writer writer =
+        generator.generate(
+            pojo, defaultTestSettings().withGenerateValidateMethod(true), javaWriter());
+
+    expect.toMatchSnapshot(writer.asString());
+  }
 }
@@ -62,4 +62,18 @@ class EqualsGeneratorTest {
 
     expect.toMatchSnapshot(writer.asString());
   }
+
+  @Test
+  @SnapshotName("cachedHashCode")
+  void generate_when_cacheHashCodeEnabled_then_cachedHashCodesCompared() {
+    final Generator<EqualsContent, PojoSettings> generator = equalsMethod();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.illegalIdentifierPojo().getEqualsContent(),
+            defaultTestSettings().withCacheHashCode(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
 }
@@ -74,4 +74,20 @@ class HashCodeGeneratorTest {
 
     expect.toMatchSnapshot(writerSnapshot(writer));
   }
+
+  @Test
+  @SnapshotName("cachedHashCode")
+  void generate_when_cacheHashCodeEnabled_then_cachedHashCodeFieldAndUnrolledComputation() {
+    final Generator<HashCodeContent, PojoSettings> generator = hashCodeMethod();
+
+    final PList<TechnicalPojoMember> technicalMembers =
+        PList.of(byteArrayMember(), requiredDouble()).flatMap(JavaPojoMember::getTechnicalMembers);
+    final HashCodeContent hashCodeContent =
+        HashCodeContentBuilder.create().technicalPojoMembers(technicalMembers).build();
+    final Writer writer =
+        generator.generate(
+            hashCodeContent, defaultTestSettings().withCacheHashCode(true), javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
 }
@@ -8,6 +8,7 @@ import au.com.origin.snapshots.Expect;
 import au.com.origin.snapshots.annotations.SnapshotName;
 import com.github.muehmar.gradle.openapi.generator.java.generator.shared.misc.PojoConstructorGenerator.ConstructorContent;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos;
+import com.github.muehmar.gradle.openapi.generator.settings.CompositionConversion;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
 import io.github.muehmar.codegenerator.Generator;
@@ -60,6 +61,36 @@ class PojoConstructorGeneratorTest {
     expect.toMatchSnapshot(writer.asString());
   }
 
+  @Test
+  @SnapshotName("illegalIdentifierPojoAndCompactAdditionalProperties")
+  void generator_when_illegalIdentifierPojoAndCompactAdditionalProperties_then_correctOutput() {
+    final Generator<ConstructorContent, PojoSettings> generator = pojoConstructorGenerator();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.illegalIdentifierPojo().getConstructorContent(),
+            defaultTestSettings().withCompactAdditionalProperties(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writer.asString());
+  }
+
+  @Test
+  @SnapshotName("illegalIdentifierPojoAndCompactAdditionalPropertiesAndCompositionConversionView")
+  void generator_when_compactAdditionalPropertiesAndCompositionConversionView_then_correctOutput() {
+    final Generator<ConstructorContent, PojoSettings> generator = pojoConstructorGenerator();
+
+    final Writer writer =
+        generator.generate(
+            JavaPojos.illegalIdentifierPojo().getConstructorContent(),
+            defaultTestSettings()
+                .withCompactAdditionalProperties(true)
+                .withCompositionConversion(CompositionConversion.VIEW),
+            javaWriter());
+
+    expect.toMatchSnapshot(writer.asString());
+  }
+
   @Test
   @SnapshotName("arrayPojo")
   void generator_when_arrayPojo_then_correctOutput() {
@@ -10,10 +10,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import au.com.origin.snapshots.Expect;
 import au.com.origin.snapshots.annotations.SnapshotName;
+import ch.bluecare.commons.data.PList;
 import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMember;
 import com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers;
 import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos;
 import com.github.muehmar.gradle.openapi.generator.model.constraints.Constraints;
+import com.github.muehmar.gradle.openapi.generator.model.name.Name;
+import com.github.muehmar.gradle.openapi.generator.model.type.EnumType;
+import com.github.muehmar.gradle.openapi.generator.model.type.IntegerType;
 import com.github.muehmar.gradle.openapi.generator.model.type.StringType;
 import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
 import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
@@ -82,4 +86,37 @@ class UniqueItemsValidationMethodGeneratorTest {
 
     expect.toMatchSnapshot(writerSnapshot(writer));
   }
+
+  @Test
+  @SnapshotName("uniqueItemsConstraintWithEnumItems")
+  void generate_when_uniqueItemsConstraintWithEnumItems_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator =
+        uniqueItemsValidationMethodGenerator();
+    final Writer writer =
+        generator.generate(
+            TestJavaPojoMembers.list(
+                EnumType.ofNameAndMembers(Name.ofString("ColorEnum"), PList.of("red", "green")),
+                REQUIRED,
+                NOT_NULLABLE,
+                Constraints.ofUniqueItems(true)),
+            defaultTestSettings().withEnableValidation(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("uniqueItemsConstraintWithIntegerItems")
+  void generate_when_uniqueItemsConstraintWithIntegerItems_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator =
+        uniqueItemsValidationMethodGenerator();
+    final Writer writer =
+        generator.generate(
+            TestJavaPojoMembers.list(
+                IntegerType.formatLong(), REQUIRED, NOT_NULLABLE, Constraints.ofUniqueItems(true)),
+            defaultTestSettings().withEnableValidation(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
 }
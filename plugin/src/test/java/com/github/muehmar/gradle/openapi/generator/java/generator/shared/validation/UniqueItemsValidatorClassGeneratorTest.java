@@ -0,0 +1,28 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.data.VoidData.noData;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.data.VoidData.noSettings;
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.UniqueItemsValidatorClassGenerator.uniqueItemsValidatorClassGenerator;
+import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
+
+import au.com.origin.snapshots.Expect;
+import au.com.origin.snapshots.annotations.SnapshotName;
+import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.writer.Writer;
+import org.junit.jupiter.api.Test;
+
+@SnapshotTest
+class UniqueItemsValidatorClassGeneratorTest {
+  private Expect expect;
+
+  @Test
+  @SnapshotName("uniqueItemsValidatorClassGenerator")
+  void uniqueItemsValidatorClassGenerator_when_used_then_matchSnapshot() {
+    final Generator<Void, Void> generator = uniqueItemsValidatorClassGenerator();
+
+    final Writer writer = generator.generate(noData(), noSettings(), javaWriter());
+
+    expect.toMatchSnapshot(writer.asString());
+  }
+}
@@ -0,0 +1,46 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.ValidateMethodGenerator.validateMethodGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos.sampleObjectPojo1;
+import static com.github.muehmar.gradle.openapi.generator.settings.TestPojoSettings.defaultTestSettings;
+import static com.github.muehmar.gradle.openapi.snapshot.SnapshotUtil.writerSnapshot;
+import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import au.com.origin.snapshots.Expect;
+import au.com.origin.snapshots.annotations.SnapshotName;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.writer.Writer;
+import org.junit.jupiter.api.Test;
+
+@SnapshotTest
+class ValidateMethodGeneratorTest {
+  private Expect expect;
+
+  @Test
+  @SnapshotName("generateValidateMethodEnabled")
+  void generate_when_generateValidateMethodEnabled_then_correctOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = validateMethodGenerator();
+
+    final Writer writer =
+        generator.generate(
+            sampleObjectPojo1(),
+            defaultTestSettings().withGenerateValidateMethod(true),
+            javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  void generate_when_generateValidateMethodDisabled_then_noOutput() {
+    final Generator<JavaObjectPojo, PojoSettings> generator = validateMethodGenerator();
+
+    final Writer writer =
+        generator.generate(sampleObjectPojo1(), defaultTestSettings(), javaWriter());
+
+    assertEquals("", writer.asString());
+  }
+}
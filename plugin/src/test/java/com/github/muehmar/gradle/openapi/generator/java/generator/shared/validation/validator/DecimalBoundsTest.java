@@ -0,0 +1,31 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DecimalBoundsTest {
+
+  @ParameterizedTest
+  @CsvSource({"12.5, 12.5", "199, 199.0", "120.0, 120.0", "-0.25, -0.25", "1E10, 1.0E10"})
+  void exactDoubleLiteral_when_exactlyRepresentable_then_doubleLiteral(
+      String bound, String expected) {
+    assertEquals(Optional.of(expected), DecimalBounds.exactDoubleLiteral(bound));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "50.1",
+        "0.1",
+        "0.1000000000000000055511151231257827021181583404541015625",
+        "1E400",
+        "abc"
+      })
+  void exactDoubleLiteral_when_notExactlyRepresentable_then_empty(String bound) {
+    assertEquals(Optional.empty(), DecimalBounds.exactDoubleLiteral(bound));
+  }
+}
@@ -0,0 +1,166 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.PropertyViolationsGenerator.memberViolationsGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.list;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.map;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.optionalString;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.requiredInteger;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.requiredString;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.string;
+import static com.github.muehmar.gradle.openapi.generator.model.Necessity.REQUIRED;
+import static com.github.muehmar.gradle.openapi.generator.model.Nullability.NOT_NULLABLE;
+import static com.github.muehmar.gradle.openapi.generator.model.Nullability.NULLABLE;
+import static com.github.muehmar.gradle.openapi.generator.settings.TestPojoSettings.defaultTestSettings;
+import static com.github.muehmar.gradle.openapi.snapshot.SnapshotUtil.writerSnapshot;
+import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
+
+import au.com.origin.snapshots.Expect;
+import au.com.origin.snapshots.annotations.SnapshotName;
+import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMember;
+import com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaStringType;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.Constraints;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.PropertyCount;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.Size;
+import com.github.muehmar.gradle.openapi.generator.model.name.PojoName;
+import com.github.muehmar.gradle.openapi.generator.model.type.StandardObjectType;
+import com.github.muehmar.gradle.openapi.generator.model.type.StringType;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.generator.settings.TypeMappings;
+import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.writer.Writer;
+import org.junit.jupiter.api.Test;
+
+@SnapshotTest
+class PropertyViolationsGeneratorTest {
+  private Expect expect;
+
+  private static final PojoSettings SETTINGS =
+      defaultTestSettings().withGenerateValidateMethod(true);
+
+  @Test
+  @SnapshotName("requiredStringWithCondition")
+  void generate_when_requiredStringWithCondition_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final JavaPojoMember stringType =
+        string(REQUIRED, NOT_NULLABLE)
+            .withJavaType(
+                JavaStringType.wrap(
+                    StringType.noFormat().withConstraints(Constraints.ofSize(Size.ofMin(5))),
+                    TypeMappings.empty()));
+
+    final Writer writer = generator.generate(stringType, SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("requiredNullableStringWithCondition")
+  void generate_when_requiredNullableStringWithCondition_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final JavaPojoMember stringType =
+        requiredString()
+            .withJavaType(
+                JavaStringType.wrap(
+                        StringType.noFormat().withConstraints(Constraints.ofSize(Size.ofMin(5))),
+                        TypeMappings.empty())
+                    .withNullability(NULLABLE));
+
+    final Writer writer = generator.generate(stringType, SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("optionalNotNullableStringWithCondition")
+  void generate_when_optionalNotNullableStringWithCondition_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final JavaPojoMember stringType =
+        optionalString()
+            .withJavaType(
+                JavaStringType.wrap(
+                        StringType.noFormat().withConstraints(Constraints.ofSize(Size.ofMin(5))),
+                        TypeMappings.empty())
+                    .withNullability(NOT_NULLABLE));
+
+    final Writer writer = generator.generate(stringType, SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("optionalNullableStringWithoutCondition")
+  void generate_when_optionalNullableStringWithoutCondition_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final JavaPojoMember stringType =
+        optionalString().withJavaType(JavaStringType.noFormat().withNullability(NULLABLE));
+
+    final Writer writer = generator.generate(stringType, SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("integerWithMinAndMax")
+  void generate_when_integerWithMinAndMax_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final Writer writer = generator.generate(requiredInteger(), SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("listWithStringItemsWithConstraints")
+  void generate_when_listWithStringItemsWithConstraints_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final JavaPojoMember listType =
+        list(
+            StringType.noFormat().withConstraints(Constraints.ofSize(Size.of(10, 50))),
+            REQUIRED,
+            NOT_NULLABLE,
+            Constraints.empty());
+
+    final Writer writer = generator.generate(listType, SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("mapWithPropertyCount")
+  void generate_when_mapWithPropertyCount_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final JavaPojoMember mapType =
+        map(
+            StringType.noFormat(),
+            StringType.noFormat(),
+            REQUIRED,
+            NOT_NULLABLE,
+            Constraints.ofPropertiesCount(PropertyCount.ofMinAndMaxProperties(5, 10)));
+
+    final Writer writer = generator.generate(mapType, SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+
+  @Test
+  @SnapshotName("openapiObjectType")
+  void generate_when_openapiObjectType_then_matchSnapshot() {
+    final Generator<JavaPojoMember, PojoSettings> generator = memberViolationsGenerator();
+
+    final JavaPojoMember objectMember =
+        TestJavaPojoMembers.object(
+            StandardObjectType.ofName(PojoName.ofNameAndSuffix("OpenapiObject", "Dto")));
+
+    final Writer writer = generator.generate(objectMember, SETTINGS, javaWriter());
+
+    expect.toMatchSnapshot(writerSnapshot(writer));
+  }
+}
@@ -0,0 +1,42 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ValidationConstantNameTest {
+
+  @Test
+  void pattern_when_called_then_constantNameDerivedFromPattern() {
+    final ValidationConstantName constantName = ValidationConstantName.pattern("Hello");
+
+    assertEquals("PATTERN_185F8DB32271FE25", constantName.asString());
+  }
+
+  @Test
+  void pattern_when_samePattern_then_sameConstantName() {
+    assertEquals(
+        ValidationConstantName.pattern("^(\\\\d[A-Z]*)"),
+        ValidationConstantName.pattern("^(\\\\d[A-Z]*)"));
+  }
+
+  @Test
+  void pattern_when_differentPatterns_then_differentConstantNames() {
+    assertNotEquals(
+        ValidationConstantName.pattern("Hello"), ValidationConstantName.pattern("hello"));
+  }
+
+  @Test
+  void decimal_when_called_then_constantNameDerivedFromValue() {
+    final ValidationConstantName constantName = ValidationConstantName.decimal("50.1");
+
+    assertEquals("DECIMAL_AA9A739225D2136C", constantName.asString());
+  }
+
+  @Test
+  void decimal_when_differentValues_then_differentConstantNames() {
+    assertNotEquals(
+        ValidationConstantName.decimal("50.1"), ValidationConstantName.decimal("50.10"));
+  }
+}
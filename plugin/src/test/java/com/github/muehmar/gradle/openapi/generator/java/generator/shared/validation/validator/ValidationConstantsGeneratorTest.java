@@ -0,0 +1,91 @@
+package com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator;
+
+import static com.github.muehmar.gradle.openapi.generator.java.generator.shared.validation.validator.ValidationConstantsGenerator.objectPojoValidationConstantsGenerator;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.requiredDouble;
+import static com.github.muehmar.gradle.openapi.generator.java.model.member.TestJavaPojoMembers.requiredString;
+import static com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaPojos.sampleObjectPojo1;
+import static com.github.muehmar.gradle.openapi.generator.settings.TestPojoSettings.defaultTestSettings;
+import static io.github.muehmar.codegenerator.writer.Writer.javaWriter;
+
+import au.com.origin.snapshots.Expect;
+import au.com.origin.snapshots.annotations.SnapshotName;
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.java.model.member.JavaPojoMembers;
+import com.github.muehmar.gradle.openapi.generator.java.model.name.JavaName;
+import com.github.muehmar.gradle.openapi.generator.java.model.pojo.JavaObjectPojo;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaNumericType;
+import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaStringType;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.Constraints;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.DecimalMax;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.DecimalMin;
+import com.github.muehmar.gradle.openapi.generator.model.constraints.Pattern;
+import com.github.muehmar.gradle.openapi.generator.model.type.NumericType;
+import com.github.muehmar.gradle.openapi.generator.model.type.StringType;
+import com.github.muehmar.gradle.openapi.generator.settings.PojoSettings;
+import com.github.muehmar.gradle.openapi.generator.settings.TypeMappings;
+import com.github.muehmar.gradle.openapi.snapshot.SnapshotTest;
+import io.github.muehmar.codegenerator.Generator;
+import io.github.muehmar.codegenerator.writer.Writer;
+import org.junit.jupiter.api.Test;
+
+@SnapshotTest
+class ValidationConstantsGeneratorTest {
+  private Expect expect;
+
+  @Test
+  @SnapshotName("sharedPatternsAndCollidingNames")
+  void generate_when_sharedPatternsAndCollidingNames_then_onePatternConstantPerDistinctPattern() {
+    final Generator<JavaObjectPojo, PojoSettings> generator =
+        objectPojoValidationConstantsGenerator();
+
+    final JavaObjectPojo pojo =
+        sampleObjectPojo1()
+            .withMembers(
+                JavaPojoMembers.fromMembers(
+                    PList.of(
+                        requiredString().withName(JavaName.fromString("fooBar")),
+                        requiredString().withName(JavaName.fromString("foo_bar")),
+                        requiredString()
+                            .withName(JavaName.fromString("otherVal"))
+                            .withJavaType(
+                                JavaStringType.wrap(
+                                    StringType.noFormat()
+                                        .withConstraints(
+                                            Constraints.ofPattern(
+                                                Pattern.ofUnescapedString("[a-z]+"))),
+                                    TypeMappings.empty())))));
+
+    final Writer writer = generator.generate(pojo, defaultTestSettings(), javaWriter());
+
+    expect.toMatchSnapshot(writer.asString());
+  }
+
+  @Test
+  @SnapshotName("sharedDecimalBoundsAndCollidingNames")
+  void generate_when_sharedDecimalBoundsAndCollidingNames_then_oneConstantPerDistinctBound() {
+    final Generator<JavaObjectPojo, PojoSettings> generator =
+        objectPojoValidationConstantsGenerator();
+
+    final JavaObjectPojo pojo =
+        sampleObjectPojo1()
+            .withMembers(
+                JavaPojoMembers.fromMembers(
+                    PList.of(
+                        requiredDouble().withName(JavaName.fromString("fooBar")),
+                        requiredDouble().withName(JavaName.fromString("foo_bar")),
+                        requiredDouble()
+                            .withName(JavaName.fromString("otherVal"))
+                            .withJavaType(
+                                JavaNumericType.wrap(
+                                    NumericType.formatDouble()
+                                        .withConstraints(
+                                            Constraints.ofDecimalMinAndMax(
+                                                new DecimalMin("50.1", false),
+                                                new DecimalMax("100.1", false))),
+                                    TypeMappings.empty())))));
+
+    final Writer writer = generator.generate(pojo, defaultTestSettings(), javaWriter());
+
+    expect.toMatchSnapshot(writer.asString());
+  }
+}
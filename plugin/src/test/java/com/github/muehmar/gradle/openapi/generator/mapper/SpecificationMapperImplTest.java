@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import ch.bluecare.commons.data.NonEmptyList;
 import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.mapper.reader.SpecificationParser;
 import com.github.muehmar.gradle.openapi.generator.mapper.resolver.MapResultResolverImpl;
 import com.github.muehmar.gradle.openapi.generator.model.Parameter;
 import com.github.muehmar.gradle.openapi.generator.model.ParameterSchema;
@@ -183,6 +184,49 @@ class SpecificationMapperImplTest {
         pojos.map(Pojo::getName).map(ComponentName::getPojoName).map(PojoName::asString));
   }
 
+  @Test
+  void map_when_multipleRemoteReferencesParsedInParallel_then_sameResultAsSequential() {
+    final Schema<?> userSchema =
+        new ObjectSchema()
+            .addProperty("city", new Schema<>().$ref("city.yml#/components/schemas/City"))
+            .addProperty(
+                "language", new Schema<>().$ref("language.yml#/components/schemas/Language"));
+    final Schema<?> citySchema = new ObjectSchema().addProperty("name", new StringSchema());
+    final Schema<?> languageSchema = new ObjectSchema().addProperty("key", new StringSchema());
+
+    final SpecificationParser specificationParser =
+        (mainDir, spec) -> {
+          if (spec.equals(OpenApiSpec.fromString("city.yml"))) {
+            return ParsedSpecifications.fromPojoSchemas(
+                new PojoSchema(componentName("City", "Dto"), citySchema));
+          } else if (spec.equals(OpenApiSpec.fromString("language.yml"))) {
+            return ParsedSpecifications.fromPojoSchemas(
+                new PojoSchema(componentName("Language", "Dto"), languageSchema));
+          } else {
+            return ParsedSpecifications.fromPojoSchemas(
+                new PojoSchema(componentName("User", "Dto"), userSchema));
+          }
+        };
+
+    // method call
+    final MapResult sequentialResult =
+        SpecificationMapperImpl.create(new MapResultResolverImpl(), specificationParser, 1)
+            .map(MainDirectory.fromString(""), OpenApiSpec.fromString("main.yml"));
+    final MapResult parallelResult =
+        SpecificationMapperImpl.create(new MapResultResolverImpl(), specificationParser, 4)
+            .map(MainDirectory.fromString(""), OpenApiSpec.fromString("main.yml"));
+
+    assertEquals(sequentialResult, parallelResult);
+    assertEquals(
+        PList.of("CityDto", "LanguageDto", "UserDto"),
+        parallelResult
+            .getPojos()
+            .map(Pojo::getName)
+            .map(ComponentName::getPojoName)
+            .map(PojoName::asString)
+            .sort(Comparator.naturalOrder()));
+  }
+
   @Test
   void map_when_calledWithRealOpenApiSchemas_then_allPojosCorrectMapped() {
     final PList<Pojo> pojos =
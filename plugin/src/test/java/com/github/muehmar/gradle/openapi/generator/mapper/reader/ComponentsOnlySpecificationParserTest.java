@@ -0,0 +1,68 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.muehmar.gradle.openapi.generator.model.ParsedSpecification;
+import com.github.muehmar.gradle.openapi.generator.model.specification.MainDirectory;
+import com.github.muehmar.gradle.openapi.generator.model.specification.OpenApiSpec;
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ComponentsOnlySpecificationParserTest {
+  private final ComponentsOnlySpecificationParser parser =
+      new ComponentsOnlySpecificationParser(
+          new ResourceSpecificationReader(), "Dto", ParsedSpecificationCache.noCache());
+  private final SwaggerSpecificationParser swaggerParser =
+      new SwaggerSpecificationParser(new ResourceSpecificationReader(), "Dto");
+
+  @ParameterizedTest
+  @CsvSource({
+    "/integration/completespec, openapi.yml",
+    "/specifications/parameters, parameters.yml",
+    "/specifications/remote-ref, main.yml",
+    "/specifications/remote-ref, sub.yml"
+  })
+  void parse_when_specification_then_sameResultAsSwaggerParser(String directory, String spec) {
+    final MainDirectory mainDirectory = MainDirectory.fromString(directory);
+    final OpenApiSpec inputSpec = OpenApiSpec.fromString(spec);
+
+    final ParsedSpecification parsedSpecification = parser.parse(mainDirectory, inputSpec);
+
+    assertEquals(swaggerParser.parse(mainDirectory, inputSpec), parsedSpecification);
+  }
+
+  @Test
+  void parse_when_jsonSpecification_then_sameResultAsSwaggerParser() {
+    final SpecificationReader reader =
+        (mainDirectory, specification) ->
+            "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"API\",\"version\":\"1\"},"
+                + "\"paths\":{\"/users\":{\"get\":{\"responses\":{\"200\":{\"description\":\"OK\"}}}}},"
+                + "\"components\":{\"schemas\":{\"User\":{\"type\":\"object\","
+                + "\"properties\":{\"name\":{\"type\":\"string\"}}}}}}";
+    final MainDirectory mainDirectory = MainDirectory.fromString("");
+    final OpenApiSpec inputSpec = OpenApiSpec.fromString("openapi.json");
+
+    final ParsedSpecification parsedSpecification =
+        new ComponentsOnlySpecificationParser(reader, "Dto", ParsedSpecificationCache.noCache())
+            .parse(mainDirectory, inputSpec);
+
+    assertEquals(1, parsedSpecification.getPojoSchemas().size());
+    assertEquals(
+        new SwaggerSpecificationParser(reader, "Dto").parse(mainDirectory, inputSpec),
+        parsedSpecification);
+  }
+
+  @Test
+  void parse_when_noObjectAsRoot_then_throws() {
+    final SpecificationReader reader = (mainDirectory, specification) -> "- openapi";
+    final ComponentsOnlySpecificationParser componentsOnlyParser =
+        new ComponentsOnlySpecificationParser(reader, "Dto", ParsedSpecificationCache.noCache());
+    final MainDirectory mainDirectory = MainDirectory.fromString("");
+    final OpenApiSpec inputSpec = OpenApiSpec.fromString("openapi.yml");
+
+    assertThrows(GradleException.class, () -> componentsOnlyParser.parse(mainDirectory, inputSpec));
+  }
+}
@@ -0,0 +1,53 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.muehmar.gradle.openapi.generator.model.specification.MainDirectory;
+import com.github.muehmar.gradle.openapi.generator.model.specification.OpenApiSpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSpecificationReaderTest {
+  private final FileSpecificationReader reader = new FileSpecificationReader();
+
+  @Test
+  void read_when_called_then_completeContentReadAsUtf8(@TempDir Path mainDir) throws IOException {
+    final String content = "openapi: 3.0.1\r\ninfo:\r\n  title: äöü\r\n";
+    Files.write(mainDir.resolve("openapi.yml"), content.getBytes(StandardCharsets.UTF_8));
+
+    final String spec =
+        reader.read(MainDirectory.fromPath(mainDir), OpenApiSpec.fromString("openapi.yml"));
+
+    assertEquals(content, spec);
+  }
+
+  @Test
+  void read_when_largeFile_then_completeContentReadAsUtf8(@TempDir Path mainDir)
+      throws IOException {
+    final StringBuilder contentBuilder = new StringBuilder("openapi: 3.0.1\n");
+    while (contentBuilder.length() < 2 * 1024 * 1024) {
+      contentBuilder.append("# äöü comment line\n");
+    }
+    final String content = contentBuilder.toString();
+    Files.write(mainDir.resolve("openapi.yml"), content.getBytes(StandardCharsets.UTF_8));
+
+    final String spec =
+        reader.read(MainDirectory.fromPath(mainDir), OpenApiSpec.fromString("openapi.yml"));
+
+    assertEquals(content, spec);
+  }
+
+  @Test
+  void read_when_fileNotExisting_then_throws(@TempDir Path mainDir) {
+    final MainDirectory mainDirectory = MainDirectory.fromPath(mainDir);
+    final OpenApiSpec spec = OpenApiSpec.fromString("openapi.yml");
+
+    assertThrows(GradleException.class, () -> reader.read(mainDirectory, spec));
+  }
+}
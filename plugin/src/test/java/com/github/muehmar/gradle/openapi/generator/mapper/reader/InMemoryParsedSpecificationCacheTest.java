@@ -0,0 +1,58 @@
+package com.github.muehmar.gradle.openapi.generator.mapper.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.model.ParsedSpecification;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class InMemoryParsedSpecificationCacheTest {
+
+  @Test
+  void getOrParse_when_sameSpecificationAndSuffix_then_parsedOnlyOnce() {
+    final ParsedSpecificationCache cache = ParsedSpecificationCache.inMemory();
+    final AtomicInteger parseCount = new AtomicInteger();
+    final Supplier<ParsedSpecification> parse = countingParse(parseCount);
+
+    final ParsedSpecification first = cache.getOrParse("openapi: 3.0.0", "Dto", parse);
+    final ParsedSpecification second = cache.getOrParse("openapi: 3.0.0", "Dto", parse);
+
+    assertSame(first, second);
+    assertEquals(1, parseCount.get());
+  }
+
+  @Test
+  void getOrParse_when_differentSpecificationOrSuffix_then_parsedAgain() {
+    final ParsedSpecificationCache cache = ParsedSpecificationCache.inMemory();
+    final AtomicInteger parseCount = new AtomicInteger();
+    final Supplier<ParsedSpecification> parse = countingParse(parseCount);
+
+    cache.getOrParse("openapi: 3.0.0", "Dto", parse);
+    cache.getOrParse("openapi: 3.0.1", "Dto", parse);
+    cache.getOrParse("openapi: 3.0.0", "", parse);
+
+    assertEquals(3, parseCount.get());
+  }
+
+  @Test
+  void getOrParse_when_noCache_then_alwaysParsed() {
+    final ParsedSpecificationCache cache = ParsedSpecificationCache.noCache();
+    final AtomicInteger parseCount = new AtomicInteger();
+    final Supplier<ParsedSpecification> parse = countingParse(parseCount);
+
+    cache.getOrParse("openapi: 3.0.0", "Dto", parse);
+    cache.getOrParse("openapi: 3.0.0", "Dto", parse);
+
+    assertEquals(2, parseCount.get());
+  }
+
+  private static Supplier<ParsedSpecification> countingParse(AtomicInteger parseCount) {
+    return () -> {
+      parseCount.incrementAndGet();
+      return new ParsedSpecification(PList.empty(), PList.empty());
+    };
+  }
+}
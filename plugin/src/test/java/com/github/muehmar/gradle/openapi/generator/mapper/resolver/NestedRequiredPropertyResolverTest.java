@@ -371,6 +371,39 @@ class NestedRequiredPropertyResolverTest {
         resolvedPojos.toHashSet());
   }
 
+  @Test
+  void resolve_when_requiredPropertiesPojoReferencesItself_then_correctResolved() {
+    final ObjectPojo userDto =
+        Pojos.objectPojo(PList.of(FIRST_NAME, MIDDLE_NAME, LAST_NAME))
+            .withName(componentName("User", "Dto"));
+    final ObjectPojo requiredUserPropsDto =
+        Pojos.objectPojo(
+                PList.of(
+                    PojoMembers.ofType(
+                            StandardObjectType.ofName(
+                                componentName("RequiredUserProps", "Dto").getPojoName()))
+                        .withName(Name.ofString("parent"))))
+            .withRequiredAdditionalProperties(PList.of(FIRST_NAME.getName()))
+            .withName(componentName("RequiredUserProps", "Dto"));
+    final ObjectPojo updateUserDto =
+        Pojos.allOfPojo(userDto, requiredUserPropsDto).withName(componentName("UpdateUser", "Dto"));
+
+    final PList<Pojo> resolvedPojos =
+        NestedRequiredPropertyResolver.resolve(
+            PList.of(userDto, requiredUserPropsDto, updateUserDto));
+
+    assertEquals(
+        PList.of("UpdateUserUserDto", "RequiredUserPropsDto", "UpdateUserDto", "UserDto")
+            .toHashSet(),
+        resolvedPojos.map(p -> p.getName().getPojoName().asString()).toHashSet());
+
+    final ObjectPojo resolvedUserDto =
+        userDto
+            .withMembers(PList.of(FIRST_NAME.withNecessity(REQUIRED), MIDDLE_NAME, LAST_NAME))
+            .withName(componentName("UpdateUserUser", "Dto", "User"));
+    assertEquals(resolvedUserDto, findObjectPojo(resolvedPojos, "UpdateUserUser"));
+  }
+
   private static ObjectPojo findObjectPojo(PList<Pojo> pojos, String pojoName) {
     final Optional<ObjectPojo> objectPojo =
         pojos
@@ -0,0 +1,78 @@
+package com.github.muehmar.gradle.openapi.generator.model;
+
+import static com.github.muehmar.gradle.openapi.generator.model.name.PojoNames.pojoName;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.generator.model.name.PojoName;
+import com.github.muehmar.gradle.openapi.generator.model.type.EnumObjectType;
+import com.github.muehmar.gradle.openapi.generator.model.type.IntegerType;
+import com.github.muehmar.gradle.openapi.generator.model.type.StandardObjectType;
+import com.github.muehmar.gradle.openapi.generator.model.type.StringType;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ObjectTypeReplacementsTest {
+  private static final PojoName USER_NAME = pojoName("User", "Dto");
+  private static final PojoName ROLE_NAME = pojoName("Role", "Dto");
+
+  @Test
+  void findReplacement_when_noObjectTypeWithMatchingName_then_empty() {
+    final ObjectTypeReplacements replacements =
+        ObjectTypeReplacements.single(USER_NAME, "User", StringType.noFormat());
+
+    assertEquals(Optional.empty(), replacements.findReplacement(IntegerType.formatInteger()));
+    assertEquals(
+        Optional.empty(), replacements.findReplacement(StandardObjectType.ofName(ROLE_NAME)));
+  }
+
+  @Test
+  void findReplacement_when_objectTypeWithMatchingName_then_replacementReturned() {
+    final PojoMemberReference reference =
+        new PojoMemberReference(USER_NAME, "User", StringType.noFormat());
+    final ObjectTypeReplacements replacements =
+        ObjectTypeReplacements.fromMemberReferences(PList.single(reference));
+
+    assertEquals(
+        Optional.of(reference), replacements.findReplacement(StandardObjectType.ofName(USER_NAME)));
+  }
+
+  @Test
+  void findReplacement_when_replacedWithObjectTypeOfSubsequentReplacement_then_replacedAgain() {
+    final PojoMemberReference userReference =
+        new PojoMemberReference(USER_NAME, "User", StandardObjectType.ofName(ROLE_NAME));
+    final PojoMemberReference roleReference =
+        new PojoMemberReference(ROLE_NAME, "Role", StringType.noFormat());
+    final ObjectTypeReplacements replacements =
+        ObjectTypeReplacements.fromMemberReferences(PList.of(userReference, roleReference));
+
+    assertEquals(
+        Optional.of(roleReference),
+        replacements.findReplacement(StandardObjectType.ofName(USER_NAME)));
+  }
+
+  @Test
+  void findReplacement_when_replacedWithObjectTypeOfPreviousReplacement_then_notReplacedAgain() {
+    final PojoMemberReference roleReference =
+        new PojoMemberReference(ROLE_NAME, "Role", StringType.noFormat());
+    final PojoMemberReference userReference =
+        new PojoMemberReference(USER_NAME, "User", StandardObjectType.ofName(ROLE_NAME));
+    final ObjectTypeReplacements replacements =
+        ObjectTypeReplacements.fromMemberReferences(PList.of(roleReference, userReference));
+
+    assertEquals(
+        Optional.of(userReference),
+        replacements.findReplacement(StandardObjectType.ofName(USER_NAME)));
+  }
+
+  @Test
+  void findReplacement_when_replacedWithObjectTypeOfSameName_then_noEndlessLoop() {
+    final EnumObjectType enumObjectType = new EnumObjectType(USER_NAME, PList.of("A", "B"));
+    final PojoMemberReference reference = new PojoMemberReference(USER_NAME, "", enumObjectType);
+    final ObjectTypeReplacements replacements =
+        ObjectTypeReplacements.fromMemberReferences(PList.single(reference));
+
+    assertEquals(
+        Optional.of(reference), replacements.findReplacement(StandardObjectType.ofName(USER_NAME)));
+  }
+}
@@ -27,12 +27,17 @@ public class TestPojoSettings {
         .validationMethods(defaultValidationMethods())
         .excludeSchemas(Collections.emptyList())
         .pojoNameMappings(PojoNameMappings.noMappings())
+        .compositionConversion(CompositionConversion.COPY)
+        .cacheHashCode(false)
+        .generateValidateMethod(false)
+        .cacheAdditionalProperties(false)
+        .compactAdditionalProperties(false)
         .taskIdentifier(TaskIdentifier.fromString(UUID.randomUUID().toString()))
         .build();
   }
 
   public static StagedBuilderSettings defaultStagedBuilderSettings() {
-    return fullStagedBuilderSettingsBuilder().enabled(true).build();
+    return fullStagedBuilderSettingsBuilder().enabled(true).singleInstance(false).build();
   }
 
   public static PList<PojoSettings> validationVariants() {
@@ -0,0 +1,141 @@
+package com.github.muehmar.gradle.openapi.manifest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.bluecare.commons.data.PList;
+import com.github.muehmar.gradle.openapi.warnings.Warning;
+import com.github.muehmar.gradle.openapi.warnings.WarningType;
+import com.github.muehmar.gradle.openapi.writer.GeneratedFile;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GenerationManifestTest {
+  private static final GeneratedFile USER_FILE =
+      new GeneratedFile(Paths.get("com/github/muehmar/UserDto.java"), "class UserDto {}");
+  private static final GeneratedFile ROLE_FILE =
+      new GeneratedFile(Paths.get("com/github/muehmar/RoleDto.java"), "class RoleDto {}");
+
+  @Test
+  void read_when_writtenBefore_then_sameManifestRead(@TempDir Path outputDir) {
+    final Warning warning =
+        new Warning(WarningType.UNSUPPORTED_VALIDATION, "Message\twith\\special\ncharacters");
+    final GenerationManifest manifest =
+        GenerationManifest.fromEntries(
+            PList.of(
+                ManifestEntry.fromGeneratedFiles(
+                    "pojo:UserDto",
+                    Fingerprint.ofContent("user"),
+                    PList.single(USER_FILE),
+                    PList.single(warning)),
+                ManifestEntry.fromGeneratedFiles(
+                    "pojo:RoleDto",
+                    Fingerprint.ofContent("role"),
+                    PList.single(ROLE_FILE),
+                    PList.empty())));
+    final Path manifestFile = outputDir.resolve("manifest");
+
+    manifest.write(manifestFile);
+
+    assertEquals(manifest, GenerationManifest.read(manifestFile));
+  }
+
+  @Test
+  void read_when_noManifestFile_then_emptyManifest(@TempDir Path outputDir) {
+    assertEquals(GenerationManifest.empty(), GenerationManifest.read(outputDir.resolve("none")));
+  }
+
+  @Test
+  void read_when_invalidManifestFile_then_emptyManifest(@TempDir Path outputDir)
+      throws IOException {
+    final Path manifestFile = outputDir.resolve("manifest");
+    Files.write(manifestFile, "invalid content".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(GenerationManifest.empty(), GenerationManifest.read(manifestFile));
+  }
+
+  @Test
+  void findUpToDateEntry_when_sameFingerprintAndUnmodifiedFile_then_entryReturned(
+      @TempDir Path outputDir) throws IOException {
+    final ManifestEntry entry = writeAndCreateEntry(outputDir, USER_FILE);
+    final GenerationManifest manifest = GenerationManifest.fromEntries(PList.single(entry));
+
+    assertEquals(
+        Optional.of(entry),
+        manifest.findUpToDateEntry("pojo:UserDto", Fingerprint.ofContent("user"), outputDir));
+  }
+
+  @Test
+  void findUpToDateEntry_when_fingerprintChanged_then_noEntryReturned(@TempDir Path outputDir)
+      throws IOException {
+    final ManifestEntry entry = writeAndCreateEntry(outputDir, USER_FILE);
+    final GenerationManifest manifest = GenerationManifest.fromEntries(PList.single(entry));
+
+    assertFalse(
+        manifest
+            .findUpToDateEntry("pojo:UserDto", Fingerprint.ofContent("changed"), outputDir)
+            .isPresent());
+  }
+
+  @Test
+  void findUpToDateEntry_when_fileModified_then_noEntryReturned(@TempDir Path outputDir)
+      throws IOException {
+    final ManifestEntry entry = writeAndCreateEntry(outputDir, USER_FILE);
+    final GenerationManifest manifest = GenerationManifest.fromEntries(PList.single(entry));
+    Files.write(
+        outputDir.resolve(USER_FILE.getFile()), "modified".getBytes(StandardCharsets.UTF_8));
+
+    assertFalse(
+        manifest
+            .findUpToDateEntry("pojo:UserDto", Fingerprint.ofContent("user"), outputDir)
+            .isPresent());
+  }
+
+  @Test
+  void findUpToDateEntry_when_fileDeleted_then_noEntryReturned(@TempDir Path outputDir)
+      throws IOException {
+    final ManifestEntry entry = writeAndCreateEntry(outputDir, USER_FILE);
+    final GenerationManifest manifest = GenerationManifest.fromEntries(PList.single(entry));
+    Files.delete(outputDir.resolve(USER_FILE.getFile()));
+
+    assertFalse(
+        manifest
+            .findUpToDateEntry("pojo:UserDto", Fingerprint.ofContent("user"), outputDir)
+            .isPresent());
+  }
+
+  @Test
+  void getStaleFiles_when_entryRemoved_then_filesOfRemovedEntryReturned() {
+    final ManifestEntry userEntry =
+        ManifestEntry.fromGeneratedFiles(
+            "pojo:UserDto", Fingerprint.ofContent("user"), PList.single(USER_FILE), PList.empty());
+    final ManifestEntry roleEntry =
+        ManifestEntry.fromGeneratedFiles(
+            "pojo:RoleDto", Fingerprint.ofContent("role"), PList.single(ROLE_FILE), PList.empty());
+    final GenerationManifest previousManifest =
+        GenerationManifest.fromEntries(PList.of(userEntry, roleEntry));
+    final GenerationManifest currentManifest =
+        GenerationManifest.fromEntries(PList.single(userEntry));
+
+    final PList<Path> staleFiles = previousManifest.getStaleFiles(currentManifest);
+
+    assertEquals(PList.single(ROLE_FILE.getFile()), staleFiles);
+    assertTrue(currentManifest.getStaleFiles(previousManifest).isEmpty());
+  }
+
+  private static ManifestEntry writeAndCreateEntry(Path outputDir, GeneratedFile file)
+      throws IOException {
+    final Path completePath = outputDir.resolve(file.getFile());
+    Files.createDirectories(completePath.getParent());
+    Files.write(completePath, file.getContent().getBytes(StandardCharsets.UTF_8));
+    return ManifestEntry.fromGeneratedFiles(
+        "pojo:UserDto", Fingerprint.ofContent("user"), PList.single(file), PList.empty());
+  }
+}
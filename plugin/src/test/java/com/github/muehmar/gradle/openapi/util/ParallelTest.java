@@ -0,0 +1,43 @@
+package com.github.muehmar.gradle.openapi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import ch.bluecare.commons.data.PList;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 8})
+  void map_when_calledWithParallelism_then_orderOfElementsPreserved(int parallelism) {
+    final PList<Integer> elements = PList.range(0, 500);
+
+    final PList<Integer> result = Parallel.map(elements, parallelism, i -> i * 2);
+
+    assertEquals(elements.map(i -> i * 2), result);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void map_when_functionThrowsException_then_exceptionRethrown(int parallelism) {
+    final PList<Integer> elements = PList.range(0, 10);
+
+    final IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                Parallel.map(
+                    elements,
+                    parallelism,
+                    i -> {
+                      if (i == 5) {
+                        throw new IllegalArgumentException("Invalid element " + i);
+                      }
+                      return i;
+                    }));
+
+    assertEquals("Invalid element 5", exception.getMessage());
+  }
+}
@@ -7,6 +7,7 @@ import com.github.muehmar.gradle.openapi.generator.java.model.name.PropertyInfoN
 import com.github.muehmar.gradle.openapi.generator.java.model.type.JavaTypes;
 import com.github.muehmar.gradle.openapi.generator.java.model.validation.ConstraintType;
 import com.github.muehmar.gradle.openapi.task.TaskIdentifier;
+import com.github.muehmar.gradle.openapi.util.Parallel;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +40,24 @@ class WarningsContextTest {
         PList.of(warning3).toHashSet(),
         WarningsContext.getWarnings(taskIdentifier2).getWarnings().toHashSet());
   }
+
+  @Test
+  void getWarnings_when_addedConcurrently_then_noWarningLost() {
+    final TaskIdentifier taskIdentifier = TaskIdentifier.fromString(UUID.randomUUID().toString());
+    final PList<Warning> warnings =
+        PList.range(0, 200)
+            .map(i -> new Warning(WarningType.UNSUPPORTED_VALIDATION, "Warning " + i));
+
+    Parallel.map(
+        warnings,
+        8,
+        warning -> {
+          WarningsContext.addWarningForTask(taskIdentifier, warning);
+          return warning;
+        });
+
+    assertEquals(
+        warnings.toHashSet(),
+        WarningsContext.getWarnings(taskIdentifier).getWarnings().toHashSet());
+  }
 }
@@ -0,0 +1,69 @@
+package com.github.muehmar.gradle.openapi.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BaseDirFileWriterTest {
+  private static final Path USER_FILE = Paths.get("com/github/muehmar/UserDto.java");
+  private static final FileTime OLD_TIME = FileTime.fromMillis(1_000_000L);
+
+  @Test
+  void writeFile_when_fileNotExisting_then_fileAndDirectoriesCreated(@TempDir Path outputDir)
+      throws IOException {
+    final BaseDirFileWriter writer = new BaseDirFileWriter(outputDir.toString());
+
+    writer.writeFile(new GeneratedFile(USER_FILE, "class UserDto {} // äöü"));
+
+    assertEquals(
+        "class UserDto {} // äöü",
+        new String(Files.readAllBytes(outputDir.resolve(USER_FILE)), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void writeFile_when_sameContent_then_fileNotWrittenAgain(@TempDir Path outputDir)
+      throws IOException {
+    final BaseDirFileWriter writer = new BaseDirFileWriter(outputDir.toString());
+    writer.writeFile(new GeneratedFile(USER_FILE, "class UserDto {}"));
+    Files.setLastModifiedTime(outputDir.resolve(USER_FILE), OLD_TIME);
+
+    writer.writeFile(new GeneratedFile(USER_FILE, "class UserDto {}"));
+
+    assertEquals(OLD_TIME, Files.getLastModifiedTime(outputDir.resolve(USER_FILE)));
+  }
+
+  @Test
+  void writeFile_when_changedContent_then_fileOverwritten(@TempDir Path outputDir)
+      throws IOException {
+    final BaseDirFileWriter writer = new BaseDirFileWriter(outputDir.toString());
+    writer.writeFile(new GeneratedFile(USER_FILE, "class UserDto { String name; }"));
+    Files.setLastModifiedTime(outputDir.resolve(USER_FILE), OLD_TIME);
+
+    writer.writeFile(new GeneratedFile(USER_FILE, "class UserDto {}"));
+
+    assertEquals(
+        "class UserDto {}",
+        new String(Files.readAllBytes(outputDir.resolve(USER_FILE)), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void writeFile_when_fileDeletedAfterFirstWrite_then_writtenAgain(@TempDir Path outputDir)
+      throws IOException {
+    final BaseDirFileWriter writer = new BaseDirFileWriter(outputDir.toString());
+    writer.writeFile(new GeneratedFile(USER_FILE, "class UserDto {}"));
+    Files.delete(outputDir.resolve(USER_FILE));
+
+    writer.writeFile(new GeneratedFile(USER_FILE, "class UserDto {}"));
+
+    assertEquals(
+        "class UserDto {}",
+        new String(Files.readAllBytes(outputDir.resolve(USER_FILE)), StandardCharsets.UTF_8));
+  }
+}